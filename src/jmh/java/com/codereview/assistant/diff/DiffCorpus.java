@@ -0,0 +1,129 @@
+package com.codereview.assistant.diff;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 벤치마크용 합성 unified diff 말뭉치
+ *
+ * - MANY_FILES: 파일당 hunk 2개(~2KB)인 작은 파일이 많은 PR. 10개 중 1개는 lock/빌드 산출물/압축 파일
+ * - HUGE_HUNK: 파일 하나에 hunk 하나가 전체 크기를 차지하는 PR (생성 코드, 대량 리포맷 등)
+ *
+ * 같은 인자에는 항상 같은 텍스트를 만들어 실행 간 결과를 비교할 수 있습니다.
+ */
+public final class DiffCorpus {
+
+    public enum Shape {
+        MANY_FILES,
+        HUGE_HUNK
+    }
+
+    private static final String[] SKIPPED_PATHS = {
+        "package-lock.json", "yarn.lock", "dist/app.min.js", "build/generated/Api.java", "node_modules/lib/index.js"
+    };
+
+    private DiffCorpus() {
+    }
+
+    /**
+     * "10KB", "1MB", "50MB" 형식의 크기를 바이트로 변환합니다
+     */
+    public static int parseSize(String size) {
+        String upper = size.trim().toUpperCase(Locale.ROOT);
+        if (upper.endsWith("MB")) {
+            return Integer.parseInt(upper.substring(0, upper.length() - 2)) * 1024 * 1024;
+        }
+        if (upper.endsWith("KB")) {
+            return Integer.parseInt(upper.substring(0, upper.length() - 2)) * 1024;
+        }
+        return Integer.parseInt(upper);
+    }
+
+    /**
+     * 대략 targetBytes 크기(UTF-16 문자 수 기준)의 diff를 생성합니다
+     */
+    public static String generate(Shape shape, int targetBytes) {
+        StringBuilder diff = new StringBuilder(targetBytes + 4096);
+        if (shape == Shape.HUGE_HUNK) {
+            appendFile(diff, "src/main/java/com/example/generated/HugeMapper.java", targetBytes, 1);
+            return diff.toString();
+        }
+
+        int fileIndex = 0;
+        while (diff.length() < targetBytes) {
+            String path = fileIndex % 10 == 9
+                ? SKIPPED_PATHS[(fileIndex / 10) % SKIPPED_PATHS.length].replace("/", "/m" + fileIndex + "/")
+                : "src/main/java/com/example/module" + (fileIndex % 50) + "/Service" + fileIndex + ".java";
+            appendFile(diff, path, 2 * 1024, 2);
+            fileIndex++;
+        }
+        return diff.toString();
+    }
+
+    /**
+     * 변경된 파일 경로 목록 (파일 분류 벤치마크용)
+     */
+    public static List<String> paths(String diff) {
+        List<String> paths = new ArrayList<>();
+        int index = 0;
+        while ((index = diff.indexOf("\n+++ b/", index)) >= 0) {
+            int start = index + 7;
+            int end = diff.indexOf('\n', start);
+            paths.add(diff.substring(start, end));
+            index = end;
+        }
+        return paths;
+    }
+
+    private static void appendFile(StringBuilder diff, String path, int fileBytes, int hunks) {
+        diff.append("diff --git a/").append(path).append(" b/").append(path).append('\n')
+            .append("index 3f2a1b0..9c8d7e6 100644\n")
+            .append("--- a/").append(path).append('\n')
+            .append("+++ b/").append(path).append('\n');
+
+        int hunkBytes = fileBytes / hunks;
+        int oldLine = 1;
+        int newLine = 1;
+        for (int h = 0; h < hunks; h++) {
+            List<String> lines = new ArrayList<>();
+            int oldCount = 0;
+            int newCount = 0;
+            int bytes = 0;
+            for (int i = 0; bytes < hunkBytes; i++) {
+                String line = line(i, newLine + newCount);
+                lines.add(line);
+                bytes += line.length() + 1;
+                switch (line.charAt(0)) {
+                    case '+' -> newCount++;
+                    case '-' -> oldCount++;
+                    default -> {
+                        oldCount++;
+                        newCount++;
+                    }
+                }
+            }
+            diff.append("@@ -").append(oldLine).append(',').append(oldCount)
+                .append(" +").append(newLine).append(',').append(newCount).append(" @@ class Service {\n");
+            for (String line : lines) {
+                diff.append(line).append('\n');
+            }
+            oldLine += oldCount + 20;
+            newLine += newCount + 20;
+        }
+    }
+
+    /**
+     * 문맥 3줄, 삭제 1줄, 추가 2줄을 반복하는 Java 코드 줄
+     */
+    private static String line(int i, int lineNumber) {
+        return switch (i % 6) {
+            case 0 -> "     public Result handle" + lineNumber + "(Request request) {";
+            case 1 -> "         validate(request);";
+            case 2 -> "-        String sql = \"SELECT * FROM orders WHERE id = \" + request.id();";
+            case 3 -> "+        String sql = \"SELECT * FROM orders WHERE id = ?\";";
+            case 4 -> "+        return jdbc.queryForObject(sql, mapper, request.id()); // line " + lineNumber;
+            default -> "     }";
+        };
+    }
+}
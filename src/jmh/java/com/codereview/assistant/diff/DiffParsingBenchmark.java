@@ -0,0 +1,49 @@
+package com.codereview.assistant.diff;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * unified diff 파싱 (GitHub/Bitbucket 응답 본문 → DiffModel)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DiffParsingBenchmark {
+
+    @Param({"10KB", "1MB", "50MB"})
+    public String size;
+
+    @Param({"MANY_FILES", "HUGE_HUNK"})
+    public DiffCorpus.Shape shape;
+
+    private final UnifiedDiffParser parser = new UnifiedDiffParser();
+    private String diff;
+    private byte[] diffBytes;
+
+    @Setup
+    public void setUp() {
+        diff = DiffCorpus.generate(shape, DiffCorpus.parseSize(size));
+        diffBytes = diff.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public DiffModel parseString() {
+        return parser.parse(diff);
+    }
+
+    @Benchmark
+    public DiffModel parseStream() {
+        return parser.parse(new ByteArrayInputStream(diffBytes));
+    }
+}
@@ -0,0 +1,56 @@
+package com.codereview.assistant.diff;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리뷰 제외 파일 판정 - 1MB MANY_FILES 말뭉치의 모든 경로(~500개)를 한 번씩 분류
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SkipFileClassifierBenchmark {
+
+    private List<String> paths;
+    private SkipFileClassifier defaults;
+    private SkipFileClassifier withRules;
+
+    @Setup
+    public void setUp() {
+        paths = DiffCorpus.paths(DiffCorpus.generate(DiffCorpus.Shape.MANY_FILES, 1024 * 1024));
+        defaults = SkipFileClassifier.defaults();
+        // 저장소 커스텀 규칙(SKIP_PATTERN/REVIEW_PATTERN)이 있는 경우
+        withRules = SkipFileClassifier.defaults().toBuilder()
+            .skipGlobs(List.of("**/module1*/**", "**/*Dto.java", "docs/**"))
+            .reviewGlobs(List.of("build/generated/**/Api.java"))
+            .build();
+    }
+
+    @Benchmark
+    public int classifyDefaults() {
+        return classify(defaults);
+    }
+
+    @Benchmark
+    public int classifyWithCustomRules() {
+        return classify(withRules);
+    }
+
+    private int classify(SkipFileClassifier classifier) {
+        int skipped = 0;
+        for (String path : paths) {
+            if (classifier.shouldSkip(path)) {
+                skipped++;
+            }
+        }
+        return skipped;
+    }
+}
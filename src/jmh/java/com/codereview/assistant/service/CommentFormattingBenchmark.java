@@ -0,0 +1,45 @@
+package com.codereview.assistant.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GitHub 코멘트 본문 생성 (인라인 코멘트 / 위치가 붙는 리뷰 본문 섹션)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommentFormattingBenchmark {
+
+    private GitHubClientService.ReviewCommentRequest comment;
+
+    @Setup
+    public void setUp() {
+        comment = GitHubClientService.ReviewCommentRequest.builder()
+            .filePath("src/main/java/com/example/order/OrderRepository.java")
+            .lineNumber(42)
+            .severity("error")
+            .category("security")
+            .message("사용자 입력이 SQL 문자열에 직접 결합되어 SQL 인젝션에 취약합니다.")
+            .suggestion("PreparedStatement의 바인딩 파라미터를 사용하세요.")
+            .codeExample("jdbc.queryForObject(\"SELECT * FROM orders WHERE id = ?\", mapper, id);")
+            .build();
+    }
+
+    @Benchmark
+    public String formatCommentBody() {
+        return GitHubClientService.formatCommentBody(comment);
+    }
+
+    @Benchmark
+    public String formatCommentBodyWithLocation() {
+        return GitHubClientService.formatCommentBodyWithLocation(comment);
+    }
+}
@@ -0,0 +1,75 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.diff.DiffCorpus;
+import com.codereview.assistant.diff.DiffModel;
+import com.codereview.assistant.diff.SkipFileClassifier;
+import com.codereview.assistant.diff.UnifiedDiffParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 경로의 diff 가공 단계 - 토큰 예산 배분(구 truncateDiff), 청크 분할, 토큰 계산
+ *
+ * 예산과 청크 수는 application.yml 기본값(prompt-tokens 3000, max-chunks 8)과 같습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DiffProcessingBenchmark {
+
+    private static final String MODEL = "gpt-4o-mini";
+    private static final int WINDOW_TOKENS = 3000;
+    private static final int MAX_CHUNKS = 8;
+
+    @Param({"10KB", "1MB", "50MB"})
+    public String size;
+
+    @Param({"MANY_FILES", "HUGE_HUNK"})
+    public DiffCorpus.Shape shape;
+
+    private final TokenCounter tokenCounter = new TokenCounter(new SimpleMeterRegistry());
+    private final PromptBudgeter promptBudgeter = new PromptBudgeter(tokenCounter);
+    private final DiffChunker diffChunker = new DiffChunker();
+    private final SkipFileClassifier skipFileClassifier = SkipFileClassifier.defaults();
+
+    private String diff;
+    private DiffModel model;
+    private String budgetedDiff;
+
+    @Setup
+    public void setUp() {
+        diff = DiffCorpus.generate(shape, DiffCorpus.parseSize(size));
+        model = new UnifiedDiffParser().parse(diff);
+        budgetedDiff = allocate().getDiff();
+    }
+
+    @Benchmark
+    public PromptBudgeter.Allocation allocate() {
+        return promptBudgeter.allocate(model, skipFileClassifier, "", WINDOW_TOKENS, MAX_CHUNKS, MODEL);
+    }
+
+    @Benchmark
+    public List<String> chunkBudgetedDiffByTokens() {
+        return diffChunker.split(budgetedDiff, WINDOW_TOKENS, text -> tokenCounter.count(text, MODEL));
+    }
+
+    @Benchmark
+    public List<String> chunkRawDiffByChars() {
+        return diffChunker.split(diff, WINDOW_TOKENS * 4);
+    }
+
+    @Benchmark
+    public int countTokens() {
+        return tokenCounter.count(diff, MODEL);
+    }
+}
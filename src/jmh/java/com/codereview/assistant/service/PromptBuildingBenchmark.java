@@ -0,0 +1,43 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.diff.DiffCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 언어별 프롬프트 생성 (텍스트 블록 + formatted)
+ *
+ * 실제 요청에서는 예산 배분 후의 diff(~12KB)가 들어가며, 1MB는 예산을 크게 잡은 경우의 상한입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PromptBuildingBenchmark {
+
+    @Param({"10KB", "1MB"})
+    public String size;
+
+    @Param({"java", "python", "unknown"})
+    public String language;
+
+    private final LanguageSpecificPromptService promptService = new LanguageSpecificPromptService();
+    private String diff;
+
+    @Setup
+    public void setUp() {
+        diff = DiffCorpus.generate(DiffCorpus.Shape.MANY_FILES, DiffCorpus.parseSize(size));
+    }
+
+    @Benchmark
+    public String buildCodeReviewPrompt() {
+        return promptService.buildCodeReviewPrompt(diff, language);
+    }
+}
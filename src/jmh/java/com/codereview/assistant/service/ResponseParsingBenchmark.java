@@ -0,0 +1,74 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.dto.CodeReviewResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LLM 응답 파싱 - 완성된 응답 한 번에 파싱 vs 스트리밍 조각(16자) 증분 파싱
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseParsingBenchmark {
+
+    private static final int DELTA_CHARS = 16;
+
+    @Param({"3", "50", "500"})
+    public int comments;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private String response;
+    private List<String> deltas;
+
+    @Setup
+    public void setUp() {
+        ObjectNode root = objectMapper.createObjectNode().put("summary", "SQL 문자열 결합과 예외 처리 누락이 있습니다.");
+        ArrayNode array = root.putArray("comments");
+        for (int i = 0; i < comments; i++) {
+            array.addObject()
+                .put("filePath", "src/main/java/com/example/module" + (i % 50) + "/Service" + i + ".java")
+                .put("lineNumber", 10 + i)
+                .put("severity", i % 3 == 0 ? "error" : "warning")
+                .put("category", "security")
+                .put("message", "사용자 입력이 SQL 문자열에 직접 결합되어 SQL 인젝션에 취약합니다.")
+                .put("suggestion", "PreparedStatement의 바인딩 파라미터를 사용하세요.")
+                .put("codeExample", "jdbc.queryForObject(\"SELECT * FROM orders WHERE id = ?\", mapper, id);");
+        }
+        // 모델은 대부분 ```json 펜스로 감싸서 응답
+        response = "```json\n" + root.toPrettyString() + "\n```";
+
+        deltas = new ArrayList<>();
+        for (int offset = 0; offset < response.length(); offset += DELTA_CHARS) {
+            deltas.add(response.substring(offset, Math.min(response.length(), offset + DELTA_CHARS)));
+        }
+    }
+
+    @Benchmark
+    public CodeReviewResult parseCompleteResponse() throws IOException {
+        return CodeReviewService.parseCodeReviewResponse(objectMapper, response, 0);
+    }
+
+    @Benchmark
+    public List<CodeReviewResult.ReviewComment> parseStreamedResponse() throws IOException {
+        StreamingReviewParser parser = new StreamingReviewParser(objectMapper, comment -> { });
+        for (String delta : deltas) {
+            parser.feed(delta);
+        }
+        return parser.getComments();
+    }
+}
@@ -0,0 +1,284 @@
+package com.codereview.assistant.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 웹훅 재생 부하 드라이버
+ *
+ * 스텁 서버를 같은 프로세스에서 띄운 뒤, 지정한 속도(open-loop)로 GitHub/GitLab/Bitbucket 웹훅을
+ * 번갈아 보냅니다. 이벤트마다 새 PR 번호를 쓰고, 스텁에 리뷰가 게시된 시각과 웹훅 전송 시각의 차이를
+ * 종단 간 리뷰 지연으로 집계합니다. 끝나면 지연 백분위수, 처리량, 스텁 통계를 출력합니다.
+ *
+ * 실행: ./gradlew loadTest -PloadArgs="--rate=2 --duration-seconds=60 --llm-latency-ms=1500"
+ * (앱은 StubServer#describe가 출력하는 환경 변수로 먼저 기동해 둡니다)
+ */
+public class LoadDriver {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    private final String appUrl;
+    private final double rate;
+    private final int durationSeconds;
+    private final int drainSeconds;
+    private final List<String> platforms;
+    private final String webhookSecret;
+    private final int firstPrNumber;
+
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+    private final List<Long> reviewLatencies = Collections.synchronizedList(new ArrayList<>());
+    private final List<Long> webhookLatencies = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger accepted = new AtomicInteger();
+    private final AtomicInteger rejected = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private volatile long lastCompletionNanos;
+    private long elapsedNanos;
+
+    LoadDriver(Args args) {
+        this.appUrl = args.get("app-url", "http://localhost:8080");
+        this.rate = args.getDouble("rate", 1.0);
+        this.durationSeconds = args.getInt("duration-seconds", 60);
+        this.drainSeconds = args.getInt("drain-seconds", 300);
+        this.platforms = List.of(args.get("platforms", "github,gitlab,bitbucket").split(","));
+        this.webhookSecret = args.get("webhook-secret", "");
+        // 이전 실행의 PR과 겹치지 않도록 시각 기반 시작 번호
+        this.firstPrNumber = args.getInt("first-pr-number",
+            (int) (System.currentTimeMillis() / 1000 % 100_000) * 1_000);
+    }
+
+    public static void main(String[] rawArgs) throws Exception {
+        Args args = Args.parse(rawArgs);
+        StubServer stub = new StubServer(StubServer.Config.from(args));
+        stub.start();
+        System.out.println(stub.describe());
+
+        try {
+            LoadDriver driver = new LoadDriver(args);
+            stub.onReviewPosted(driver::onReviewPosted);
+            driver.awaitApplication();
+            driver.run();
+            driver.report(stub.stats());
+        } finally {
+            stub.stop();
+        }
+    }
+
+    /**
+     * 앱의 헬스 체크가 응답할 때까지 대기 (DOWN이어도 HTTP 응답만 오면 진행)
+     */
+    void awaitApplication() throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(appUrl + "/actuator/health"))
+            .timeout(Duration.ofSeconds(5))
+            .GET()
+            .build();
+        for (int attempt = 0; attempt < 60; attempt++) {
+            try {
+                httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (Exception e) {
+                Thread.sleep(1_000);
+            }
+        }
+        throw new IllegalStateException("Application did not respond at " + appUrl);
+    }
+
+    void run() throws InterruptedException {
+        int total = (int) Math.round(rate * durationSeconds);
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        System.out.printf("Sending %d webhooks at %.2f/s to %s (%s)%n", total, rate, appUrl, platforms);
+
+        for (int i = 0; i < total; i++) {
+            // open-loop: 응답을 기다리지 않고 예정 시각에 전송 (느려진 앱이 부하를 줄이지 못하게)
+            long scheduled = start + i * intervalNanos;
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            send(platforms.get(i % platforms.size()).trim(), firstPrNumber + i);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(drainSeconds);
+        while (!pending.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(200);
+        }
+        // 처리량 구간: 첫 전송부터 마지막 리뷰 게시까지
+        elapsedNanos = (lastCompletionNanos == 0 ? System.nanoTime() : lastCompletionNanos) - start;
+    }
+
+    private void send(String platform, int number) {
+        Webhook webhook = switch (platform) {
+            case "github" -> gitHubWebhook(number);
+            case "gitlab" -> gitLabWebhook(number);
+            case "bitbucket" -> bitbucketWebhook(number);
+            default -> throw new IllegalArgumentException("Unknown platform: " + platform);
+        };
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(appUrl + webhook.path()))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(webhook.body()));
+        webhook.headers().forEach(request::header);
+
+        long sentAt = System.nanoTime();
+        pending.put(webhook.key(), sentAt);
+        httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding())
+            .whenComplete((response, error) -> {
+                webhookLatencies.add(System.nanoTime() - sentAt);
+                if (error == null && response.statusCode() / 100 == 2) {
+                    accepted.incrementAndGet();
+                    return;
+                }
+                // 503(수락 거부)/오류 응답은 리뷰가 게시되지 않으므로 대기 목록에서 제외
+                pending.remove(webhook.key());
+                if (error == null && response.statusCode() == 503) {
+                    rejected.incrementAndGet();
+                } else {
+                    failed.incrementAndGet();
+                }
+            });
+    }
+
+    void onReviewPosted(String key) {
+        Long sentAt = pending.remove(key);
+        if (sentAt != null) {
+            long now = System.nanoTime();
+            reviewLatencies.add(now - sentAt);
+            lastCompletionNanos = now;
+        }
+    }
+
+    void report(Map<String, Long> stubStats) {
+        List<Long> reviews = sorted(reviewLatencies);
+        double seconds = elapsedNanos / 1e9;
+
+        System.out.println();
+        System.out.println("=== Load test report ===");
+        System.out.printf("webhooks: sent=%d accepted=%d rejected(503)=%d failed=%d%n",
+            accepted.get() + rejected.get() + failed.get(), accepted.get(), rejected.get(), failed.get());
+        System.out.printf("reviews:  completed=%d timed-out=%d%n", reviews.size(), pending.size());
+        System.out.printf("throughput: %.2f reviews/s over %.1f s%n", seconds > 0 ? reviews.size() / seconds : 0, seconds);
+        System.out.println("review latency (webhook -> review posted): " + percentiles(reviews));
+        System.out.println("webhook response latency: " + percentiles(sorted(webhookLatencies)));
+        System.out.println("stub: " + stubStats);
+    }
+
+    private static List<Long> sorted(List<Long> values) {
+        List<Long> copy;
+        synchronized (values) {
+            copy = new ArrayList<>(values);
+        }
+        Collections.sort(copy);
+        return copy;
+    }
+
+    static String percentiles(List<Long> sortedNanos) {
+        if (sortedNanos.isEmpty()) {
+            return "n/a";
+        }
+        return String.format("p50=%d ms p90=%d ms p95=%d ms p99=%d ms max=%d ms",
+            millis(sortedNanos, 0.50), millis(sortedNanos, 0.90), millis(sortedNanos, 0.95),
+            millis(sortedNanos, 0.99), millis(sortedNanos, 1.0));
+    }
+
+    private static long millis(List<Long> sortedNanos, double quantile) {
+        int index = Math.min(sortedNanos.size() - 1, (int) Math.ceil(sortedNanos.size() * quantile) - 1);
+        return TimeUnit.NANOSECONDS.toMillis(sortedNanos.get(Math.max(0, index)));
+    }
+
+    // ---- 웹훅 페이로드 ----
+
+    private Webhook gitHubWebhook(int number) {
+        ObjectNode payload = objectMapper.createObjectNode().put("action", "opened");
+        ObjectNode pullRequest = payload.putObject("pull_request")
+            .put("id", number)
+            .put("number", number)
+            .put("title", "Load test PR #" + number)
+            .put("body", "Generated by LoadDriver")
+            .put("state", "open");
+        pullRequest.putObject("user").put("login", "loadtest");
+        pullRequest.putObject("head").put("sha", String.format("%040x", number + 0xabcdefL));
+        ObjectNode repository = payload.putObject("repository")
+            .put("id", 900_001)
+            .put("name", "loadtest-repo")
+            .put("full_name", "loadtest/loadtest-repo");
+        repository.putObject("owner").put("login", "loadtest");
+
+        String body = payload.toString();
+        Map<String, String> headers = new HashMap<>(Map.of("X-GitHub-Event", "pull_request"));
+        if (!webhookSecret.isEmpty()) {
+            headers.put("X-Hub-Signature-256", "sha256=" + hmacSha256(webhookSecret, body));
+        }
+        return new Webhook("github:loadtest/loadtest-repo#" + number, "/api/webhook/github", headers, body);
+    }
+
+    private Webhook gitLabWebhook(int number) {
+        long projectId = 900_002;
+        ObjectNode payload = objectMapper.createObjectNode().put("object_kind", "merge_request");
+        payload.putObject("project")
+            .put("id", projectId)
+            .put("name", "loadtest-repo")
+            .put("path_with_namespace", "loadtest/loadtest-repo");
+        ObjectNode attributes = payload.putObject("object_attributes")
+            .put("iid", number)
+            .put("action", "open")
+            .put("work_in_progress", false)
+            .put("title", "Load test MR !" + number);
+        attributes.putObject("last_commit").put("id", String.format("%040x", number + 0xabcdefL));
+
+        return new Webhook("gitlab:" + projectId + "!" + number, "/api/webhook/gitlab",
+            Map.of("X-Gitlab-Event", "Merge Request Hook"), payload.toString());
+    }
+
+    private Webhook bitbucketWebhook(int number) {
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.putObject("pullrequest")
+            .put("id", number)
+            .put("title", "Load test PR #" + number)
+            .put("state", "OPEN");
+        payload.putObject("repository")
+            .put("full_name", "loadtest/loadtest-repo")
+            .put("language", "java");
+
+        return new Webhook("bitbucket:loadtest/loadtest-repo#" + number, "/api/webhook/bitbucket",
+            Map.of("X-Event-Key", "pullrequest:created"), payload.toString());
+    }
+
+    private static String hmacSha256(String secret, String body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign webhook payload", e);
+        }
+    }
+
+    /**
+     * @param key 스텁이 리뷰 게시 시 알리는 키와 같은 형식
+     */
+    private record Webhook(String key, String path, Map<String, String> headers, String body) {
+    }
+}
@@ -0,0 +1,548 @@
+package com.codereview.assistant.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트용 외부 API 스텁 서버
+ *
+ * 하나의 포트에서 다음 API를 흉내 냅니다:
+ * - /openai/v1/chat/completions : OpenAI 호환 (지연, 토큰 수, 5xx/429 주입, stream=true이면 SSE)
+ * - /github/...                 : hub4j가 호출하는 저장소/PR/파일/compare/리뷰 API
+ * - /gitlab/api/v4/...          : MR changes, notes, discussions
+ * - /bitbucket/2.0/...          : PR diff, comments
+ *
+ * diff는 PR 번호로 결정되는 합성 Java 파일이며, 리뷰가 게시되면(GitHub 리뷰 또는 요약 코멘트)
+ * 등록된 리스너에 "github:owner/repo#n" 형태의 키를 전달합니다.
+ *
+ * 단독 실행: ./gradlew stubServer -PstubArgs="--port=8089 --llm-latency-ms=800 --rate-limit-rate=0.05"
+ */
+public class StubServer {
+
+    static final String SUMMARY_MARKER = "AI Code Review Summary";
+
+    private static final Pattern GITHUB_REPO = Pattern.compile("^/github/repos/([^/]+)/([^/]+)$");
+    private static final Pattern GITHUB_PULL = Pattern.compile("^/github/repos/([^/]+)/([^/]+)/pulls/(\\d+)(/files|/reviews)?$");
+    private static final Pattern GITHUB_COMPARE = Pattern.compile("^/github/repos/([^/]+)/([^/]+)/compare/.+$");
+    private static final Pattern GITLAB_MR = Pattern.compile("^/gitlab/api/v4/projects/(\\d+)/merge_requests/(\\d+)/(changes|notes|discussions)$");
+    private static final Pattern BITBUCKET_PR = Pattern.compile("^/bitbucket/2\\.0/repositories/([^/]+)/([^/]+)/pullrequests/(\\d+)/(diff|comments)$");
+    private static final Pattern DIFF_PATH = Pattern.compile("(?m)^\\+\\+\\+ b/(\\S+)");
+
+    private final Config config;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile Consumer<String> reviewListener = key -> { };
+
+    private final AtomicLong llmCalls = new AtomicLong();
+    private final AtomicLong llmRateLimited = new AtomicLong();
+    private final AtomicLong llmErrors = new AtomicLong();
+    private final AtomicLong promptTokens = new AtomicLong();
+    private final AtomicLong completionTokens = new AtomicLong();
+    private final AtomicLong scmCalls = new AtomicLong();
+
+    public StubServer(Config config) throws IOException {
+        this.config = config;
+        this.server = HttpServer.create(new InetSocketAddress(config.port()), 1024);
+        server.setExecutor(executor);
+        server.createContext("/openai/", this::handleOpenAi);
+        server.createContext("/github/", this::handleGitHub);
+        server.createContext("/gitlab/", this::handleGitLab);
+        server.createContext("/bitbucket/", this::handleBitbucket);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Config config = Config.from(Args.parse(args));
+        StubServer stub = new StubServer(config);
+        stub.onReviewPosted(key -> System.out.println("review posted: " + key));
+        stub.start();
+        System.out.println(stub.describe());
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            System.out.println(stub.stats());
+            stub.stop();
+        }));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public void onReviewPosted(Consumer<String> listener) {
+        this.reviewListener = listener;
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 앱을 스텁에 연결하는 환경 변수
+     */
+    public String describe() {
+        return String.join("\n",
+            "Stub server listening on " + baseUrl(),
+            "Start the application with:",
+            "  SPRING_AI_OPENAI_BASE_URL=" + baseUrl() + "/openai",
+            "  OPENAI_API_KEY=sk-loadtest",
+            "  APP_TEST_MODE=false",
+            "  GITHUB_API_URL=" + baseUrl() + "/github",
+            "  GITLAB_API_URL=" + baseUrl() + "/gitlab/api/v4",
+            "  BITBUCKET_API_URL=" + baseUrl() + "/bitbucket/2.0");
+    }
+
+    public Map<String, Long> stats() {
+        return Map.of(
+            "llmCalls", llmCalls.get(),
+            "llmRateLimited", llmRateLimited.get(),
+            "llmErrors", llmErrors.get(),
+            "promptTokens", promptTokens.get(),
+            "completionTokens", completionTokens.get(),
+            "scmCalls", scmCalls.get());
+    }
+
+    // ---- OpenAI ----
+
+    private void handleOpenAi(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestURI().getPath().endsWith("/chat/completions")) {
+                send(exchange, 404, json("error", "Not Found"));
+                return;
+            }
+            llmCalls.incrementAndGet();
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            String model = request.path("model").asText("gpt-4o-mini");
+            boolean stream = request.path("stream").asBoolean(false);
+            String prompt = request.path("messages").toString();
+
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < config.rateLimitRate()) {
+                llmRateLimited.incrementAndGet();
+                exchange.getResponseHeaders().set("retry-after", String.valueOf(config.retryAfterSeconds()));
+                exchange.getResponseHeaders().set("x-ratelimit-remaining-requests", "0");
+                exchange.getResponseHeaders().set("x-ratelimit-reset-requests", config.retryAfterSeconds() + "s");
+                send(exchange, 429, openAiError("rate_limit_exceeded", "Rate limit reached (injected by stub)"));
+                return;
+            }
+            if (roll < config.rateLimitRate() + config.errorRate()) {
+                llmErrors.incrementAndGet();
+                sleep(config.llmLatencyMs() / 2);
+                send(exchange, 500, openAiError("server_error", "Internal error (injected by stub)"));
+                return;
+            }
+
+            int promptTokenCount = config.promptTokens() > 0 ? config.promptTokens() : Math.max(1, prompt.length() / 4);
+            int completionTokenCount = config.completionTokens();
+            promptTokens.addAndGet(promptTokenCount);
+            completionTokens.addAndGet(completionTokenCount);
+
+            String content = reviewContent(prompt);
+            setRateLimitHeaders(exchange);
+            // 첫 토큰까지 지연 (지터 포함)
+            sleep(jittered(config.llmLatencyMs()));
+
+            if (stream) {
+                streamCompletion(exchange, model, content, completionTokenCount);
+            } else {
+                sleep((long) completionTokenCount * config.msPerToken());
+                send(exchange, 200, completion(model, content, promptTokenCount, completionTokenCount));
+            }
+        }
+    }
+
+    private void streamCompletion(HttpExchange exchange, String model, String content, int completionTokenCount)
+            throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+
+        int pieces = Math.max(1, Math.min(completionTokenCount, content.length() / 8));
+        int size = (content.length() + pieces - 1) / pieces;
+        long delay = (long) completionTokenCount * config.msPerToken() / pieces;
+        for (int offset = 0; offset < content.length(); offset += size) {
+            ObjectNode chunk = chunk(model);
+            chunk.putArray("choices").addObject().put("index", 0).putObject("delta")
+                .put("content", content.substring(offset, Math.min(content.length(), offset + size)));
+            out.write(("data: " + chunk + "\n\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            sleep(delay);
+        }
+        ObjectNode last = chunk(model);
+        ObjectNode choice = last.putArray("choices").addObject().put("index", 0).put("finish_reason", "stop");
+        choice.putObject("delta");
+        out.write(("data: " + last + "\n\ndata: [DONE]\n\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 프롬프트에 나온 파일마다 config.commentsPerFile개의 코멘트를 담은 리뷰 JSON
+     */
+    private String reviewContent(String prompt) {
+        Set<String> paths = new LinkedHashSet<>();
+        Matcher matcher = DIFF_PATH.matcher(prompt.replace("\\n", "\n"));
+        while (matcher.find()) {
+            paths.add(matcher.group(1));
+        }
+        if (paths.isEmpty()) {
+            paths.add("src/main/java/com/example/Unknown.java");
+        }
+
+        ObjectNode review = objectMapper.createObjectNode();
+        review.put("summary", "Stub review of " + paths.size() + " file(s)");
+        ArrayNode comments = review.putArray("comments");
+        String[] severities = {"info", "warning", "error"};
+        int index = 0;
+        for (String path : paths) {
+            for (int i = 0; i < config.commentsPerFile(); i++, index++) {
+                comments.addObject()
+                    .put("filePath", path)
+                    .put("lineNumber", 1 + (i * 7) % Math.max(1, config.diffLines()))
+                    .put("severity", severities[index % severities.length])
+                    .put("category", "maintainability")
+                    .put("message", "Stub finding " + (i + 1) + " for " + path)
+                    .put("suggestion", "Consider extracting this logic into a helper method");
+            }
+        }
+        return review.toString();
+    }
+
+    private String completion(String model, String content, int promptTokenCount, int completionTokenCount) {
+        ObjectNode response = objectMapper.createObjectNode()
+            .put("id", "chatcmpl-stub-" + llmCalls.get())
+            .put("object", "chat.completion")
+            .put("created", System.currentTimeMillis() / 1000)
+            .put("model", model);
+        ObjectNode choice = response.putArray("choices").addObject().put("index", 0).put("finish_reason", "stop");
+        choice.putObject("message").put("role", "assistant").put("content", content);
+        response.putObject("usage")
+            .put("prompt_tokens", promptTokenCount)
+            .put("completion_tokens", completionTokenCount)
+            .put("total_tokens", promptTokenCount + completionTokenCount);
+        return response.toString();
+    }
+
+    private ObjectNode chunk(String model) {
+        return objectMapper.createObjectNode()
+            .put("id", "chatcmpl-stub-" + llmCalls.get())
+            .put("object", "chat.completion.chunk")
+            .put("created", System.currentTimeMillis() / 1000)
+            .put("model", model);
+    }
+
+    private void setRateLimitHeaders(HttpExchange exchange) {
+        var headers = exchange.getResponseHeaders();
+        headers.set("x-ratelimit-limit-requests", "10000");
+        headers.set("x-ratelimit-remaining-requests", "9999");
+        headers.set("x-ratelimit-reset-requests", "6ms");
+        headers.set("x-ratelimit-limit-tokens", "2000000");
+        headers.set("x-ratelimit-remaining-tokens", "1999000");
+        headers.set("x-ratelimit-reset-tokens", "30ms");
+    }
+
+    private String openAiError(String code, String message) {
+        ObjectNode error = objectMapper.createObjectNode();
+        error.putObject("error").put("message", message).put("type", code).put("code", code);
+        return error.toString();
+    }
+
+    // ---- GitHub ----
+
+    private void handleGitHub(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            scmCalls.incrementAndGet();
+            sleep(jittered(config.scmLatencyMs()));
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+
+            Matcher pull = GITHUB_PULL.matcher(path);
+            if (pull.matches()) {
+                String owner = pull.group(1);
+                String repo = pull.group(2);
+                int number = Integer.parseInt(pull.group(3));
+                String sub = pull.group(4);
+                if (sub == null) {
+                    send(exchange, 200, gitHubPull(owner, repo, number));
+                } else if ("/files".equals(sub)) {
+                    send(exchange, 200, gitHubFiles(number).toString());
+                } else if ("POST".equals(method)) {
+                    exchange.getRequestBody().readAllBytes();
+                    send(exchange, 200, objectMapper.createObjectNode()
+                        .put("id", number)
+                        .put("state", "COMMENTED")
+                        .put("body", "stub review")
+                        .toString());
+                    reviewListener.accept("github:" + owner + "/" + repo + "#" + number);
+                } else {
+                    send(exchange, 200, "[]");
+                }
+                return;
+            }
+
+            Matcher compare = GITHUB_COMPARE.matcher(path);
+            if (compare.matches()) {
+                ObjectNode body = objectMapper.createObjectNode()
+                    .put("status", "ahead")
+                    .put("ahead_by", 1)
+                    .put("behind_by", 0)
+                    .put("total_commits", 1);
+                body.putArray("commits");
+                body.putObject("base_commit").put("sha", sha(0));
+                body.putObject("merge_base_commit").put("sha", sha(0));
+                body.set("files", gitHubFiles(1));
+                send(exchange, 200, body.toString());
+                return;
+            }
+
+            Matcher repo = GITHUB_REPO.matcher(path);
+            if (repo.matches()) {
+                send(exchange, 200, gitHubRepository(repo.group(1), repo.group(2)));
+                return;
+            }
+
+            send(exchange, 404, json("message", "Not Found"));
+        }
+    }
+
+    private String gitHubRepository(String owner, String name) {
+        ObjectNode repository = objectMapper.createObjectNode()
+            .put("id", Math.abs((owner + "/" + name).hashCode()))
+            .put("name", name)
+            .put("full_name", owner + "/" + name)
+            .put("url", baseUrl() + "/github/repos/" + owner + "/" + name)
+            .put("html_url", "https://github.com/" + owner + "/" + name)
+            .put("default_branch", "main");
+        repository.putObject("owner").put("login", owner).put("type", "User");
+        return repository.toString();
+    }
+
+    private String gitHubPull(String owner, String repo, int number) {
+        ObjectNode pull = objectMapper.createObjectNode()
+            .put("id", number)
+            .put("number", number)
+            .put("state", "open")
+            .put("title", "Load test PR #" + number)
+            .put("url", baseUrl() + "/github/repos/" + owner + "/" + repo + "/pulls/" + number);
+        pull.putObject("head").put("sha", sha(number)).put("ref", "feature/" + number);
+        pull.putObject("base").put("sha", sha(0)).put("ref", "main");
+        pull.putObject("user").put("login", "loadtest");
+        return pull.toString();
+    }
+
+    private ArrayNode gitHubFiles(int number) {
+        ArrayNode files = objectMapper.createArrayNode();
+        for (int i = 0; i < config.diffFiles(); i++) {
+            files.addObject()
+                .put("sha", sha(number * 1000L + i))
+                .put("filename", filePath(number, i))
+                .put("status", "modified")
+                .put("additions", config.diffLines())
+                .put("deletions", 0)
+                .put("changes", config.diffLines())
+                .put("patch", hunk(number, i));
+        }
+        return files;
+    }
+
+    // ---- GitLab ----
+
+    private void handleGitLab(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            scmCalls.incrementAndGet();
+            sleep(jittered(config.scmLatencyMs()));
+            Matcher matcher = GITLAB_MR.matcher(exchange.getRequestURI().getPath());
+            if (!matcher.matches()) {
+                send(exchange, 404, json("message", "404 Not Found"));
+                return;
+            }
+
+            long projectId = Long.parseLong(matcher.group(1));
+            int iid = Integer.parseInt(matcher.group(2));
+            if ("changes".equals(matcher.group(3))) {
+                ObjectNode body = objectMapper.createObjectNode();
+                ArrayNode changes = body.putArray("changes");
+                for (int i = 0; i < config.diffFiles(); i++) {
+                    String path = filePath(iid, i);
+                    changes.addObject()
+                        .put("old_path", path)
+                        .put("new_path", path)
+                        .put("new_file", false)
+                        .put("deleted_file", false)
+                        .put("renamed_file", false)
+                        .put("diff", hunk(iid, i));
+                }
+                send(exchange, 200, body.toString());
+                return;
+            }
+
+            String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            send(exchange, 201, json("id", String.valueOf(iid)));
+            if (request.contains(SUMMARY_MARKER)) {
+                reviewListener.accept("gitlab:" + projectId + "!" + iid);
+            }
+        }
+    }
+
+    // ---- Bitbucket ----
+
+    private void handleBitbucket(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            scmCalls.incrementAndGet();
+            sleep(jittered(config.scmLatencyMs()));
+            Matcher matcher = BITBUCKET_PR.matcher(exchange.getRequestURI().getPath());
+            if (!matcher.matches()) {
+                send(exchange, 404, json("type", "error"));
+                return;
+            }
+
+            String workspace = matcher.group(1);
+            String slug = matcher.group(2);
+            int id = Integer.parseInt(matcher.group(3));
+            if ("diff".equals(matcher.group(4))) {
+                StringBuilder diff = new StringBuilder();
+                for (int i = 0; i < config.diffFiles(); i++) {
+                    String path = filePath(id, i);
+                    diff.append("diff --git a/").append(path).append(" b/").append(path).append('\n')
+                        .append("--- a/").append(path).append('\n')
+                        .append("+++ b/").append(path).append('\n')
+                        .append(hunk(id, i));
+                }
+                exchange.getResponseHeaders().set("Content-Type", "text/plain");
+                send(exchange, 200, diff.toString());
+                return;
+            }
+
+            String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            send(exchange, 201, json("type", "pullrequest_comment"));
+            if (request.contains(SUMMARY_MARKER)) {
+                reviewListener.accept("bitbucket:" + workspace + "/" + slug + "#" + id);
+            }
+        }
+    }
+
+    // ---- 합성 diff ----
+
+    private static String filePath(int number, int index) {
+        return "src/main/java/com/example/pr" + number + "/Service" + index + ".java";
+    }
+
+    /**
+     * 새 코드 diffLines줄을 추가하는 hunk 하나 (PR 번호와 파일 번호로 결정)
+     */
+    private String hunk(int number, int index) {
+        int lines = config.diffLines();
+        StringBuilder hunk = new StringBuilder("@@ -0,0 +1,").append(lines).append(" @@\n");
+        for (int line = 0; line < lines; line++) {
+            hunk.append('+');
+            switch (line % 5) {
+                case 0 -> hunk.append("    public String find").append(line).append("(String id) {");
+                case 1 -> hunk.append("        String sql = \"SELECT * FROM t").append(index)
+                    .append(" WHERE id = '\" + id + \"'\";");
+                case 2 -> hunk.append("        System.out.println(\"pr ").append(number).append(" line ").append(line).append("\");");
+                case 3 -> hunk.append("        return jdbc.queryForObject(sql, String.class);");
+                default -> hunk.append("    }");
+            }
+            hunk.append('\n');
+        }
+        return hunk.toString();
+    }
+
+    private static String sha(long seed) {
+        return String.format("%040x", seed + 0xabcdefL);
+    }
+
+    // ---- 공통 ----
+
+    private long jittered(long meanMs) {
+        if (meanMs <= 0) {
+            return 0;
+        }
+        // 평균 meanMs, ±jitter 비율의 균등 분포
+        double jitter = config.jitter() * (ThreadLocalRandom.current().nextDouble() * 2 - 1);
+        return Math.max(0, Math.round(meanMs * (1 + jitter)));
+    }
+
+    private String json(String field, String value) {
+        return objectMapper.createObjectNode().put(field, value).toString();
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        if (!exchange.getResponseHeaders().containsKey("Content-Type")) {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+        }
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 스텁 동작 설정
+     *
+     * @param port              수신 포트 (0이면 임의 포트)
+     * @param llmLatencyMs      첫 토큰까지의 평균 지연
+     * @param msPerToken        완료 토큰당 생성 시간
+     * @param jitter            지연 지터 비율 (0.2 = ±20%)
+     * @param promptTokens      응답에 보고할 프롬프트 토큰 수 (0이면 요청 길이/4)
+     * @param completionTokens  응답에 보고할 완료 토큰 수
+     * @param errorRate         500 응답 비율
+     * @param rateLimitRate     429 응답 비율
+     * @param retryAfterSeconds 429 응답의 retry-after
+     * @param scmLatencyMs      GitHub/GitLab/Bitbucket API 평균 지연
+     * @param diffFiles         PR당 변경 파일 수
+     * @param diffLines         파일당 추가 줄 수
+     * @param commentsPerFile   파일당 리뷰 코멘트 수
+     */
+    public record Config(int port, long llmLatencyMs, long msPerToken, double jitter, int promptTokens,
+                         int completionTokens, double errorRate, double rateLimitRate, int retryAfterSeconds,
+                         long scmLatencyMs, int diffFiles, int diffLines, int commentsPerFile) {
+
+        static Config from(Args args) {
+            return new Config(
+                args.getInt("port", 8089),
+                args.getLong("llm-latency-ms", 800),
+                args.getLong("ms-per-token", 10),
+                args.getDouble("jitter", 0.3),
+                args.getInt("prompt-tokens", 0),
+                args.getInt("completion-tokens", 300),
+                args.getDouble("error-rate", 0.0),
+                args.getDouble("rate-limit-rate", 0.0),
+                args.getInt("retry-after-seconds", 1),
+                args.getLong("scm-latency-ms", 50),
+                args.getInt("diff-files", 5),
+                args.getInt("diff-lines", 40),
+                args.getInt("comments-per-file", 2));
+        }
+    }
+}
@@ -1,8 +1,19 @@
 package com.codereview.assistant.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -13,14 +24,29 @@ import java.util.concurrent.Executor;
  * 비동기 처리 설정
  *
  * Webhook 처리와 코드 분석을 비동기로 실행하여 응답 시간 단축
+ *
+ * spring.threads.virtual.enabled=true(Java 21)이면 리뷰 작업을 가상 스레드에서 실행합니다.
+ * 이 모드에서는 풀 크기 대신 DownstreamLimiter의 서비스별 세마포어가 동시 호출 수를 제한합니다.
+ *
+ * 아래 실행기 빈들이 있으면 Spring Boot가 기본 applicationTaskExecutor를 만들지 않으므로 같은 이름의 빈을
+ * 직접 등록합니다. Spring MVC 비동기 요청(대시보드 SSE 등)이 이 실행기를 사용하며, spring.task.execution.*
+ * 설정이 그대로 적용됩니다.
  */
 @Configuration
 @EnableAsync
 @Slf4j
 public class AsyncConfig implements AsyncConfigurer {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Override
     public Executor getAsyncExecutor() {
+        if (virtualThreads) {
+            log.info("Async executor initialized with virtual threads");
+            return virtualThreadExecutor("async-executor-");
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
         // 코어 스레드 수
@@ -39,9 +65,10 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
 
-        // 거부 정책: CallerRunsPolicy - 큐가 가득 차면 호출 스레드에서 실행
+        // 거부 정책: AbortPolicy - 큐가 가득 차면 거부 (리뷰가 웹훅 요청 스레드에서 실행되지 않도록,
+        // ReviewJobPublisher 대체 경로에서는 웹훅이 503으로 응답)
         executor.setRejectedExecutionHandler(
-            new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy()
+            new java.util.concurrent.ThreadPoolExecutor.AbortPolicy()
         );
 
         executor.initialize();
@@ -52,6 +79,146 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * Spring Boot 기본 실행기 - 이 설정의 다른 실행기 빈 때문에 자동 구성되지 않는 빈을 대신 등록
+     *
+     * Boot가 만드는 것과 같은 빌더를 사용하므로 spring.task.execution.*와
+     * spring.threads.virtual.enabled 설정을 따릅니다.
+     */
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor(
+            ThreadPoolTaskExecutorBuilder threadPoolTaskExecutorBuilder,
+            SimpleAsyncTaskExecutorBuilder simpleAsyncTaskExecutorBuilder) {
+        if (virtualThreads) {
+            return simpleAsyncTaskExecutorBuilder.build();
+        }
+        return threadPoolTaskExecutorBuilder.build();
+    }
+
+    /**
+     * 대형 PR의 diff 청크를 병렬로 리뷰하기 위한 실행기
+     *
+     * 풀 크기가 곧 PR 하나당(노드 전체 기준) 동시 LLM 호출 상한입니다.
+     * 큐가 가득 차면 호출 스레드(리뷰 워커)에서 실행하여 청크가 유실되지 않도록 합니다.
+     */
+    @Bean(name = "chunkReviewExecutor")
+    public AsyncTaskExecutor chunkReviewExecutor(
+            @Value("${app.review.chunking.max-parallelism:4}") int maxParallelism) {
+        if (virtualThreads) {
+            log.info("Chunk review executor initialized with virtual threads");
+            return virtualThreadExecutor("chunk-review-");
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxParallelism);
+        executor.setMaxPoolSize(maxParallelism);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("chunk-review-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.setRejectedExecutionHandler(
+            new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        executor.initialize();
+
+        log.info("Chunk review executor initialized: maxParallelism={}", maxParallelism);
+
+        return executor;
+    }
+
+    /**
+     * GitLab/Bitbucket 웹훅 리뷰 실행기
+     *
+     * 큐가 가득 차면 작업을 거부(AbortPolicy)하여 컨트롤러가 503으로 응답하게 하고,
+     * 웹훅 HTTP 스레드에서 리뷰가 실행되지 않도록 합니다. 종료 시 남은 작업을 끝낼 때까지 대기합니다.
+     */
+    @Bean(name = "webhookReviewExecutor")
+    public ThreadPoolTaskExecutor webhookReviewExecutor(
+            @Value("${app.review.webhook-executor.core-pool-size:4}") int corePoolSize,
+            @Value("${app.review.webhook-executor.max-pool-size:8}") int maxPoolSize,
+            @Value("${app.review.webhook-executor.queue-capacity:50}") int queueCapacity,
+            @Value("${app.review.webhook-executor.await-termination-seconds:120}") int awaitTerminationSeconds,
+            MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("webhook-review-");
+        if (virtualThreads) {
+            // 풀/큐 크기는 수락 제어(503)에만 쓰이고 실제 스레드는 가상 스레드
+            executor.setThreadFactory(new VirtualThreadTaskExecutor("webhook-review-").getVirtualThreadFactory());
+        }
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        executor.setRejectedExecutionHandler(
+            new java.util.concurrent.ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.initialize();
+
+        // executor.pool.size, executor.queued, executor.rejected 등
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "webhookReviewExecutor", Tags.empty())
+            .bindTo(meterRegistry);
+
+        log.info("Webhook review executor initialized: corePoolSize={}, maxPoolSize={}, queueCapacity={}",
+            corePoolSize, maxPoolSize, queueCapacity);
+
+        return executor;
+    }
+
+    /**
+     * 대시보드 SSE 전송 실행기
+     *
+     * 리뷰 워커/Rabbit 리스너/스케줄러 스레드가 느린 브라우저 연결에 막히지 않도록 전송만 이 스레드에서 합니다.
+     * 스레드 하나로 이벤트 순서를 유지하고, 큐가 가득 차면 가장 오래된 이벤트를 버립니다
+     * (브라우저는 다음 이벤트에서 최신 통계를 다시 조회함).
+     */
+    @Bean(name = "dashboardEventExecutor")
+    public ThreadPoolTaskExecutor dashboardEventExecutor(
+            @Value("${app.dashboard.events.queue-capacity:1000}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-events-");
+        executor.setRejectedExecutionHandler(
+            new java.util.concurrent.ThreadPoolExecutor.DiscardOldestPolicy()
+        );
+        executor.initialize();
+
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "dashboardEventExecutor", Tags.empty())
+            .bindTo(meterRegistry);
+
+        return executor;
+    }
+
+    /**
+     * LLM 호출 시도(재시도/헤지 포함) 실행기
+     *
+     * 호출 스레드는 시도 타임아웃까지만 기다리고, 늦게 끝난 시도는 인터럽트로 취소합니다.
+     * 동시 시도 수는 OpenAiRateLimiter와 DownstreamLimiter가 제한하므로 풀 대신 작업마다 스레드를 만듭니다.
+     */
+    @Bean(name = "llmAttemptExecutor")
+    public AsyncTaskExecutor llmAttemptExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("llm-attempt-");
+        }
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("llm-attempt-");
+        executor.setTaskTerminationTimeout(60_000);
+        return executor;
+    }
+
+    /**
+     * 작업마다 가상 스레드를 만드는 실행기 - 종료 시 실행 중인 작업이 끝날 때까지 대기
+     */
+    static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(60_000);
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return (throwable, method, params) -> {
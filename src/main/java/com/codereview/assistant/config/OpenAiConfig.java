@@ -1,11 +1,18 @@
 package com.codereview.assistant.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.openai.OpenAiChatClient;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.EventListener;
+import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.StringUtils;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.RestClient;
 
 /**
  * OpenAI API Configuration and Validation
@@ -17,8 +24,31 @@ public class OpenAiConfig {
     @Value("${spring.ai.openai.api-key:}")
     private String apiKey;
 
-    @Value("${spring.ai.openai.model:gpt-4-turbo-preview}")
-    private String model;
+    /**
+     * OpenAI chat client (blocking and streaming) without Spring AI's built-in retries
+     *
+     * Replaces the auto-configured client. LlmCallExecutor owns retries, backoff and hedging, and
+     * OpenAiRateLimiter has to see every 429 - Spring AI's default RetryTemplate would retry up to
+     * 10 times with backoff of up to 3 minutes inside a single attempt. Spring's default error handler
+     * raises HttpClientErrorException/HttpServerErrorException, which keep the status and the
+     * Retry-After / x-ratelimit-* headers.
+     */
+    @Bean
+    public OpenAiChatClient openAiChatClient(
+            RestClient.Builder restClientBuilder,
+            @Value("${spring.ai.openai.base-url:https://api.openai.com}") String baseUrl,
+            @Value("${app.review.routing.default-model:gpt-4o-mini}") String defaultModel,
+            @Value("${spring.ai.openai.temperature:0.3}") float temperature) {
+        OpenAiApi openAiApi = new OpenAiApi(baseUrl, apiKey, restClientBuilder, new DefaultResponseErrorHandler());
+        OpenAiChatOptions defaultOptions = OpenAiChatOptions.builder()
+            .withModel(defaultModel)
+            .withTemperature(temperature)
+            .build();
+        RetryTemplate noRetry = RetryTemplate.builder()
+            .maxAttempts(1)
+            .build();
+        return new OpenAiChatClient(openAiApi, defaultOptions, noRetry);
+    }
 
     /**
      * Validates OpenAI configuration on application startup
@@ -42,7 +72,6 @@ public class OpenAiConfig {
             log.warn("=================================================");
         } else {
             log.info("OpenAI API Key is configured (key: {}****)", maskApiKey(apiKey));
-            log.info("Using model: {}", model);
         }
     }
 
@@ -70,8 +99,4 @@ public class OpenAiConfig {
     public boolean hasApiKey() {
         return StringUtils.hasText(apiKey) && !apiKey.equals("${OPENAI_API_KEY}");
     }
-
-    public String getModel() {
-        return model;
-    }
 }
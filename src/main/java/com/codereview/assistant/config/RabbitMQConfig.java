@@ -1,10 +1,12 @@
 package com.codereview.assistant.config;
 
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -14,14 +16,42 @@ public class RabbitMQConfig {
     public static final String REVIEW_QUEUE = "code-review-queue";
     public static final String REVIEW_EXCHANGE = "code-review-exchange";
     public static final String REVIEW_ROUTING_KEY = "code.review";
+    public static final String REVIEW_DEAD_LETTER_EXCHANGE = "code-review-dlx";
+    public static final String REVIEW_DEAD_LETTER_QUEUE = "code-review-queue.dlq";
+    public static final String DASHBOARD_EVENTS_EXCHANGE = "dashboard-events-exchange";
 
+    /**
+     * 리뷰 작업 큐 - 처리 중 예외로 거부되거나 TTL이 지난 메시지는 DLQ로 이동
+     *
+     * 큐 인자는 선언 후 바꿀 수 없으므로, 인자 없이 만들어진 기존 큐는 삭제 후 다시 선언해야 합니다
+     * (docs/DEPLOYMENT.md 참고).
+     */
     @Bean
     public Queue reviewQueue() {
         return QueueBuilder.durable(REVIEW_QUEUE)
             .withArgument("x-message-ttl", 3600000) // 1 hour TTL
+            .deadLetterExchange(REVIEW_DEAD_LETTER_EXCHANGE)
+            .deadLetterRoutingKey(REVIEW_ROUTING_KEY)
             .build();
     }
 
+    @Bean
+    public DirectExchange reviewDeadLetterExchange() {
+        return new DirectExchange(REVIEW_DEAD_LETTER_EXCHANGE);
+    }
+
+    @Bean
+    public Queue reviewDeadLetterQueue() {
+        return QueueBuilder.durable(REVIEW_DEAD_LETTER_QUEUE).build();
+    }
+
+    @Bean
+    public Binding reviewDeadLetterBinding(Queue reviewDeadLetterQueue, DirectExchange reviewDeadLetterExchange) {
+        return BindingBuilder.bind(reviewDeadLetterQueue)
+            .to(reviewDeadLetterExchange)
+            .with(REVIEW_ROUTING_KEY);
+    }
+
     @Bean
     public DirectExchange reviewExchange() {
         return new DirectExchange(REVIEW_EXCHANGE);
@@ -34,16 +64,71 @@ public class RabbitMQConfig {
             .with(REVIEW_ROUTING_KEY);
     }
 
+    /**
+     * 대시보드 실시간 이벤트 - 노드마다 자동 삭제되는 익명 큐를 fanout exchange에 연결해 모든 노드가 받음
+     */
+    @Bean
+    public FanoutExchange dashboardEventsExchange() {
+        return new FanoutExchange(DASHBOARD_EVENTS_EXCHANGE, false, false);
+    }
+
+    @Bean
+    public Queue dashboardEventsQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding dashboardEventsBinding(Queue dashboardEventsQueue, FanoutExchange dashboardEventsExchange) {
+        return BindingBuilder.bind(dashboardEventsQueue).to(dashboardEventsExchange);
+    }
+
     @Bean
     public MessageConverter messageConverter() {
         return new Jackson2JsonMessageConverter();
     }
 
+    /**
+     * 라우팅되지 않은 메시지를 되돌려받도록 mandatory로 발행합니다
+     *
+     * 브로커 확인(publisher confirm)과 반환은 spring.rabbitmq.publisher-confirm-type/publisher-returns 설정으로
+     * 켜지며, ReviewJobPublisher가 CorrelationData로 결과를 확인합니다.
+     */
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory,
                                         MessageConverter messageConverter) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
         template.setMessageConverter(messageConverter);
+        template.setMandatory(true);
         return template;
     }
+
+    /**
+     * 리뷰 워커 리스너 컨테이너
+     *
+     * concurrency/max-concurrency로 노드당 동시 리뷰 수를, prefetch로 워커별 선점 메시지 수를 제한합니다.
+     * 리뷰는 수십 초가 걸리므로 prefetch는 1에 가깝게 유지해야 노드 간 작업이 고르게 분배됩니다.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory reviewListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            MessageConverter messageConverter,
+            @Value("${app.review.queue.concurrency:2}") int concurrency,
+            @Value("${app.review.queue.max-concurrency:8}") int maxConcurrency,
+            @Value("${app.review.queue.prefetch:1}") int prefetch,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter);
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(Math.max(concurrency, maxConcurrency));
+        factory.setPrefetchCount(prefetch);
+        if (virtualThreads) {
+            // 리뷰는 대부분 I/O 대기이므로 컨슈머를 가상 스레드로 실행 (max-concurrency를 크게 잡을 수 있음)
+            factory.setTaskExecutor(AsyncConfig.virtualThreadExecutor("review-worker-"));
+        }
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        // 처리 중 예외가 난 메시지를 무한 재전달하지 않고 DLQ로 보냄 (리뷰 실패는 Review 레코드에 기록됨)
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
 }
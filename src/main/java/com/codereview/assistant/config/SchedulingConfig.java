@@ -0,0 +1,14 @@
+package com.codereview.assistant.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 설정
+ *
+ * 대시보드 일별 집계 보정(ReviewRollupService#reconcile) 등 @Scheduled 작업을 활성화합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -6,6 +6,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,6 +28,11 @@ import java.util.Map;
 public class BitbucketWebhookController {
 
     private final BitbucketWebhookService bitbucketWebhookService;
+    @Qualifier("webhookReviewExecutor")
+    private final TaskExecutor webhookReviewExecutor;
+
+    @Value("${app.review.webhook-executor.retry-after-seconds:30}")
+    private int retryAfterSeconds;
 
     /**
      * Bitbucket Pull Request 웹훅 처리
@@ -39,14 +50,24 @@ public class BitbucketWebhookController {
             // Pull Request 이벤트만 처리
             if (eventKey != null && eventKey.startsWith("pullrequest:")) {
 
-                // 비동기로 처리 (웹훅 응답 시간 단축)
-                new Thread(() -> {
-                    try {
-                        bitbucketWebhookService.handlePullRequestEvent(event);
-                    } catch (Exception e) {
-                        log.error("Error handling Bitbucket PR event", e);
-                    }
-                }).start();
+                // 공유 실행기에서 비동기로 처리 (웹훅 응답 시간 단축)
+                try {
+                    webhookReviewExecutor.execute(() -> {
+                        try {
+                            bitbucketWebhookService.handlePullRequestEvent(event);
+                        } catch (Exception e) {
+                            log.error("Error handling Bitbucket PR event", e);
+                        }
+                    });
+                } catch (TaskRejectedException e) {
+                    log.warn("Review executor saturated - rejecting Bitbucket webhook");
+                    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                            .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                            .body(Map.of(
+                                    "status", "rejected",
+                                    "message", "Review queue is full, retry later"
+                            ));
+                }
 
                 return ResponseEntity.ok(Map.of(
                         "status", "accepted",
@@ -4,21 +4,29 @@ import com.codereview.assistant.domain.Comment;
 import com.codereview.assistant.domain.Review;
 import com.codereview.assistant.dto.DashboardStatistics;
 import com.codereview.assistant.dto.ReviewSummaryDto;
+import com.codereview.assistant.dto.StageTimingStatsDto;
 import com.codereview.assistant.dto.TrendDataDto;
 import com.codereview.assistant.exception.ResourceNotFoundException;
 import com.codereview.assistant.repository.ReviewRepository;
+import com.codereview.assistant.service.DashboardCache;
+import com.codereview.assistant.service.DashboardEventService;
 import com.codereview.assistant.service.StatisticsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Tag(name = "Dashboard", description = "대시보드 통계 및 인사이트 API")
@@ -30,6 +38,8 @@ public class DashboardController {
 
     private final StatisticsService statisticsService;
     private final ReviewRepository reviewRepository;
+    private final DashboardCache dashboardCache;
+    private final DashboardEventService dashboardEventService;
 
     @Operation(
         summary = "대시보드 전체 통계 조회",
@@ -38,8 +48,7 @@ public class DashboardController {
     @GetMapping("/statistics")
     public ResponseEntity<DashboardStatistics> getDashboardStatistics() {
         log.info("GET /api/dashboard/statistics");
-        DashboardStatistics statistics = statisticsService.getDashboardStatistics();
-        return ResponseEntity.ok(statistics);
+        return cached("statistics", statisticsService::getDashboardStatistics);
     }
 
     @Operation(
@@ -52,8 +61,7 @@ public class DashboardController {
             @RequestParam(defaultValue = "10") int limit
     ) {
         log.info("GET /api/dashboard/reviews/recent?limit={}", limit);
-        List<ReviewSummaryDto> reviews = statisticsService.getRecentReviews(limit);
-        return ResponseEntity.ok(reviews);
+        return cached("reviews/recent:" + limit, () -> statisticsService.getRecentReviews(limit));
     }
 
     @Operation(
@@ -66,8 +74,7 @@ public class DashboardController {
             @RequestParam(defaultValue = "30") int days
     ) {
         log.info("GET /api/dashboard/trends?days={}", days);
-        TrendDataDto trendData = statisticsService.getTrendData(days);
-        return ResponseEntity.ok(trendData);
+        return cached("trends:" + days, () -> statisticsService.getTrendData(days));
     }
 
     @Operation(
@@ -77,8 +84,38 @@ public class DashboardController {
     @GetMapping("/repositories/statistics")
     public ResponseEntity<Map<String, DashboardStatistics.OverallStats>> getRepositoryStatistics() {
         log.info("GET /api/dashboard/repositories/statistics");
-        Map<String, DashboardStatistics.OverallStats> stats = statisticsService.getRepositoryStatistics();
-        return ResponseEntity.ok(stats);
+        return cached("repositories/statistics", statisticsService::getRepositoryStatistics);
+    }
+
+    @Operation(
+        summary = "단계별 처리 시간 통계 조회",
+        description = "지정된 기간 동안 완료된 리뷰의 단계별(큐 대기, diff 조회, 규칙 조회, LLM, 코멘트 저장, 게시, 전체) "
+            + "처리 시간 p50/p90/p95/p99/max를 조회합니다. byRepository=true이면 Repository별로 나눕니다."
+    )
+    @GetMapping("/stage-timings")
+    public ResponseEntity<List<StageTimingStatsDto>> getStageTimingStatistics(
+            @Parameter(description = "조회할 일수", example = "7")
+            @RequestParam(defaultValue = "7") int days,
+            @Parameter(description = "Repository별로 나눌지 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean byRepository
+    ) {
+        log.info("GET /api/dashboard/stage-timings?days={}&byRepository={}", days, byRepository);
+        return cached("stage-timings:" + days + ":" + byRepository, () -> byRepository
+            ? statisticsService.getRepositoryStageTimingStatistics(days)
+            : statisticsService.getStageTimingStatistics(days));
+    }
+
+    @Operation(
+        summary = "실시간 이벤트 구독 (SSE)",
+        description = "리뷰 상태가 바뀔 때마다(pending, in_progress, completed, failed, superseded) review 이벤트를 보냅니다. "
+            + "completed 이벤트에는 전체 통계에 더해질 증분(delta)이 포함됩니다. 대시보드는 폴링 대신 이 스트림을 구독합니다."
+    )
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(HttpServletResponse response) {
+        log.info("GET /api/dashboard/events");
+        // Nginx가 응답을 버퍼링하지 않고 바로 전달하도록
+        response.setHeader("X-Accel-Buffering", "no");
+        return dashboardEventService.subscribe();
     }
 
     @Operation(
@@ -92,7 +129,7 @@ public class DashboardController {
     ) {
         log.info("GET /api/dashboard/reviews/{}", reviewId);
 
-        Review review = reviewRepository.findById(reviewId)
+        Review review = reviewRepository.findDetailById(reviewId)
             .orElseThrow(() -> new ResourceNotFoundException("Review not found with id: " + reviewId));
 
         Map<String, Object> result = new HashMap<>();
@@ -103,7 +140,11 @@ public class DashboardController {
         result.put("severityCounts", review.getSeverityCounts());
         result.put("aiModel", review.getAiModel());
         result.put("tokensUsed", review.getTokensUsed());
+        result.put("promptTokens", review.getPromptTokens());
+        result.put("completionTokens", review.getCompletionTokens());
         result.put("processingTimeMs", review.getProcessingTimeMs());
+        result.put("queueWaitMs", review.getQueueWaitMs());
+        result.put("stageTimings", statisticsService.getReviewStageTimings(reviewId));
         result.put("createdAt", review.getCreatedAt());
         result.put("errorMessage", review.getErrorMessage());
 
@@ -141,4 +182,19 @@ public class DashboardController {
 
         return ResponseEntity.ok(result);
     }
+
+    /**
+     * 캐시된 통계를 ETag/Last-Modified와 함께 반환합니다
+     *
+     * 요청의 If-None-Match(또는 If-Modified-Since)가 일치하면 Spring이 본문 없이 304로 응답합니다.
+     * no-cache이므로 브라우저는 매번 재검증하며, 변경이 없으면 캐시된 응답을 그대로 사용합니다.
+     */
+    private <T> ResponseEntity<T> cached(String key, Supplier<T> loader) {
+        DashboardCache.Snapshot<T> snapshot = dashboardCache.get(key, loader);
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .eTag(snapshot.etag())
+            .lastModified(snapshot.lastModified())
+            .body(snapshot.value());
+    }
 }
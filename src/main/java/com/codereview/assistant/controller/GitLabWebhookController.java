@@ -6,6 +6,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,6 +28,11 @@ import java.util.Map;
 public class GitLabWebhookController {
 
     private final GitLabWebhookService gitLabWebhookService;
+    @Qualifier("webhookReviewExecutor")
+    private final TaskExecutor webhookReviewExecutor;
+
+    @Value("${app.review.webhook-executor.retry-after-seconds:30}")
+    private int retryAfterSeconds;
 
     /**
      * GitLab Merge Request 웹훅 처리
@@ -40,14 +51,24 @@ public class GitLabWebhookController {
             if ("Merge Request Hook".equals(gitlabEvent) ||
                 "merge_request".equals(event.getObjectKind())) {
 
-                // 비동기로 처리 (웹훅 응답 시간 단축)
-                new Thread(() -> {
-                    try {
-                        gitLabWebhookService.handleMergeRequestEvent(event);
-                    } catch (Exception e) {
-                        log.error("Error handling GitLab MR event", e);
-                    }
-                }).start();
+                // 공유 실행기에서 비동기로 처리 (웹훅 응답 시간 단축)
+                try {
+                    webhookReviewExecutor.execute(() -> {
+                        try {
+                            gitLabWebhookService.handleMergeRequestEvent(event);
+                        } catch (Exception e) {
+                            log.error("Error handling GitLab MR event", e);
+                        }
+                    });
+                } catch (TaskRejectedException e) {
+                    log.warn("Review executor saturated - rejecting GitLab webhook");
+                    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                            .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                            .body(Map.of(
+                                    "status", "rejected",
+                                    "message", "Review queue is full, retry later"
+                            ));
+                }
 
                 return ResponseEntity.ok(Map.of(
                         "status", "accepted",
@@ -4,13 +4,16 @@ import com.codereview.assistant.domain.PullRequest;
 import com.codereview.assistant.dto.GitHubWebhookPayload;
 import com.codereview.assistant.service.GitHubWebhookService;
 import com.codereview.assistant.service.PullRequestService;
-import com.codereview.assistant.service.ReviewService;
+import com.codereview.assistant.service.ReviewJobPublisher;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -24,9 +27,12 @@ public class WebhookController {
 
     private final GitHubWebhookService webhookService;
     private final PullRequestService pullRequestService;
-    private final ReviewService reviewService;
+    private final ReviewJobPublisher reviewJobPublisher;
     private final ObjectMapper objectMapper;
 
+    @Value("${app.review.webhook-executor.retry-after-seconds:30}")
+    private int retryAfterSeconds;
+
     @Operation(
         summary = "GitHub 웹훅 이벤트 처리",
         description = "GitHub에서 발생한 웹훅 이벤트를 수신하여 처리합니다. Pull Request 이벤트를 처리하며, 서명을 검증합니다."
@@ -67,6 +73,12 @@ public class WebhookController {
 
             return ResponseEntity.ok("Webhook processed successfully");
 
+        } catch (TaskRejectedException e) {
+            // 큐를 쓸 수 없어 로컬 실행기로 보냈는데 실행기도 가득 참
+            log.warn("Review executor saturated - rejecting GitHub webhook");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body("Review queue is full, retry later");
         } catch (Exception e) {
             log.error("Error processing webhook", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -84,8 +96,8 @@ public class WebhookController {
 
             String commitSha = payload.getPullRequest().getHead().getSha();
 
-            // Queue review job (async)
-            reviewService.performReview(pullRequest, commitSha);
+            // Queue review job (durable queue, consumed by review workers)
+            reviewJobPublisher.publish(pullRequest, commitSha);
 
             log.info("Review queued for PR #{}", pullRequest.getPrNumber());
         }
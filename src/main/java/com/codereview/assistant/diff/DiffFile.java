@@ -0,0 +1,82 @@
+package com.codereview.assistant.diff;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * diff에 포함된 파일 하나
+ */
+@Getter
+@Setter
+public class DiffFile {
+
+    public enum Status {
+        ADDED, DELETED, RENAMED, MODIFIED
+    }
+
+    private String oldPath;
+    private String newPath;
+    private Status status = Status.MODIFIED;
+    private boolean binary;
+    private final List<DiffHunk> hunks = new ArrayList<>();
+    private int additions;
+    private int deletions;
+
+    /**
+     * 리뷰 대상 경로 (삭제된 파일이면 이전 경로)
+     */
+    public String getPath() {
+        if (newPath != null && !"/dev/null".equals(newPath)) {
+            return newPath;
+        }
+        return oldPath;
+    }
+
+    /**
+     * 새 파일 기준 줄 번호에 해당하는 patch position을 찾습니다
+     *
+     * @return diff에 포함되지 않은 줄이면 -1
+     */
+    public int findPosition(int newLineNumber) {
+        for (DiffHunk hunk : hunks) {
+            if (newLineNumber < hunk.getNewStart() || newLineNumber >= hunk.getNewStart() + Math.max(hunk.getNewCount(), 1)) {
+                continue;
+            }
+            for (DiffLine line : hunk.getLines()) {
+                if (line.getNewLineNumber() == newLineNumber) {
+                    return line.getPosition();
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 새 파일 기준 줄이 변경(추가)된 줄인지 확인합니다
+     */
+    public boolean isLineAdded(int newLineNumber) {
+        for (DiffHunk hunk : hunks) {
+            for (DiffLine line : hunk.getLines()) {
+                if (line.getType() == DiffLine.Type.ADDED && line.getNewLineNumber() == newLineNumber) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    void addHunk(DiffHunk hunk) {
+        hunks.add(hunk);
+    }
+
+    void incrementAdditions() {
+        additions++;
+    }
+
+    void incrementDeletions() {
+        deletions++;
+    }
+}
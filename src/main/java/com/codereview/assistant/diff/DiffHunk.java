@@ -0,0 +1,32 @@
+package com.codereview.assistant.diff;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * diff hunk (@@ -oldStart,oldCount +newStart,newCount @@)
+ */
+@Getter
+public class DiffHunk {
+
+    private final String header;
+    private final int oldStart;
+    private final int oldCount;
+    private final int newStart;
+    private final int newCount;
+    private final List<DiffLine> lines = new ArrayList<>();
+
+    public DiffHunk(String header, int oldStart, int oldCount, int newStart, int newCount) {
+        this.header = header;
+        this.oldStart = oldStart;
+        this.oldCount = oldCount;
+        this.newStart = newStart;
+        this.newCount = newCount;
+    }
+
+    void addLine(DiffLine line) {
+        lines.add(line);
+    }
+}
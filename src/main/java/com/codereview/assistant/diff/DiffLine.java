@@ -0,0 +1,47 @@
+package com.codereview.assistant.diff;
+
+import lombok.Getter;
+
+/**
+ * diff의 한 줄
+ *
+ * 원본 줄(접두사 포함)을 그대로 보관하고 내용은 필요할 때만 잘라내어 할당을 줄입니다.
+ */
+@Getter
+public class DiffLine {
+
+    public enum Type {
+        ADDED, REMOVED, CONTEXT, NO_NEWLINE
+    }
+
+    private final Type type;
+    private final String raw;
+
+    /** 이전 파일 기준 줄 번호 (추가된 줄이면 -1) */
+    private final int oldLineNumber;
+
+    /** 새 파일 기준 줄 번호 (삭제된 줄이면 -1) */
+    private final int newLineNumber;
+
+    /** 파일 patch 내 위치 (첫 @@ 다음 줄이 1) - GitHub 리뷰 코멘트 position 값 */
+    private final int position;
+
+    public DiffLine(Type type, String raw, int oldLineNumber, int newLineNumber, int position) {
+        this.type = type;
+        this.raw = raw;
+        this.oldLineNumber = oldLineNumber;
+        this.newLineNumber = newLineNumber;
+        this.position = position;
+    }
+
+    /**
+     * 접두사(+, -, 공백)를 제외한 줄 내용
+     */
+    public String getContent() {
+        return raw.isEmpty() ? raw : raw.substring(1);
+    }
+
+    public boolean isChange() {
+        return type == Type.ADDED || type == Type.REMOVED;
+    }
+}
@@ -0,0 +1,60 @@
+package com.codereview.assistant.diff;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 파싱된 unified diff (files → hunks → lines)
+ */
+@Getter
+public class DiffModel {
+
+    private final List<DiffFile> files;
+
+    public DiffModel(List<DiffFile> files) {
+        this.files = files;
+    }
+
+    public static DiffModel empty() {
+        return new DiffModel(Collections.emptyList());
+    }
+
+    public boolean isEmpty() {
+        return files.isEmpty();
+    }
+
+    public int getTotalAdditions() {
+        return files.stream().mapToInt(DiffFile::getAdditions).sum();
+    }
+
+    public int getTotalDeletions() {
+        return files.stream().mapToInt(DiffFile::getDeletions).sum();
+    }
+
+    public Optional<DiffFile> findFile(String path) {
+        if (path == null) {
+            return Optional.empty();
+        }
+        for (DiffFile file : files) {
+            if (path.equals(file.getPath()) || path.equals(file.getOldPath())) {
+                return Optional.of(file);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 여러 모델을 하나로 합칩니다 (파일별로 받아온 patch를 모을 때 사용)
+     */
+    public static DiffModel merge(List<DiffModel> models) {
+        List<DiffFile> merged = new ArrayList<>();
+        for (DiffModel model : models) {
+            merged.addAll(model.getFiles());
+        }
+        return new DiffModel(merged);
+    }
+}
@@ -0,0 +1,66 @@
+package com.codereview.assistant.diff;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * diff에 포함된 파일 확장자로 주 언어를 추정합니다
+ *
+ * 변경 줄 수가 가장 많은 언어를 선택하며, 알 수 없는 확장자는 무시합니다.
+ */
+public final class LanguageDetector {
+
+    public static final String UNKNOWN = "Unknown";
+
+    private static final Map<String, String> EXTENSION_LANGUAGES = Map.ofEntries(
+        Map.entry("java", "Java"),
+        Map.entry("kt", "Kotlin"),
+        Map.entry("py", "Python"),
+        Map.entry("js", "JavaScript"),
+        Map.entry("jsx", "JavaScript"),
+        Map.entry("mjs", "JavaScript"),
+        Map.entry("ts", "TypeScript"),
+        Map.entry("tsx", "TypeScript"),
+        Map.entry("go", "Go"),
+        Map.entry("rb", "Ruby"),
+        Map.entry("rs", "Rust"),
+        Map.entry("cpp", "C++"),
+        Map.entry("cc", "C++"),
+        Map.entry("hpp", "C++"),
+        Map.entry("cs", "C#"),
+        Map.entry("php", "PHP"),
+        Map.entry("swift", "Swift")
+    );
+
+    private LanguageDetector() {
+    }
+
+    public static String detect(DiffModel diff) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (DiffFile file : diff.getFiles()) {
+            String language = languageOf(file.getPath());
+            if (language != null) {
+                weights.merge(language, Math.max(1, file.getAdditions() + file.getDeletions()), Integer::sum);
+            }
+        }
+
+        return weights.entrySet().stream()
+            .max(Map.Entry.comparingByValue())
+            .map(Map.Entry::getKey)
+            .orElse(UNKNOWN);
+    }
+
+    /**
+     * 파일 경로의 확장자로 언어를 반환합니다 (알 수 없으면 null)
+     */
+    public static String languageOf(String path) {
+        if (path == null) {
+            return null;
+        }
+        int dot = path.lastIndexOf('.');
+        if (dot < 0 || dot < path.lastIndexOf('/')) {
+            return null;
+        }
+        return EXTENSION_LANGUAGES.get(path.substring(dot + 1).toLowerCase());
+    }
+}
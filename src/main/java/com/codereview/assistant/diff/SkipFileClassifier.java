@@ -0,0 +1,268 @@
+package com.codereview.assistant.diff;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 리뷰 대상에서 제외할 파일 경로 분류기
+ *
+ * 생성 시점에 규칙을 컴파일해 두고, 분류는 경로 길이에 비례하는 시간에 끝납니다.
+ * - 파일 이름 정확 일치 (package-lock.json, go.sum ...)
+ * - 확장자 테이블 (마지막 '.' 뒤 전체 일치 - ".a"가 ".java"에 걸리지 않음)
+ * - 디렉토리 세그먼트 trie (build/, node_modules/, src/generated/ ...)
+ * - glob 패턴 (레포지토리별 설정)
+ *
+ * 인스턴스는 불변이며 스레드 간 공유해도 안전합니다.
+ */
+public final class SkipFileClassifier {
+
+    private static final SkipFileClassifier DEFAULTS = builder()
+        // Lock files and dependency manifests
+        .fileNames("package-lock.json", "yarn.lock", "pnpm-lock.yaml", "composer.lock", "gemfile.lock",
+            "poetry.lock", "cargo.lock", "go.sum", "go.mod")
+        // Configuration and metadata files
+        .fileNames(".env.example", ".gitignore", ".dockerignore")
+        .extensions("lock", "sum", "cache", "snap")
+        // Generated files and build outputs
+        .directories("build", "dist", "target", ".gradle", "node_modules", "vendor", "__pycache__")
+        .extensions("min.js", "min.css", "bundle.js", "bundle.css")
+        // Binary and media files
+        .extensions("png", "jpg", "jpeg", "gif", "svg", "ico", "webp", "pdf",
+            "zip", "tar", "gz", "jar", "war", "ear", "exe", "dll", "so", "dylib", "a", "o")
+        // Test snapshots and fixtures
+        .directories("__snapshots__", "fixtures", "test-data")
+        .build();
+
+    private final Set<String> fileNames;
+    private final Set<String> extensions;
+    private final TrieNode directoryTrie;
+    private final List<Pattern> skipGlobs;
+    private final List<Pattern> reviewGlobs;
+
+    private SkipFileClassifier(Builder builder) {
+        this.fileNames = Set.copyOf(builder.fileNames);
+        this.extensions = Set.copyOf(builder.extensions);
+        this.directoryTrie = builder.directoryTrie;
+        this.skipGlobs = List.copyOf(builder.skipGlobs);
+        this.reviewGlobs = List.copyOf(builder.reviewGlobs);
+    }
+
+    /**
+     * 기본 제외 규칙 (lock 파일, 빌드 산출물, 바이너리/미디어, 스냅샷)
+     */
+    public static SkipFileClassifier defaults() {
+        return DEFAULTS;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 현재 규칙을 시작점으로 하는 빌더 (레포지토리별 규칙 추가용)
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.fileNames.addAll(fileNames);
+        builder.extensions.addAll(extensions);
+        builder.directoryTrie = directoryTrie.copy();
+        builder.skipGlobs.addAll(skipGlobs);
+        builder.reviewGlobs.addAll(reviewGlobs);
+        return builder;
+    }
+
+    /**
+     * 경로가 리뷰 대상에서 제외되어야 하는지 판단합니다
+     *
+     * @param path 저장소 루트 기준 상대 경로 (예: "src/main/App.java")
+     */
+    public boolean shouldSkip(String path) {
+        if (path == null || path.isEmpty()) {
+            return true;
+        }
+
+        // Explicit review globs win over every skip rule
+        for (Pattern glob : reviewGlobs) {
+            if (glob.matcher(path).matches()) {
+                return false;
+            }
+        }
+
+        String lowerPath = path.toLowerCase(Locale.ROOT);
+        int nameStart = lowerPath.lastIndexOf('/') + 1;
+        String fileName = lowerPath.substring(nameStart);
+
+        if (fileNames.contains(fileName) || matchesExtension(fileName) || matchesDirectory(lowerPath, nameStart)) {
+            return true;
+        }
+
+        for (Pattern glob : skipGlobs) {
+            if (glob.matcher(path).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * "app.min.js" -> "min.js", "js" 순서로 확장자 테이블 조회 (선행 '.'만 있는 dotfile은 제외)
+     */
+    private boolean matchesExtension(String fileName) {
+        for (int dot = fileName.indexOf('.', 1); dot >= 0; dot = fileName.indexOf('.', dot + 1)) {
+            if (extensions.contains(fileName.substring(dot + 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 디렉토리 세그먼트를 순회하며 trie에 등록된 경로 조각이 포함되어 있는지 확인
+     */
+    private boolean matchesDirectory(String lowerPath, int nameStart) {
+        if (nameStart == 0 || directoryTrie.children.isEmpty()) {
+            return false;
+        }
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < nameStart; i++) {
+            if (lowerPath.charAt(i) == '/') {
+                if (i > start) {
+                    segments.add(lowerPath.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+
+        for (int i = 0; i < segments.size(); i++) {
+            TrieNode node = directoryTrie;
+            for (int j = i; j < segments.size(); j++) {
+                node = node.children.get(segments.get(j));
+                if (node == null) {
+                    break;
+                }
+                if (node.terminal) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * glob 패턴을 정규식으로 컴파일합니다
+     * '/'가 뒤따르는 "**" 는 0개 이상의 디렉토리, "*" 는 '/'를 제외한 임의 문자열, "?" 는 한 글자
+     */
+    static Pattern compileGlob(String glob) {
+        StringBuilder regex = new StringBuilder();
+        int i = 0;
+        while (i < glob.length()) {
+            char c = glob.charAt(i);
+            if (c == '*') {
+                if (i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+                    if (i + 2 < glob.length() && glob.charAt(i + 2) == '/') {
+                        regex.append("(?:.*/)?");
+                        i += 3;
+                    } else {
+                        regex.append(".*");
+                        i += 2;
+                    }
+                    continue;
+                }
+                regex.append("[^/]*");
+            } else if (c == '?') {
+                regex.append("[^/]");
+            } else if ("\\.[]{}()+-^$|".indexOf(c) >= 0) {
+                regex.append('\\').append(c);
+            } else {
+                regex.append(c);
+            }
+            i++;
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private static final class TrieNode {
+        private final Map<String, TrieNode> children = new HashMap<>();
+        private boolean terminal;
+
+        private TrieNode copy() {
+            TrieNode copy = new TrieNode();
+            copy.terminal = terminal;
+            children.forEach((segment, child) -> copy.children.put(segment, child.copy()));
+            return copy;
+        }
+    }
+
+    public static final class Builder {
+
+        private final Set<String> fileNames = new HashSet<>();
+        private final Set<String> extensions = new HashSet<>();
+        private TrieNode directoryTrie = new TrieNode();
+        private final List<Pattern> skipGlobs = new ArrayList<>();
+        private final List<Pattern> reviewGlobs = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder fileNames(String... names) {
+            for (String name : names) {
+                fileNames.add(name.toLowerCase(Locale.ROOT));
+            }
+            return this;
+        }
+
+        /**
+         * 확장자 등록 (선행 '.' 없이, 예: "png", "min.js")
+         */
+        public Builder extensions(String... exts) {
+            for (String ext : exts) {
+                String normalized = ext.startsWith(".") ? ext.substring(1) : ext;
+                extensions.add(normalized.toLowerCase(Locale.ROOT));
+            }
+            return this;
+        }
+
+        /**
+         * 디렉토리 등록 - 경로 어디에 나타나도 일치 (예: "node_modules", "src/generated")
+         */
+        public Builder directories(String... dirs) {
+            for (String dir : dirs) {
+                TrieNode node = directoryTrie;
+                for (String segment : dir.toLowerCase(Locale.ROOT).split("/")) {
+                    if (!segment.isEmpty()) {
+                        node = node.children.computeIfAbsent(segment, s -> new TrieNode());
+                    }
+                }
+                if (node != directoryTrie) {
+                    node.terminal = true;
+                }
+            }
+            return this;
+        }
+
+        public Builder skipGlobs(Collection<String> globs) {
+            globs.forEach(glob -> skipGlobs.add(compileGlob(glob)));
+            return this;
+        }
+
+        /**
+         * 기본 제외 규칙보다 우선하여 항상 리뷰할 경로 (예: "vendor/internal/**")
+         */
+        public Builder reviewGlobs(Collection<String> globs) {
+            globs.forEach(glob -> reviewGlobs.add(compileGlob(glob)));
+            return this;
+        }
+
+        public SkipFileClassifier build() {
+            return new SkipFileClassifier(this);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.codereview.assistant.diff;
+
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 단일 패스 unified diff 파서
+ *
+ * Reader/InputStream에서 한 줄씩 읽어 DiffModel(files → hunks → lines)을 만듭니다.
+ * 전체 diff 문자열을 split하지 않으므로 수 MB diff도 줄 단위 할당만 발생하며,
+ * hunk 헤더의 줄 수를 기준으로 본문 범위를 판단해 "--- " 로 시작하는 삭제 줄도 헤더로 오인하지 않습니다.
+ */
+@Component
+public class UnifiedDiffParser {
+
+    private static final String DIFF_HEADER = "diff --git ";
+    private static final String DEV_NULL = "/dev/null";
+
+    public DiffModel parse(String diff) {
+        if (diff == null || diff.isEmpty()) {
+            return DiffModel.empty();
+        }
+        return parse(new StringReader(diff));
+    }
+
+    public DiffModel parse(InputStream inputStream) {
+        return parse(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    public DiffModel parse(Reader reader) {
+        try {
+            BufferedReader in = reader instanceof BufferedReader br ? br : new BufferedReader(reader, 16 * 1024);
+            State state = new State();
+            String line;
+            while ((line = in.readLine()) != null) {
+                state.accept(line);
+            }
+            return new DiffModel(state.finish());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read diff", e);
+        }
+    }
+
+    /**
+     * "diff --git" 헤더 없이 hunk만 있는 파일 단위 patch를 파싱합니다 (GitHub/GitLab API 응답 형식)
+     */
+    public DiffFile parsePatch(String oldPath, String newPath, String patch) {
+        State state = new State();
+        DiffFile file = state.startFile(oldPath, newPath);
+        if (patch != null && !patch.isEmpty()) {
+            try (BufferedReader in = new BufferedReader(new StringReader(patch))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    state.accept(line);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read patch", e);
+            }
+        }
+        state.finish();
+        return file;
+    }
+
+    /**
+     * 파서 상태 - 파일/hunk 경계와 현재 줄 번호를 추적합니다
+     */
+    private static final class State {
+
+        private final List<DiffFile> files = new ArrayList<>();
+        private DiffFile file;
+        private DiffHunk hunk;
+        private int oldLine;
+        private int newLine;
+        private int oldRemaining;
+        private int newRemaining;
+        private int position;
+
+        void accept(String line) {
+            if (hunk != null && (oldRemaining > 0 || newRemaining > 0) && isHunkBody(line)) {
+                acceptHunkLine(line);
+                return;
+            }
+
+            if (line.startsWith(DIFF_HEADER)) {
+                hunk = null;
+                String[] paths = parseGitHeaderPaths(line);
+                startFile(paths[0], paths[1]);
+                return;
+            }
+
+            if (line.startsWith("@@")) {
+                if (file == null) {
+                    startFile(null, null);
+                }
+                startHunk(line);
+                return;
+            }
+
+            if (line.startsWith("\\")) {
+                // "\ No newline at end of file" - 이전 줄에 대한 표시
+                if (hunk != null) {
+                    hunk.addLine(new DiffLine(DiffLine.Type.NO_NEWLINE, line, -1, -1, ++position));
+                }
+                return;
+            }
+
+            if (file == null) {
+                return;
+            }
+
+            if (hunk == null) {
+                acceptFileHeader(line);
+            }
+            // hunk 범위를 벗어난 나머지 줄(빈 줄 등)은 무시
+        }
+
+        DiffFile startFile(String oldPath, String newPath) {
+            file = new DiffFile();
+            file.setOldPath(oldPath);
+            file.setNewPath(newPath);
+            files.add(file);
+            hunk = null;
+            position = 0;
+            return file;
+        }
+
+        List<DiffFile> finish() {
+            hunk = null;
+            return files;
+        }
+
+        private void acceptFileHeader(String line) {
+            if (line.startsWith("--- ")) {
+                String path = stripPrefix(line.substring(4));
+                if (DEV_NULL.equals(path)) {
+                    file.setStatus(DiffFile.Status.ADDED);
+                } else if (file.getOldPath() == null) {
+                    file.setOldPath(path);
+                }
+            } else if (line.startsWith("+++ ")) {
+                String path = stripPrefix(line.substring(4));
+                if (DEV_NULL.equals(path)) {
+                    file.setStatus(DiffFile.Status.DELETED);
+                    file.setNewPath(DEV_NULL);
+                } else {
+                    file.setNewPath(path);
+                }
+            } else if (line.startsWith("new file mode")) {
+                file.setStatus(DiffFile.Status.ADDED);
+            } else if (line.startsWith("deleted file mode")) {
+                file.setStatus(DiffFile.Status.DELETED);
+            } else if (line.startsWith("rename from ")) {
+                file.setStatus(DiffFile.Status.RENAMED);
+                file.setOldPath(line.substring("rename from ".length()));
+            } else if (line.startsWith("rename to ")) {
+                file.setStatus(DiffFile.Status.RENAMED);
+                file.setNewPath(line.substring("rename to ".length()));
+            } else if (line.startsWith("Binary files ") || line.startsWith("GIT binary patch")) {
+                file.setBinary(true);
+            }
+        }
+
+        private void startHunk(String line) {
+            int[] range = parseHunkRange(line);
+            hunk = new DiffHunk(line, range[0], range[1], range[2], range[3]);
+            file.addHunk(hunk);
+            oldLine = range[0];
+            newLine = range[2];
+            oldRemaining = range[1];
+            newRemaining = range[3];
+            // 첫 hunk 헤더가 position 0, 이후 hunk 헤더도 position을 하나 차지
+            if (file.getHunks().size() > 1) {
+                position++;
+            }
+        }
+
+        private void acceptHunkLine(String line) {
+            char prefix = line.isEmpty() ? ' ' : line.charAt(0);
+            switch (prefix) {
+                case '+' -> {
+                    hunk.addLine(new DiffLine(DiffLine.Type.ADDED, line, -1, newLine++, ++position));
+                    newRemaining--;
+                    file.incrementAdditions();
+                }
+                case '-' -> {
+                    hunk.addLine(new DiffLine(DiffLine.Type.REMOVED, line, oldLine++, -1, ++position));
+                    oldRemaining--;
+                    file.incrementDeletions();
+                }
+                case '\\' -> hunk.addLine(new DiffLine(DiffLine.Type.NO_NEWLINE, line, -1, -1, ++position));
+                default -> {
+                    // 빈 줄은 공백 하나가 잘린 context 줄로 취급
+                    hunk.addLine(new DiffLine(DiffLine.Type.CONTEXT, line, oldLine++, newLine++, ++position));
+                    oldRemaining--;
+                    newRemaining--;
+                }
+            }
+        }
+
+        private boolean isHunkBody(String line) {
+            if (line.isEmpty()) {
+                return true;
+            }
+            char c = line.charAt(0);
+            return c == ' ' || c == '+' || c == '-' || c == '\\';
+        }
+
+        /**
+         * "diff --git a/foo b/foo" 에서 경로를 추출합니다
+         */
+        private static String[] parseGitHeaderPaths(String line) {
+            String rest = line.substring(DIFF_HEADER.length());
+            int split = rest.lastIndexOf(" b/");
+            if (split < 0) {
+                return new String[]{null, null};
+            }
+            return new String[]{stripPrefix(rest.substring(0, split)), rest.substring(split + 3)};
+        }
+
+        private static String stripPrefix(String path) {
+            // "--- a/foo\t2024-01-01" 처럼 타임스탬프가 붙는 경우 제거
+            int tab = path.indexOf('\t');
+            if (tab >= 0) {
+                path = path.substring(0, tab);
+            }
+            if (path.startsWith("a/") || path.startsWith("b/")) {
+                return path.substring(2);
+            }
+            return path;
+        }
+
+        /**
+         * "@@ -l,s +l,s @@" 를 정규식 없이 파싱합니다. 개수가 생략되면 1
+         *
+         * @return {oldStart, oldCount, newStart, newCount}
+         */
+        private static int[] parseHunkRange(String line) {
+            int[] range = {0, 1, 0, 1};
+            int i = line.indexOf('-');
+            if (i < 0) {
+                return range;
+            }
+            i = readRange(line, i + 1, range, 0);
+            int plus = line.indexOf('+', i);
+            if (plus >= 0) {
+                readRange(line, plus + 1, range, 2);
+            }
+            return range;
+        }
+
+        private static int readRange(String line, int i, int[] range, int offset) {
+            int start = 0;
+            while (i < line.length() && Character.isDigit(line.charAt(i))) {
+                start = start * 10 + (line.charAt(i++) - '0');
+            }
+            range[offset] = start;
+            if (i < line.length() && line.charAt(i) == ',') {
+                i++;
+                int count = 0;
+                while (i < line.length() && Character.isDigit(line.charAt(i))) {
+                    count = count * 10 + (line.charAt(i++) - '0');
+                }
+                range[offset + 1] = count;
+            }
+            return i;
+        }
+    }
+}
@@ -44,6 +44,13 @@ public class PullRequest {
     @Builder.Default
     private String status = "open";
 
+    // 웹훅으로 받은 최신 head 커밋 - 순서가 뒤바뀐 이전 커밋의 이벤트는 리뷰하지 않음
+    @Column(name = "head_sha", length = 40)
+    private String headSha;
+
+    @Column(name = "head_updated_at")
+    private LocalDateTime headUpdatedAt;
+
     @OneToMany(mappedBy = "pullRequest", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Review> reviews = new ArrayList<>();
@@ -31,6 +31,10 @@ public class Review {
     @Column(name = "commit_sha", length = 40, nullable = false)
     private String commitSha;
 
+    /** 증분 리뷰의 기준 커밋 (이전에 완료된 리뷰의 커밋, 전체 리뷰면 null) */
+    @Column(name = "base_commit_sha", length = 40)
+    private String baseCommitSha;
+
     @Column(name = "review_status", length = 50)
     @Builder.Default
     private String reviewStatus = "pending";
@@ -49,6 +53,16 @@ public class Review {
     @Column(name = "tokens_used")
     private Integer tokensUsed;
 
+    @Column(name = "prompt_tokens")
+    private Integer promptTokens;
+
+    @Column(name = "completion_tokens")
+    private Integer completionTokens;
+
+    /** 작업 큐에서 대기한 시간 (큐를 거치지 않았으면 null) */
+    @Column(name = "queue_wait_ms")
+    private Integer queueWaitMs;
+
     @Column(name = "processing_time_ms")
     private Integer processingTimeMs;
 
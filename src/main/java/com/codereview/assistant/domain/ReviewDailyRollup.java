@@ -0,0 +1,51 @@
+package com.codereview.assistant.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 날짜 x Repository별 완료된 리뷰 집계
+ *
+ * 리뷰가 완료될 때 ReviewRollupService가 증분 갱신하고, 백필/보정 작업이 reviews에서 다시 계산합니다.
+ * 대시보드 트렌드/활동/Repository 통계는 reviews 대신 이 테이블만 읽습니다.
+ */
+@Entity
+@Table(name = "review_daily_rollup")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReviewDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Column(name = "repository_id", nullable = false)
+    private Long repositoryId;
+
+    @Column(name = "review_count", nullable = false)
+    private Integer reviewCount;
+
+    @Column(name = "comment_count", nullable = false)
+    private Integer commentCount;
+
+    @Column(name = "error_count", nullable = false)
+    private Integer errorCount;
+
+    @Column(name = "tokens_used", nullable = false)
+    private Long tokensUsed;
+
+    @Column(name = "processing_time_ms_sum", nullable = false)
+    private Long processingTimeMsSum;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,40 @@
+package com.codereview.assistant.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 완료된 리뷰의 파이프라인 단계별 소요 시간
+ *
+ * stage 값은 ReviewMetrics의 STAGE_* 상수와 같습니다.
+ */
+@Entity
+@Table(name = "review_stage_timings")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReviewStageTiming {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "review_id", nullable = false)
+    private Review review;
+
+    @Column(length = 50, nullable = false)
+    private String stage;
+
+    @Column(name = "duration_ms", nullable = false)
+    private Integer durationMs;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
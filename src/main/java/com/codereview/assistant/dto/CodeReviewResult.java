@@ -16,6 +16,9 @@ public class CodeReviewResult {
     private List<ReviewComment> comments;
     private String summary;
     private int tokensUsed;
+    private int promptTokens;
+    private int completionTokens;
+    private String model; // 리뷰에 사용된 모델 (청크별로 다르면 쉼표로 구분)
 
     @Data
     @Builder
@@ -0,0 +1,44 @@
+package com.codereview.assistant.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대시보드 실시간 이벤트 (SSE "review" 이벤트의 data)
+ *
+ * 리뷰 상태 변경을 알리며, 완료된 리뷰는 전체 통계에 더해질 증분(delta)을 함께 담습니다.
+ * 여러 노드에 연결된 브라우저에 전달되도록 RabbitMQ fanout exchange로 중계됩니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardEvent {
+
+    private Long reviewId;
+    private Long pullRequestId;
+    private String commitSha;
+    /** pending(대기), in_progress, completed, failed, superseded */
+    private String status;
+    /** completed일 때만 */
+    private StatisticsDelta delta;
+    private LocalDateTime occurredAt;
+    /** 이벤트를 발행한 노드 (중계받은 노드만 로컬 캐시를 비우는 데 사용) */
+    private String origin;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StatisticsDelta {
+        private Integer reviews;
+        private Integer comments;
+        private Integer errors;
+        private Integer tokensUsed;
+        private Integer processingTimeMs;
+    }
+}
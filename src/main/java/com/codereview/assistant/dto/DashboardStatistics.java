@@ -31,6 +31,8 @@ public class DashboardStatistics {
         private Double averageCommentsPerReview;
         private Integer averageProcessingTimeMs;
         private Integer totalTokensUsed;
+        private Integer totalPromptTokens;
+        private Integer totalCompletionTokens;
     }
 
     @Data
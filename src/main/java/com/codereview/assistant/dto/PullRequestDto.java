@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
+import java.time.OffsetDateTime;
+
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class PullRequestDto {
@@ -25,6 +27,9 @@ public class PullRequestDto {
     @JsonProperty("diff_url")
     private String diffUrl;
 
+    @JsonProperty("updated_at")
+    private OffsetDateTime updatedAt;
+
     @Data
     @JsonIgnoreProperties(ignoreUnknown = true)
     public static class UserDto {
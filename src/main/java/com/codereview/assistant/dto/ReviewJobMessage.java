@@ -0,0 +1,28 @@
+package com.codereview.assistant.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 작업 큐 메시지
+ *
+ * RabbitMQ를 통해 웹훅 수신 노드에서 리뷰 워커로 전달됩니다.
+ * 엔티티 대신 식별자만 담아 워커가 자체 트랜잭션에서 다시 조회하도록 합니다.
+ * 리뷰 레코드는 (PR, 커밋) 조합으로 찾으므로 리뷰 ID는 담지 않습니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewJobMessage {
+
+    private Long pullRequestId;
+    private Long repositoryId;
+    private Integer prNumber;
+    private String commitSha;
+    private LocalDateTime enqueuedAt;
+}
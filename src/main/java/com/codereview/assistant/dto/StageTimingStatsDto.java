@@ -0,0 +1,25 @@
+package com.codereview.assistant.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리뷰 파이프라인 단계별 소요 시간 백분위수 (밀리초)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StageTimingStatsDto {
+
+    private String repository; // owner/name (저장소별 조회에서만)
+    private String stage;
+    private Long count;
+    private Long p50Ms;
+    private Long p90Ms;
+    private Long p95Ms;
+    private Long p99Ms;
+    private Long maxMs;
+}
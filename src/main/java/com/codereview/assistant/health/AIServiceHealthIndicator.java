@@ -18,7 +18,8 @@ public class AIServiceHealthIndicator implements HealthIndicator {
     @Value("${spring.ai.openai.api-key:}")
     private String apiKey;
 
-    @Value("${spring.ai.openai.chat.options.model:gpt-4-turbo-preview}")
+    // 리뷰 기본 모델 (ModelRouter와 같은 설정)
+    @Value("${app.review.routing.default-model:gpt-4o-mini}")
     private String model;
 
     @Override
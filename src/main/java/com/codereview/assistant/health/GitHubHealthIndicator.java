@@ -1,9 +1,9 @@
 package com.codereview.assistant.health;
 
+import com.codereview.assistant.service.GitHubClientFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.kohsuke.github.GitHub;
-import org.kohsuke.github.GitHubBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
@@ -19,6 +19,8 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class GitHubHealthIndicator implements HealthIndicator {
 
+    private final GitHubClientFactory gitHubClientFactory;
+
     @Value("${github.app.id:}")
     private String appId;
 
@@ -35,8 +37,8 @@ public class GitHubHealthIndicator implements HealthIndicator {
                     .build();
             }
 
-            // GitHub API 기본 연결 테스트
-            GitHub github = new GitHubBuilder().build();
+            // GitHub API 기본 연결 테스트 (공유 클라이언트 재사용)
+            GitHub github = gitHubClientFactory.getClient(null);
 
             // Rate limit 정보 가져오기
             var rateLimit = github.getRateLimit();
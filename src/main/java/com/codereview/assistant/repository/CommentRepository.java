@@ -2,10 +2,40 @@ package com.codereview.assistant.repository;
 
 import com.codereview.assistant.domain.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findByReviewId(Long reviewId);
+
+    /**
+     * 리뷰의 코멘트를 모두 삭제 (실패/superseded 리뷰가 스트리밍 중 저장한 코멘트, 재등록 전 정리용)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.review.id = :reviewId")
+    int deleteByReviewId(@Param("reviewId") Long reviewId);
+
+    /**
+     * Severity별 코멘트 수 (엔티티를 읽지 않고 DB에서 집계)
+     */
+    @Query("SELECT c.severity AS name, COUNT(c) AS total FROM Comment c GROUP BY c.severity")
+    List<NamedCount> countBySeverity();
+
+    /**
+     * 카테고리별 코멘트 수
+     */
+    @Query("SELECT c.category AS name, COUNT(c) AS total FROM Comment c GROUP BY c.category")
+    List<NamedCount> countByCategory();
+
+    interface NamedCount {
+        String getName();
+
+        Long getTotal();
+    }
 }
@@ -1,8 +1,14 @@
 package com.codereview.assistant.repository;
 
 import com.codereview.assistant.domain.PullRequest;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +17,29 @@ public interface PullRequestRepository extends JpaRepository<PullRequest, Long>
     Optional<PullRequest> findByRepositoryIdAndPrNumber(Long repositoryId, Integer prNumber);
 
     List<PullRequest> findByRepositoryId(Long repositoryId);
+
+    @Query("SELECT pr FROM PullRequest pr JOIN FETCH pr.repository WHERE pr.id = :id")
+    Optional<PullRequest> findWithRepositoryById(@Param("id") Long id);
+
+    /**
+     * 더 최근(updated_at 기준) 웹훅일 때만 head 커밋을 갱신
+     *
+     * GitHub는 웹훅 전달 순서를 보장하지 않으므로, 늦게 도착하거나 재전달된 이전 커밋의 이벤트가
+     * head를 되돌리지 않도록 합니다.
+     *
+     * @return 갱신된 행 수 (0이면 이미 더 최근 head가 기록됨)
+     */
+    @Modifying
+    @Query("UPDATE PullRequest pr SET pr.headSha = :headSha, pr.headUpdatedAt = :updatedAt " +
+           "WHERE pr.id = :id AND (pr.headUpdatedAt IS NULL OR pr.headUpdatedAt <= :updatedAt)")
+    int advanceHead(@Param("id") Long id,
+                    @Param("headSha") String headSha,
+                    @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * PR 행을 잠그고 조회 - 같은 PR의 리뷰 등록과 head 갱신을 직렬화
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT pr FROM PullRequest pr WHERE pr.id = :id")
+    Optional<PullRequest> findForUpdateById(@Param("id") Long id);
 }
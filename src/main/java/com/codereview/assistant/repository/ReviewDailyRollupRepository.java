@@ -0,0 +1,116 @@
+package com.codereview.assistant.repository;
+
+import com.codereview.assistant.domain.ReviewDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReviewDailyRollupRepository extends JpaRepository<ReviewDailyRollup, Long> {
+
+    /**
+     * 완료된 리뷰 하나를 해당 날짜/Repository 행에 더합니다 (행이 없으면 생성)
+     *
+     * 동시에 완료된 리뷰끼리 덮어쓰지 않도록 읽지 않고 DB에서 원자적으로 더합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO review_daily_rollup (rollup_date, repository_id, review_count, comment_count, " +
+                   "error_count, tokens_used, processing_time_ms_sum, updated_at) " +
+                   "VALUES (:date, :repositoryId, 1, :comments, :errors, :tokens, :processingTimeMs, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (rollup_date, repository_id) DO UPDATE SET " +
+                   "review_count = review_daily_rollup.review_count + 1, " +
+                   "comment_count = review_daily_rollup.comment_count + EXCLUDED.comment_count, " +
+                   "error_count = review_daily_rollup.error_count + EXCLUDED.error_count, " +
+                   "tokens_used = review_daily_rollup.tokens_used + EXCLUDED.tokens_used, " +
+                   "processing_time_ms_sum = review_daily_rollup.processing_time_ms_sum + EXCLUDED.processing_time_ms_sum, " +
+                   "updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int increment(@Param("date") LocalDate date,
+                  @Param("repositoryId") Long repositoryId,
+                  @Param("comments") int comments,
+                  @Param("errors") int errors,
+                  @Param("tokens") long tokens,
+                  @Param("processingTimeMs") long processingTimeMs);
+
+    @Modifying
+    @Query("DELETE FROM ReviewDailyRollup r WHERE r.rollupDate >= :from AND r.rollupDate <= :to")
+    int deleteByRollupDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * reviews에서 기간 [from, to) 의 집계를 다시 계산해 넣습니다
+     *
+     * 기간의 행을 먼저 지우더라도 그 사이 증분 반영이 같은 키로 행을 만들 수 있으므로 덮어씁니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO review_daily_rollup (rollup_date, repository_id, review_count, comment_count, " +
+                   "error_count, tokens_used, processing_time_ms_sum, updated_at) " +
+                   "SELECT CAST(r.created_at AS DATE), pr.repository_id, COUNT(*), " +
+                   "COALESCE(SUM(r.total_comments), 0), " +
+                   "COALESCE(SUM(CAST(r.severity_counts ->> 'error' AS INTEGER)), 0), " +
+                   "COALESCE(SUM(r.tokens_used), 0), " +
+                   "COALESCE(SUM(r.processing_time_ms), 0), " +
+                   "CURRENT_TIMESTAMP " +
+                   "FROM reviews r JOIN pull_requests pr ON pr.id = r.pull_request_id " +
+                   "WHERE r.review_status = 'completed' AND r.created_at >= :from AND r.created_at < :to " +
+                   "GROUP BY CAST(r.created_at AS DATE), pr.repository_id " +
+                   "ON CONFLICT (rollup_date, repository_id) DO UPDATE SET " +
+                   "review_count = EXCLUDED.review_count, " +
+                   "comment_count = EXCLUDED.comment_count, " +
+                   "error_count = EXCLUDED.error_count, " +
+                   "tokens_used = EXCLUDED.tokens_used, " +
+                   "processing_time_ms_sum = EXCLUDED.processing_time_ms_sum, " +
+                   "updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    int rebuildFromReviews(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * 집계 재계산용 트랜잭션 advisory lock을 시도합니다 (트랜잭션이 끝나면 자동 해제)
+     *
+     * @return 얻었으면 true, 다른 노드가 재계산 중이면 false
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryRebuildLock(@Param("key") long key);
+
+    /**
+     * 기간 내 날짜별 합계 (Repository 합산)
+     */
+    @Query("SELECT r.rollupDate AS date, SUM(r.reviewCount) AS reviews, SUM(r.commentCount) AS comments, " +
+           "SUM(r.errorCount) AS errors " +
+           "FROM ReviewDailyRollup r WHERE r.rollupDate >= :from " +
+           "GROUP BY r.rollupDate")
+    List<DailyTotals> sumByDateFrom(@Param("from") LocalDate from);
+
+    @Query("SELECT COALESCE(SUM(r.reviewCount), 0) FROM ReviewDailyRollup r WHERE r.rollupDate >= :from")
+    long sumReviewCountFrom(@Param("from") LocalDate from);
+
+    /**
+     * Repository별 전체 기간 합계
+     */
+    @Query("SELECT r.repositoryId AS repositoryId, SUM(r.reviewCount) AS reviews, SUM(r.commentCount) AS comments " +
+           "FROM ReviewDailyRollup r GROUP BY r.repositoryId")
+    List<RepositoryTotals> sumByRepository();
+
+    interface DailyTotals {
+        LocalDate getDate();
+
+        Long getReviews();
+
+        Long getComments();
+
+        Long getErrors();
+    }
+
+    interface RepositoryTotals {
+        Long getRepositoryId();
+
+        Long getReviews();
+
+        Long getComments();
+    }
+}
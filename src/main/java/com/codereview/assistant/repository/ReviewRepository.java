@@ -1,9 +1,16 @@
 package com.codereview.assistant.repository;
 
 import com.codereview.assistant.domain.Review;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +22,96 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     List<Review> findByReviewStatus(String reviewStatus);
 
+    Optional<Review> findFirstByPullRequestIdAndReviewStatusOrderByCreatedAtDesc(Long pullRequestId, String reviewStatus);
+
     List<Review> findByCreatedAtAfter(LocalDateTime createdAt);
 
     Optional<Review> findFirstByOrderByCreatedAtDesc();
+
+    /**
+     * 최근 리뷰를 PR, Repository와 함께 한 번의 쿼리로 조회 (행마다 지연 로딩 쿼리가 나가지 않도록 fetch join)
+     */
+    @Query("SELECT r FROM Review r JOIN FETCH r.pullRequest pr JOIN FETCH pr.repository " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findRecentWithPullRequest(Pageable pageable);
+
+    /**
+     * 리뷰 상세 화면용 - PR, Repository, 코멘트를 함께 조회
+     */
+    @EntityGraph(attributePaths = {"pullRequest.repository", "comments"})
+    Optional<Review> findDetailById(Long id);
+
+    @Query("SELECT MIN(r.createdAt) FROM Review r")
+    Optional<LocalDateTime> findEarliestCreatedAt();
+
+    /**
+     * 상태별 리뷰 집계 (엔티티를 읽지 않고 DB에서 평균/합계 계산, 대상이 없으면 평균/합계는 null)
+     */
+    @Query("SELECT COUNT(r) AS reviewCount, " +
+           "AVG(r.totalComments) AS averageComments, " +
+           "AVG(r.processingTimeMs) AS averageProcessingTimeMs, " +
+           "SUM(r.tokensUsed) AS totalTokens, " +
+           "SUM(r.promptTokens) AS totalPromptTokens, " +
+           "SUM(r.completionTokens) AS totalCompletionTokens " +
+           "FROM Review r WHERE r.reviewStatus = :status")
+    ReviewAggregate aggregateByStatus(@Param("status") String status);
+
+    /**
+     * 영속성 컨텍스트를 거치지 않고 현재 커밋된 상태만 조회 (진행 중 리뷰의 취소 여부 확인용)
+     */
+    @Query("SELECT r.reviewStatus FROM Review r WHERE r.id = :id")
+    Optional<String> findStatusById(@Param("id") Long id);
+
+    /**
+     * 같은 PR의 이전 커밋에 대한 대기/진행 중 리뷰를 superseded로 전환
+     */
+    @Modifying
+    @Query("UPDATE Review r SET r.reviewStatus = 'superseded', r.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE r.pullRequest.id = :pullRequestId AND r.commitSha <> :commitSha " +
+           "AND r.reviewStatus IN :statuses")
+    int markSuperseded(@Param("pullRequestId") Long pullRequestId,
+                       @Param("commitSha") String commitSha,
+                       @Param("statuses") Collection<String> statuses);
+
+    /**
+     * 대기(pending) 중일 때만 in_progress로 전환
+     *
+     * 조회 이후 들어온 markSuperseded를 덮어쓰지 않고, 재전달되거나 중복 실행된 작업이
+     * 이미 진행 중이거나 완료된 리뷰를 다시 실행하지 않도록 합니다.
+     *
+     * @return 전환된 행 수 (0이면 superseded 되었거나 다른 워커가 이미 처리)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Review r SET r.reviewStatus = 'in_progress', r.aiModel = :aiModel, " +
+           "r.queueWaitMs = COALESCE(:queueWaitMs, r.queueWaitMs), r.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE r.id = :id AND r.reviewStatus = 'pending'")
+    int markInProgress(@Param("id") Long id,
+                       @Param("aiModel") String aiModel,
+                       @Param("queueWaitMs") Integer queueWaitMs);
+
+    /**
+     * 대기(pending) 중일 때만 failed로 전환 - 큐/실행기에 넣지 못한 작업용
+     *
+     * 이미 워커가 가져간(in_progress) 리뷰는 건드리지 않으며, failed 리뷰는 다음 웹훅에서 다시 등록됩니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Review r SET r.reviewStatus = 'failed', r.errorMessage = :errorMessage, " +
+           "r.updatedAt = CURRENT_TIMESTAMP WHERE r.id = :id AND r.reviewStatus = 'pending'")
+    int markFailedIfPending(@Param("id") Long id, @Param("errorMessage") String errorMessage);
+
+    interface ReviewAggregate {
+        Long getReviewCount();
+
+        Double getAverageComments();
+
+        Double getAverageProcessingTimeMs();
+
+        Long getTotalTokens();
+
+        Long getTotalPromptTokens();
+
+        Long getTotalCompletionTokens();
+    }
 }
@@ -0,0 +1,81 @@
+package com.codereview.assistant.repository;
+
+import com.codereview.assistant.domain.ReviewStageTiming;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReviewStageTimingRepository extends JpaRepository<ReviewStageTiming, Long> {
+
+    List<ReviewStageTiming> findByReviewId(Long reviewId);
+
+    /**
+     * 리뷰의 단계별 소요 시간을 모두 삭제 (UNIQUE(review_id, stage) - 다시 큐에 넣기 전 정리용)
+     */
+    @Modifying
+    @Query("DELETE FROM ReviewStageTiming t WHERE t.review.id = :reviewId")
+    int deleteByReviewId(@Param("reviewId") Long reviewId);
+
+    /**
+     * 기간 내 단계별 소요 시간 백분위수 (PostgreSQL percentile_cont)
+     */
+    @Query(value = "SELECT t.stage AS stage, COUNT(*) AS count, " +
+                   "percentile_cont(0.5) WITHIN GROUP (ORDER BY t.duration_ms) AS p50, " +
+                   "percentile_cont(0.9) WITHIN GROUP (ORDER BY t.duration_ms) AS p90, " +
+                   "percentile_cont(0.95) WITHIN GROUP (ORDER BY t.duration_ms) AS p95, " +
+                   "percentile_cont(0.99) WITHIN GROUP (ORDER BY t.duration_ms) AS p99, " +
+                   "MAX(t.duration_ms) AS max " +
+                   "FROM review_stage_timings t " +
+                   "WHERE t.created_at >= :since " +
+                   "GROUP BY t.stage " +
+                   "ORDER BY t.stage",
+           nativeQuery = true)
+    List<StagePercentiles> findStagePercentiles(@Param("since") LocalDateTime since);
+
+    /**
+     * 기간 내 저장소별, 단계별 소요 시간 백분위수
+     */
+    @Query(value = "SELECT repo.owner || '/' || repo.name AS repository, t.stage AS stage, COUNT(*) AS count, " +
+                   "percentile_cont(0.5) WITHIN GROUP (ORDER BY t.duration_ms) AS p50, " +
+                   "percentile_cont(0.9) WITHIN GROUP (ORDER BY t.duration_ms) AS p90, " +
+                   "percentile_cont(0.95) WITHIN GROUP (ORDER BY t.duration_ms) AS p95, " +
+                   "percentile_cont(0.99) WITHIN GROUP (ORDER BY t.duration_ms) AS p99, " +
+                   "MAX(t.duration_ms) AS max " +
+                   "FROM review_stage_timings t " +
+                   "JOIN reviews r ON r.id = t.review_id " +
+                   "JOIN pull_requests pr ON pr.id = r.pull_request_id " +
+                   "JOIN repositories repo ON repo.id = pr.repository_id " +
+                   "WHERE t.created_at >= :since " +
+                   "GROUP BY repo.owner, repo.name, t.stage " +
+                   "ORDER BY repo.owner, repo.name, t.stage",
+           nativeQuery = true)
+    List<RepositoryStagePercentiles> findRepositoryStagePercentiles(@Param("since") LocalDateTime since);
+
+    /**
+     * 백분위수 조회 결과 (밀리초)
+     */
+    interface StagePercentiles {
+        String getStage();
+
+        Long getCount();
+
+        Double getP50();
+
+        Double getP90();
+
+        Double getP95();
+
+        Double getP99();
+
+        Integer getMax();
+    }
+
+    interface RepositoryStagePercentiles extends StagePercentiles {
+        /** owner/name */
+        String getRepository();
+    }
+}
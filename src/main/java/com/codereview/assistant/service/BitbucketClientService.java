@@ -1,5 +1,7 @@
 package com.codereview.assistant.service;
 
+import com.codereview.assistant.diff.DiffModel;
+import com.codereview.assistant.diff.UnifiedDiffParser;
 import com.codereview.assistant.exception.BitbucketApiException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -23,6 +25,8 @@ public class BitbucketClientService {
 
     private final RestTemplate restTemplate = new RestTemplate();
     private final ObjectMapper objectMapper;
+    private final UnifiedDiffParser unifiedDiffParser;
+    private final DownstreamLimiter downstreamLimiter;
 
     @Value("${bitbucket.api.url:https://api.bitbucket.org/2.0}")
     private String bitbucketApiUrl;
@@ -39,9 +43,9 @@ public class BitbucketClientService {
      * @param workspace 워크스페이스 이름
      * @param repoSlug 레포지토리 slug
      * @param prId Pull Request ID
-     * @return diff 내용
+     * @return 파싱된 diff 모델
      */
-    public String getPullRequestDiff(String workspace, String repoSlug, Long prId) {
+    public DiffModel getPullRequestDiff(String workspace, String repoSlug, Long prId) {
         try {
             String url = String.format("%s/repositories/%s/%s/pullrequests/%d/diff",
                     bitbucketApiUrl, workspace, repoSlug, prId);
@@ -49,20 +53,18 @@ public class BitbucketClientService {
             HttpHeaders headers = createHeaders();
             headers.setAccept(Collections.singletonList(MediaType.TEXT_PLAIN));
 
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
+            // 응답 본문을 String으로 버퍼링하지 않고 스트림에서 바로 파싱
+            return downstreamLimiter.call(DownstreamLimiter.BITBUCKET, () -> restTemplate.execute(
                     url,
                     HttpMethod.GET,
-                    entity,
-                    String.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                return response.getBody();
-            } else {
-                throw new BitbucketApiException("Failed to fetch PR diff: " + response.getStatusCode());
-            }
+                    request -> request.getHeaders().addAll(headers),
+                    response -> {
+                        if (response.getStatusCode() != HttpStatus.OK) {
+                            throw new BitbucketApiException("Failed to fetch PR diff: " + response.getStatusCode());
+                        }
+                        return unifiedDiffParser.parse(response.getBody());
+                    }
+            ));
 
         } catch (Exception e) {
             log.error("Error fetching Bitbucket PR diff for {}/{} PR {}",
@@ -96,12 +98,12 @@ public class BitbucketClientService {
                     headers
             );
 
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = downstreamLimiter.call(DownstreamLimiter.BITBUCKET, () -> restTemplate.exchange(
                     url,
                     HttpMethod.POST,
                     entity,
                     String.class
-            );
+            ));
 
             if (response.getStatusCode().is2xxSuccessful()) {
                 log.info("Successfully posted comment to Bitbucket PR {}/{}/{}",
@@ -152,12 +154,12 @@ public class BitbucketClientService {
                     headers
             );
 
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = downstreamLimiter.call(DownstreamLimiter.BITBUCKET, () -> restTemplate.exchange(
                     url,
                     HttpMethod.POST,
                     entity,
                     String.class
-            );
+            ));
 
             if (response.getStatusCode().is2xxSuccessful()) {
                 log.info("Successfully posted inline comment to Bitbucket PR {}/{}/{} at {}:{}",
@@ -1,5 +1,6 @@
 package com.codereview.assistant.service;
 
+import com.codereview.assistant.diff.DiffModel;
 import com.codereview.assistant.dto.CodeReviewResult;
 import com.codereview.assistant.dto.bitbucket.BitbucketPullRequestEvent;
 import com.codereview.assistant.exception.WebhookProcessingException;
@@ -17,6 +18,7 @@ public class BitbucketWebhookService {
 
     private final BitbucketClientService bitbucketClientService;
     private final CodeReviewService codeReviewService;
+    private final ReviewMetrics reviewMetrics;
 
     /**
      * Bitbucket Pull Request 이벤트를 처리합니다
@@ -24,6 +26,8 @@ public class BitbucketWebhookService {
      * @param event Bitbucket PR 이벤트
      */
     public void handlePullRequestEvent(BitbucketPullRequestEvent event) {
+        ReviewMetrics.Recording metrics = null;
+        String outcome = ReviewMetrics.OUTCOME_FAILED;
         try {
             log.info("Processing Bitbucket PR event: {} for repository {}",
                     event.getPullRequest().getTitle(),
@@ -47,21 +51,37 @@ public class BitbucketWebhookService {
             String repoSlug = parts[1];
             Long prId = event.getPullRequest().getId();
 
-            String diffContent = bitbucketClientService.getPullRequestDiff(workspace, repoSlug, prId);
+            metrics = reviewMetrics.start("bitbucket", fullName);
+            DiffModel diff;
+            try (ReviewMetrics.Stage stage = metrics.stage(ReviewMetrics.STAGE_FETCH_DIFF)) {
+                diff = bitbucketClientService.getPullRequestDiff(workspace, repoSlug, prId);
+            }
 
-            if (diffContent == null || diffContent.trim().isEmpty()) {
+            if (diff == null || diff.isEmpty()) {
                 log.warn("No diff content found for PR {}/{}/{}", workspace, repoSlug, prId);
+                outcome = ReviewMetrics.OUTCOME_SKIPPED;
                 return;
             }
+            metrics.diff(diff);
 
             // 2. 언어 감지
             String language = detectLanguage(event.getRepository().getLanguage());
+            metrics.language(language);
 
             // 3. AI 코드 리뷰 수행
-            CodeReviewResult reviewResult = codeReviewService.analyzeCode(diffContent, language);
+            CodeReviewResult reviewResult;
+            try (ReviewMetrics.Stage stage = metrics.stage(ReviewMetrics.STAGE_LLM)) {
+                reviewResult = codeReviewService.analyzeCode(diff, language,
+                        "bitbucket:" + workspace + "/" + repoSlug);
+            }
+            metrics.model(reviewResult.getModel());
 
             // 4. Bitbucket에 코멘트 작성
-            postReviewComments(workspace, repoSlug, prId, reviewResult);
+            try (ReviewMetrics.Stage stage = metrics.stage(ReviewMetrics.STAGE_POST_REVIEW)) {
+                postReviewComments(workspace, repoSlug, prId, reviewResult);
+            }
+            metrics.result(reviewResult.getTokensUsed(), reviewResult.getComments().size());
+            outcome = ReviewMetrics.OUTCOME_COMPLETED;
 
             log.info("Successfully completed code review for Bitbucket PR {}/{}/{}",
                     workspace, repoSlug, prId);
@@ -69,6 +89,10 @@ public class BitbucketWebhookService {
         } catch (Exception e) {
             log.error("Error processing Bitbucket PR event", e);
             throw new WebhookProcessingException("Failed to process Bitbucket PR webhook", e);
+        } finally {
+            if (metrics != null) {
+                metrics.finish(outcome);
+            }
         }
     }
 
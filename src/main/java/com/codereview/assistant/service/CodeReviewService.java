@@ -1,6 +1,9 @@
 package com.codereview.assistant.service;
 
 import com.codereview.assistant.config.OpenAiConfig;
+import com.codereview.assistant.diff.DiffModel;
+import com.codereview.assistant.diff.SkipFileClassifier;
+import com.codereview.assistant.diff.UnifiedDiffParser;
 import com.codereview.assistant.domain.ReviewRule;
 import com.codereview.assistant.dto.CodeReviewResult;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -10,17 +13,30 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.ChatClient;
 import org.springframework.ai.chat.ChatResponse;
+import org.springframework.ai.chat.StreamingChatClient;
+import org.springframework.ai.chat.metadata.Usage;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 
+import java.io.IOException;
 import java.net.HttpRetryException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -28,26 +44,105 @@ import java.util.List;
 public class CodeReviewService {
 
     private final ChatClient chatClient;
+    private final StreamingChatClient streamingChatClient;
     private final ObjectMapper objectMapper;
     private final ReviewRuleService reviewRuleService;
     private final LanguageSpecificPromptService languageSpecificPromptService;
     private final OpenAiConfig openAiConfig;
-
-    // Use cheaper and faster model with aggressive token optimization
-    private static final String AI_MODEL = "gpt-4o-mini";
-    private static final int MAX_DIFF_LENGTH = 2500; // Aggressive token reduction
-    private static final int MAX_RESPONSE_TOKENS = 800; // Minimal response tokens
+    private final LlmResultCache llmResultCache;
+    private final DiffChunker diffChunker;
+    private final UnifiedDiffParser unifiedDiffParser;
+    private final TokenCounter tokenCounter;
+    private final PromptBudgeter promptBudgeter;
+    private final DownstreamLimiter downstreamLimiter;
+    private final OpenAiRateLimiter openAiRateLimiter;
+    private final LlmCallExecutor llmCallExecutor;
+    private final ModelRouter modelRouter;
+    @Qualifier("chunkReviewExecutor")
+    private final Executor chunkReviewExecutor;
+
+    // Fair-queueing key for callers that don't identify a repository
+    private static final String DEFAULT_REPOSITORY_KEY = "default";
 
     // Test mode: when true, returns fixed test response instead of calling GPT API
     @Value("${app.test-mode:true}")
     private boolean testMode;
 
+    // Per-call prompt window in tokens (template + diff + custom rules); larger PRs are split into chunks
+    @Value("${app.review.budget.prompt-tokens:3000}")
+    private int promptTokens;
+
+    // Minimal response tokens
+    @Value("${app.review.budget.max-response-tokens:800}")
+    private int maxResponseTokens;
+
+    // Stream completions and hand each finding to the caller as soon as its JSON object closes
+    @Value("${app.review.streaming.enabled:false}")
+    private boolean streamingEnabled;
+
+    // Upper bound on chunks (LLM calls) per review to cap token spend on huge PRs
+    @Value("${app.review.chunking.max-chunks:8}")
+    private int maxChunks;
+
     /**
      * Analyzes code changes and returns review comments
      */
     public CodeReviewResult analyzeCode(String diffContent, String language) {
+        return analyzeCode(unifiedDiffParser.parse(diffContent), language);
+    }
+
+    /**
+     * Analyzes parsed code changes and returns review comments
+     */
+    public CodeReviewResult analyzeCode(DiffModel diff, String language) {
+        return analyzeCode(diff, language, DEFAULT_REPOSITORY_KEY);
+    }
+
+    /**
+     * Analyzes parsed code changes; repositoryKey groups LLM calls for fair rate-limit queueing
+     */
+    public CodeReviewResult analyzeCode(DiffModel diff, String language, String repositoryKey) {
+        return analyzeCode(diff, language, repositoryKey, null);
+    }
+
+    /**
+     * Analyzes parsed code changes; with streaming enabled, commentListener receives each finding
+     * as soon as the model has produced it (the returned result still contains all comments)
+     */
+    public CodeReviewResult analyzeCode(DiffModel diff, String language, String repositoryKey,
+                                        Consumer<CodeReviewResult.ReviewComment> commentListener) {
         log.info("Starting code analysis for language: {}", language);
+        return analyze(diff, language, List.of(), repositoryKey, commentListener);
+    }
+
+    /**
+     * Analyzes code with custom review rules
+     */
+    public CodeReviewResult analyzeCodeWithRules(DiffModel diff, String language, List<ReviewRule> customRules) {
+        return analyzeCodeWithRules(diff, language, customRules, DEFAULT_REPOSITORY_KEY);
+    }
+
+    /**
+     * Analyzes code with custom review rules; repositoryKey groups LLM calls for fair rate-limit queueing
+     */
+    public CodeReviewResult analyzeCodeWithRules(DiffModel diff, String language, List<ReviewRule> customRules,
+                                                 String repositoryKey) {
+        return analyzeCodeWithRules(diff, language, customRules, repositoryKey, null);
+    }
+
+    /**
+     * Analyzes code with custom review rules, streaming findings to commentListener when enabled
+     */
+    public CodeReviewResult analyzeCodeWithRules(DiffModel diff, String language, List<ReviewRule> customRules,
+                                                 String repositoryKey,
+                                                 Consumer<CodeReviewResult.ReviewComment> commentListener) {
+        log.info("Starting code analysis with {} custom rules", customRules.size());
+        return analyze(diff, language, customRules, repositoryKey, commentListener);
+    }
 
+    private CodeReviewResult analyze(DiffModel diff, String language, List<ReviewRule> customRules,
+                                     String repositoryKey,
+                                     Consumer<CodeReviewResult.ReviewComment> commentListener) {
         // Validate OpenAI configuration first
         if (!openAiConfig.isConfigured()) {
             String errorMsg = "OpenAI API Key is not configured. Please set OPENAI_API_KEY environment variable.";
@@ -64,56 +159,50 @@ public class CodeReviewService {
             if (testMode) {
                 log.warn("⚠️ TEST MODE ENABLED - Using fixed test response instead of GPT API");
                 String testResponse = getTestResponse();
-                CodeReviewResult result = parseCodeReviewResponse(testResponse, 100);
+                CodeReviewResult result = parseCodeReviewResponse(objectMapper, testResponse, 100);
                 log.info("✅ TEST: Parsed {} comments from test response", result.getComments().size());
                 return result;
             }
 
-            // Truncate diff if too large to reduce token usage
-            String processedDiff = truncateDiff(diffContent);
-            int originalLength = diffContent.length();
-            int processedLength = processedDiff.length();
-
-            if (originalLength > processedLength) {
-                log.warn("Diff truncated from {} to {} characters to reduce token usage",
-                    originalLength, processedLength);
-            }
-
-            String prompt = buildCodeReviewPrompt(processedDiff, language);
-
-            OpenAiChatOptions options = OpenAiChatOptions.builder()
-                .withModel(AI_MODEL)
-                .withTemperature(0.3f)
-                .withMaxTokens(MAX_RESPONSE_TOKENS)
-                .build();
-
-            ChatResponse response;
-            try {
-                response = chatClient.call(new Prompt(prompt, options));
-            } catch (org.springframework.web.client.HttpClientErrorException e) {
-                // Client error (4xx) - likely authentication or invalid request
-                log.error("OpenAI API client error ({}): {}", e.getStatusCode(), e.getMessage());
-                throw new RuntimeException("OpenAI API authentication or request error: " + e.getMessage(), e);
-            } catch (org.springframework.web.client.HttpServerErrorException e) {
-                // Server error (5xx) - OpenAI API issue
-                log.error("OpenAI API server error ({}): {}", e.getStatusCode(), e.getMessage());
-                throw new RuntimeException("OpenAI API server error: " + e.getMessage(), e);
-            } catch (org.springframework.web.client.ResourceAccessException e) {
-                // Network error - timeout, connection refused, etc.
-                log.error("Network error connecting to OpenAI API: {}", e.getMessage());
-                throw new RuntimeException("Network error connecting to OpenAI API: " + e.getMessage(), e);
+            // Fill the token budget by priority: changed lines, then hunk context, then custom rules
+            // (budgeted with the default model's tokenizer; each chunk's model is chosen afterwards)
+            String budgetModel = modelRouter.getDefaultModel();
+            SkipFileClassifier skipFileClassifier = reviewRuleService.buildSkipFileClassifier(customRules);
+            int templateTokens = tokenCounter.count(buildCodeReviewPrompt("", language), budgetModel);
+            PromptBudgeter.Allocation allocation = promptBudgeter.allocate(diff, skipFileClassifier,
+                reviewRuleService.buildCustomPromptFromRules(customRules),
+                Math.max(promptTokens - templateTokens, 1), maxChunks, budgetModel);
+            String processedDiff = allocation.getDiff();
+            String customPrompt = allocation.getCustomPrompt();
+            log.info("Diff reduced to ~{} tokens from {} files (+{} -{})",
+                allocation.getDiffTokens(), diff.getFiles().size(), diff.getTotalAdditions(), diff.getTotalDeletions());
+
+            List<String> chunks = diffChunker.split(processedDiff, allocation.getChunkTokens(), maxChunks,
+                text -> tokenCounter.count(text, budgetModel));
+            int ruleCount = customRules.size();
+            if (chunks.size() <= 1) {
+                ModelRouter.Route route = modelRouter.route(processedDiff, language, ruleCount,
+                    allocation.getDiffTokens());
+                return reviewChunk(processedDiff, route, language, customPrompt, repositoryKey, commentListener);
             }
 
-            String content = response.getResult().getOutput().getContent();
-            int tokensUsed = response.getMetadata().getUsage().getTotalTokens().intValue();
-
-            log.info("AI analysis completed. Model: {}, Tokens used: {}", AI_MODEL, tokensUsed);
-            log.debug("AI response content: {}", content);
+            // Fan out per-file chunks; wall-clock time ~ slowest chunk instead of the sum
+            log.info("Reviewing {} diff chunks in parallel ({} custom rules)", chunks.size(), ruleCount);
+            List<CompletableFuture<CodeReviewResult>> futures = chunks.stream()
+                .map(chunk -> {
+                    ModelRouter.Route route = modelRouter.route(chunk, language, ruleCount,
+                        tokenCounter.count(chunk, budgetModel));
+                    return CompletableFuture.supplyAsync(
+                        () -> reviewChunkSafely(chunk, route, language, customPrompt, repositoryKey, commentListener),
+                        chunkReviewExecutor);
+                })
+                .collect(Collectors.toList());
 
-            CodeReviewResult result = parseCodeReviewResponse(content, tokensUsed);
-            log.info("Parsed {} comments from AI response", result.getComments().size());
+            List<CodeReviewResult> results = futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
 
-            return result;
+            return mergeResults(results);
 
         } catch (RestClientException e) {
             return handleRestClientException(e);
@@ -128,230 +217,276 @@ public class CodeReviewService {
     }
 
     /**
-     * Analyzes code with custom review rules
+     * Reviews a single diff chunk with the routed model (cache lookup + LLM call + parsing)
      */
-    public CodeReviewResult analyzeCodeWithRules(String diffContent, String language, List<ReviewRule> customRules) {
-        log.info("Starting code analysis with {} custom rules", customRules.size());
-
-        // Validate OpenAI configuration first
-        if (!openAiConfig.isConfigured()) {
-            String errorMsg = "OpenAI API Key is not configured. Please set OPENAI_API_KEY environment variable.";
-            log.error(errorMsg);
-            return CodeReviewResult.builder()
-                .comments(new ArrayList<>())
-                .summary(errorMsg)
-                .tokensUsed(0)
-                .build();
+    private CodeReviewResult reviewChunk(String processedDiff, ModelRouter.Route route, String language,
+                                         String customPrompt,
+                                         String repositoryKey,
+                                         Consumer<CodeReviewResult.ReviewComment> commentListener)
+            throws JsonProcessingException {
+        // Same normalized diff + prompt version + rules + model => reuse previous result
+        String cacheKey = llmResultCache.buildKey(processedDiff, language,
+            languageSpecificPromptService.getPromptVersion(), customPrompt, route.model());
+        Optional<CodeReviewResult> cached = llmResultCache.get(cacheKey);
+        if (cached.isPresent()) {
+            log.info("LLM cache hit - reusing review result ({} comments, 0 tokens)",
+                cached.get().getComments().size());
+            return cached.get();
         }
 
-        try {
-            // TEST MODE: Return fixed response instead of calling GPT API
-            if (testMode) {
-                log.warn("⚠️ TEST MODE ENABLED - Using fixed test response instead of GPT API");
-                String testResponse = getTestResponse();
-                CodeReviewResult result = parseCodeReviewResponse(testResponse, 100);
-                log.info("✅ TEST: Parsed {} comments from test response", result.getComments().size());
-                return result;
-            }
-
-            // Truncate diff if too large
-            String processedDiff = truncateDiff(diffContent);
+        String prompt = buildCodeReviewPrompt(processedDiff, language) + customPrompt;
 
-            // Build prompt with custom rules
-            String basePrompt = buildCodeReviewPrompt(processedDiff, language);
-            String customPrompt = reviewRuleService.buildCustomPromptFromRules(customRules);
-            String fullPrompt = basePrompt + customPrompt;
+        OpenAiChatOptions options = OpenAiChatOptions.builder()
+            .withModel(route.model())
+            .withTemperature(0.3f)
+            .withMaxTokens(maxResponseTokens)
+            .build();
 
-            OpenAiChatOptions options = OpenAiChatOptions.builder()
-                .withModel(AI_MODEL)
-                .withTemperature(0.3f)
-                .withMaxTokens(MAX_RESPONSE_TOKENS)
-                .build();
+        int promptTokenCount = tokenCounter.count(prompt, route.model());
+        boolean streaming = streamingEnabled && commentListener != null;
 
-            ChatResponse response;
-            try {
-                response = chatClient.call(new Prompt(fullPrompt, options));
-            } catch (org.springframework.web.client.HttpClientErrorException e) {
-                // Client error (4xx) - likely authentication or invalid request
-                log.error("OpenAI API client error ({}): {}", e.getStatusCode(), e.getMessage());
-                throw new RuntimeException("OpenAI API authentication or request error: " + e.getMessage(), e);
-            } catch (org.springframework.web.client.HttpServerErrorException e) {
-                // Server error (5xx) - OpenAI API issue
-                log.error("OpenAI API server error ({}): {}", e.getStatusCode(), e.getMessage());
-                throw new RuntimeException("OpenAI API server error: " + e.getMessage(), e);
-            } catch (org.springframework.web.client.ResourceAccessException e) {
-                // Network error - timeout, connection refused, etc.
-                log.error("Network error connecting to OpenAI API: {}", e.getMessage());
-                throw new RuntimeException("Network error connecting to OpenAI API: " + e.getMessage(), e);
+        // Each attempt (retry or hedge) acquires its own rate-limit permit; the attempt timeout starts once it is sent.
+        // Streamed attempts are never hedged, and not retried once a finding has been handed out.
+        ChatResponse response = null;
+        StreamingReviewParser streamed = null;
+        AtomicInteger published = new AtomicInteger();
+        long startTime = System.nanoTime();
+        try {
+            if (streaming) {
+                streamed = llmCallExecutor.execute(attempt -> streamModel(attempt, prompt, options, promptTokenCount,
+                    repositoryKey, commentListener, published), false);
+            } else {
+                response = llmCallExecutor.execute(attempt -> callModel(attempt, prompt, options, promptTokenCount,
+                    repositoryKey), true);
             }
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            log.error("OpenAI API rate limited after retries ({}): {}", e.getStatusCode(), e.getMessage());
+            throw new RuntimeException("OpenAI API rate limit exceeded: " + e.getMessage(), e);
+        } catch (org.springframework.web.client.HttpClientErrorException e) {
+            // Client error (4xx) - likely authentication or invalid request
+            log.error("OpenAI API client error ({}): {}", e.getStatusCode(), e.getMessage());
+            throw new RuntimeException("OpenAI API authentication or request error: " + e.getMessage(), e);
+        } catch (org.springframework.web.client.HttpServerErrorException e) {
+            // Server error (5xx) - OpenAI API issue
+            log.error("OpenAI API server error ({}): {}", e.getStatusCode(), e.getMessage());
+            throw new RuntimeException("OpenAI API server error: " + e.getMessage(), e);
+        } catch (org.springframework.web.reactive.function.client.WebClientResponseException e) {
+            // Streamed call rejected with an error status
+            log.error("OpenAI API streaming error ({}): {}", e.getStatusCode(), e.getMessage());
+            throw new RuntimeException("OpenAI API error: " + e.getMessage(), e);
+        } catch (org.springframework.web.client.ResourceAccessException e) {
+            // Network error - timeout, connection refused, etc.
+            log.error("Network error connecting to OpenAI API: {}", e.getMessage());
+            throw new RuntimeException("Network error connecting to OpenAI API: " + e.getMessage(), e);
+        }
 
+        Duration latency = Duration.ofNanos(System.nanoTime() - startTime);
+
+        CodeReviewResult result;
+        // A stream that ended early is only partially reviewed - never reuse it for the same diff
+        boolean complete = streamed == null || streamed.isComplete();
+        if (streamed != null) {
+            result = toStreamedResult(streamed, promptTokenCount, route.model());
+        } else {
             String content = response.getResult().getOutput().getContent();
-            int tokensUsed = response.getMetadata().getUsage().getTotalTokens().intValue();
+            Usage usage = response.getMetadata().getUsage();
+            int tokensUsed = usage.getTotalTokens().intValue();
 
-            log.info("AI analysis with custom rules completed. Model: {}, Tokens used: {}", AI_MODEL, tokensUsed);
+            log.info("AI analysis completed. Model: {} ({}), Tokens used: {}", route.model(), route.reason(), tokensUsed);
+            tokenCounter.recordUsage(promptTokenCount + tokenCounter.count(content, route.model()), tokensUsed);
             log.debug("AI response content: {}", content);
 
-            CodeReviewResult result = parseCodeReviewResponse(content, tokensUsed);
-            log.info("Parsed {} comments from AI response", result.getComments().size());
-
-            return result;
+            result = parseCodeReviewResponse(objectMapper, content, tokensUsed);
+            result.setPromptTokens(usage.getPromptTokens().intValue());
+            result.setCompletionTokens(usage.getGenerationTokens().intValue());
+        }
+        result.setModel(route.model());
+        modelRouter.record(route, latency, result.getTokensUsed());
+        log.info("Parsed {} comments from AI response", result.getComments().size());
 
-        } catch (RestClientException e) {
-            return handleRestClientException(e);
-        } catch (Exception e) {
-            log.error("Unexpected error during code analysis with custom rules", e);
-            return CodeReviewResult.builder()
-                .comments(new ArrayList<>())
-                .summary("Unexpected error occurred during code analysis: " + e.getMessage())
-                .tokensUsed(0)
-                .build();
+        if (complete) {
+            llmResultCache.put(cacheKey, result);
         }
+
+        return result;
     }
 
     /**
-     * Truncates diff to reduce token usage significantly
-     * Prioritizes important code changes and excludes noise
+     * Single LLM call attempt under the OpenAI rate limiter and the downstream concurrency limit
      */
-    private String truncateDiff(String diffContent) {
-        // Extract only the important parts: changed files and actual changes
-        String[] lines = diffContent.split("\n");
-        StringBuilder truncated = new StringBuilder();
-        int charCount = 0;
-        String currentFile = null;
-        boolean skipCurrentFile = false;
-
-        for (String line : lines) {
-            // Check for file headers
-            if (line.startsWith("diff --git")) {
-                currentFile = line;
-                skipCurrentFile = shouldSkipFile(line);
-
-                if (!skipCurrentFile) {
-                    truncated.append(line).append("\n");
-                    charCount += line.length() + 1;
-                }
-                continue;
-            }
-
-            // Skip if we're ignoring this file
-            if (skipCurrentFile) {
-                continue;
-            }
+    private ChatResponse callModel(LlmCallExecutor.Attempt attempt, String prompt, OpenAiChatOptions options,
+                                   int promptTokenCount, String repositoryKey) {
+        // Reserve prompt + worst-case response tokens against the TPM budget; reconciled with actual usage
+        OpenAiRateLimiter.Permit permit = acquirePermit(attempt, repositoryKey, promptTokenCount + maxResponseTokens);
+        // A blocking HTTP read ignores the interrupt - give the slot back as soon as the attempt is abandoned
+        attempt.onAbandon(() -> openAiRateLimiter.onAbandoned(permit));
+
+        ChatResponse response;
+        try {
+            response = downstreamLimiter.call(DownstreamLimiter.OPENAI, () -> {
+                attempt.markSent();
+                return chatClient.call(new Prompt(prompt, options));
+            });
+        } catch (RuntimeException e) {
+            openAiRateLimiter.onError(permit, e);
+            throw e;
+        }
 
-            // Include file path headers (only for non-skipped files)
-            if (line.startsWith("+++") || line.startsWith("---")) {
-                truncated.append(line).append("\n");
-                charCount += line.length() + 1;
-                continue;
-            }
+        openAiRateLimiter.onSuccess(permit, response.getMetadata().getUsage().getTotalTokens().intValue(),
+            response.getMetadata().getRateLimit());
+        return response;
+    }
 
-            // Include @@ chunk headers
-            if (line.startsWith("@@")) {
-                truncated.append(line).append("\n");
-                charCount += line.length() + 1;
-                continue;
-            }
+    /**
+     * Single streamed LLM call attempt; each closed comments[] element is published while the model is generating
+     */
+    private StreamingReviewParser streamModel(LlmCallExecutor.Attempt attempt, String prompt,
+                                              OpenAiChatOptions options, int promptTokenCount,
+                                              String repositoryKey,
+                                              Consumer<CodeReviewResult.ReviewComment> commentListener,
+                                              AtomicInteger published) throws IOException {
+        if (published.get() > 0) {
+            // Retrying would publish the same findings twice
+            throw new IllegalStateException("LLM stream failed after " + published.get() + " comments were published");
+        }
 
-            // Only include changed lines (+ or -)
-            // Skip context lines (no prefix) to save tokens
-            if (line.startsWith("+") || line.startsWith("-")) {
-                truncated.append(line).append("\n");
-                charCount += line.length() + 1;
+        OpenAiRateLimiter.Permit permit = acquirePermit(attempt, repositoryKey, promptTokenCount + maxResponseTokens);
+        attempt.onAbandon(() -> openAiRateLimiter.onAbandoned(permit));
+        // Once the executor gives up on this attempt (timeout), its stream must not hand out more findings
+        StreamingReviewParser parser = new StreamingReviewParser(objectMapper, comment -> attempt.whileActive(() -> {
+            published.incrementAndGet();
+            commentListener.accept(comment);
+        }));
 
-                if (charCount >= MAX_DIFF_LENGTH) {
-                    truncated.append("\n... (truncated - ").append(lines.length).append(" total lines) ...\n");
-                    break;
+        try {
+            downstreamLimiter.call(DownstreamLimiter.OPENAI, () -> {
+                attempt.markSent();
+                // Closing the stream cancels the request if this attempt is abandoned
+                try (Stream<ChatResponse> chunks = streamingChatClient.stream(new Prompt(prompt, options)).toStream()) {
+                    attempt.onAbandon(chunks::close);
+                    chunks.map(ChatResponse::getResult)
+                        .filter(generation -> generation != null && generation.getOutput() != null)
+                        .forEach(generation -> parser.feed(generation.getOutput().getContent()));
                 }
-            }
+                return parser;
+            });
+        } catch (RuntimeException e) {
+            openAiRateLimiter.onError(permit, e);
+            throw e;
         }
 
-        return truncated.toString();
+        // Streamed responses carry no usage metadata - reconcile with the locally counted completion
+        openAiRateLimiter.onSuccess(permit,
+            promptTokenCount + tokenCounter.count(parser.getContent(), options.getModel()), null);
+        return parser;
     }
 
     /**
-     * Determines if a file should be skipped in diff analysis
-     * Excludes files that don't need code review (binary, lock files, etc.)
+     * Waits for a rate-limit permit; a hedge only goes out if a permit is free right now,
+     * so it never takes capacity from queued calls
      */
-    private boolean shouldSkipFile(String diffLine) {
-        String lowerLine = diffLine.toLowerCase();
-
-        // Skip lock files and dependency manifests
-        if (lowerLine.contains("package-lock.json") ||
-            lowerLine.contains("yarn.lock") ||
-            lowerLine.contains("pnpm-lock.yaml") ||
-            lowerLine.contains("composer.lock") ||
-            lowerLine.contains("gemfile.lock") ||
-            lowerLine.contains("poetry.lock") ||
-            lowerLine.contains("cargo.lock") ||
-            lowerLine.contains("go.sum") ||
-            lowerLine.contains("go.mod")) {
-            return true;
+    private OpenAiRateLimiter.Permit acquirePermit(LlmCallExecutor.Attempt attempt, String repositoryKey,
+                                                   int estimatedTokens) {
+        if (!attempt.isHedge()) {
+            return openAiRateLimiter.acquire(repositoryKey, estimatedTokens);
         }
-
-        // Skip generated files and build outputs
-        if (lowerLine.contains("/build/") ||
-            lowerLine.contains("/dist/") ||
-            lowerLine.contains("/target/") ||
-            lowerLine.contains("/.gradle/") ||
-            lowerLine.contains("/node_modules/") ||
-            lowerLine.contains("/vendor/") ||
-            lowerLine.contains("/__pycache__/") ||
-            lowerLine.contains(".min.js") ||
-            lowerLine.contains(".min.css") ||
-            lowerLine.contains(".bundle.js") ||
-            lowerLine.contains(".bundle.css")) {
-            return true;
+        OpenAiRateLimiter.Permit permit = openAiRateLimiter.tryAcquire(repositoryKey, estimatedTokens);
+        if (permit == null) {
+            throw new LlmCallExecutor.AttemptSkippedException("No OpenAI capacity for a hedged request");
         }
+        return permit;
+    }
 
-        // Skip binary and media files
-        if (lowerLine.contains(".png") ||
-            lowerLine.contains(".jpg") ||
-            lowerLine.contains(".jpeg") ||
-            lowerLine.contains(".gif") ||
-            lowerLine.contains(".svg") ||
-            lowerLine.contains(".ico") ||
-            lowerLine.contains(".webp") ||
-            lowerLine.contains(".pdf") ||
-            lowerLine.contains(".zip") ||
-            lowerLine.contains(".tar") ||
-            lowerLine.contains(".gz") ||
-            lowerLine.contains(".jar") ||
-            lowerLine.contains(".war") ||
-            lowerLine.contains(".ear") ||
-            lowerLine.contains(".exe") ||
-            lowerLine.contains(".dll") ||
-            lowerLine.contains(".so") ||
-            lowerLine.contains(".dylib") ||
-            lowerLine.contains(".a") ||
-            lowerLine.contains(".o")) {
-            return true;
+    /**
+     * Builds the chunk result from a finished stream; falls back to whole-response parsing when
+     * the incremental parser could not read the response and nothing was published yet
+     */
+    private CodeReviewResult toStreamedResult(StreamingReviewParser parser, int promptTokenCount, String model)
+            throws JsonProcessingException {
+        String content = parser.getContent();
+        int completionTokens = tokenCounter.count(content, model);
+        int tokensUsed = promptTokenCount + completionTokens;
+        log.info("AI analysis streamed. Model: {}, Tokens used (counted locally): {}", model, tokensUsed);
+        log.debug("AI response content: {}", content);
+
+        if (!parser.isComplete() && parser.getComments().isEmpty()) {
+            CodeReviewResult result = parseCodeReviewResponse(objectMapper, content, tokensUsed);
+            result.setPromptTokens(promptTokenCount);
+            result.setCompletionTokens(completionTokens);
+            return result;
         }
-
-        // Skip test snapshots and fixtures
-        if (lowerLine.contains("/__snapshots__/") ||
-            lowerLine.contains("/fixtures/") ||
-            lowerLine.contains("/test-data/") ||
-            lowerLine.contains(".snap")) {
-            return true;
+        if (!parser.isComplete()) {
+            log.warn("Streamed AI response ended early - keeping {} published comments", parser.getComments().size());
         }
 
-        // Skip configuration and metadata files
-        if (lowerLine.endsWith(".lock") ||
-            lowerLine.endsWith(".sum") ||
-            lowerLine.endsWith(".cache") ||
-            lowerLine.contains(".env.example") ||
-            lowerLine.contains(".gitignore") ||
-            lowerLine.contains(".dockerignore")) {
-            return true;
+        return CodeReviewResult.builder()
+            .comments(new ArrayList<>(parser.getComments()))
+            .summary(parser.getSummary() != null ? parser.getSummary() : "No summary provided")
+            .tokensUsed(tokensUsed)
+            .promptTokens(promptTokenCount)
+            .completionTokens(completionTokens)
+            .build();
+    }
+
+    /**
+     * Reviews a chunk on the chunk executor; failures become an error result so other chunks still count
+     */
+    private CodeReviewResult reviewChunkSafely(String chunk, ModelRouter.Route route, String language,
+                                               String customPrompt, String repositoryKey,
+                                               Consumer<CodeReviewResult.ReviewComment> commentListener) {
+        try {
+            return reviewChunk(chunk, route, language, customPrompt, repositoryKey, commentListener);
+        } catch (RestClientException e) {
+            return handleRestClientException(e);
+        } catch (Exception e) {
+            log.error("Unexpected error during chunk analysis", e);
+            return CodeReviewResult.builder()
+                .comments(new ArrayList<>())
+                .summary("Unexpected error occurred during code analysis: " + e.getMessage())
+                .tokensUsed(0)
+                .build();
         }
+    }
 
-        // Skip documentation images and assets
-        if ((lowerLine.contains("/docs/") || lowerLine.contains("/documentation/")) &&
-            (lowerLine.contains(".png") || lowerLine.contains(".jpg") || lowerLine.contains(".gif"))) {
-            return true;
+    /**
+     * Merges per-chunk results: comments are concatenated, tokens summed and summaries combined
+     */
+    private CodeReviewResult mergeResults(List<CodeReviewResult> results) {
+        List<CodeReviewResult.ReviewComment> comments = new ArrayList<>();
+        int tokensUsed = 0;
+        int promptTokens = 0;
+        int completionTokens = 0;
+        StringBuilder summary = new StringBuilder();
+        summary.append("변경 사항을 ").append(results.size()).append("개 구간으로 나누어 리뷰했습니다.\n");
+
+        for (int i = 0; i < results.size(); i++) {
+            CodeReviewResult result = results.get(i);
+            if (result.getComments() != null) {
+                comments.addAll(result.getComments());
+            }
+            tokensUsed += result.getTokensUsed();
+            promptTokens += result.getPromptTokens();
+            completionTokens += result.getCompletionTokens();
+            summary.append("\n- (").append(i + 1).append("/").append(results.size()).append(") ")
+                .append(result.getSummary());
         }
 
-        return false;
+        log.info("Merged {} chunk results: {} comments, {} tokens", results.size(), comments.size(), tokensUsed);
+
+        String models = results.stream()
+            .map(CodeReviewResult::getModel)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.joining(","));
+
+        return CodeReviewResult.builder()
+            .comments(comments)
+            .summary(summary.toString())
+            .tokensUsed(tokensUsed)
+            .promptTokens(promptTokens)
+            .completionTokens(completionTokens)
+            .model(models.isEmpty() ? null : models)
+            .build();
     }
 
     private String buildCodeReviewPrompt(String diffContent, String language) {
@@ -427,7 +562,10 @@ public class CodeReviewService {
         return false;
     }
 
-    private CodeReviewResult parseCodeReviewResponse(String response, int tokensUsed)
+    /**
+     * Parses a complete LLM response (optionally wrapped in a ```json fence) into a review result
+     */
+    static CodeReviewResult parseCodeReviewResponse(ObjectMapper objectMapper, String response, int tokensUsed)
             throws JsonProcessingException {
         try {
             // Extract JSON from markdown code blocks if present
@@ -460,19 +598,7 @@ public class CodeReviewService {
 
                 for (JsonNode commentNode : commentsNode) {
                     try {
-                        CodeReviewResult.ReviewComment comment = CodeReviewResult.ReviewComment.builder()
-                            .filePath(commentNode.get("filePath").asText())
-                            .lineNumber(commentNode.has("lineNumber") ?
-                                commentNode.get("lineNumber").asInt() : null)
-                            .severity(commentNode.get("severity").asText())
-                            .category(commentNode.get("category").asText())
-                            .message(commentNode.get("message").asText())
-                            .suggestion(commentNode.has("suggestion") ?
-                                commentNode.get("suggestion").asText() : null)
-                            .codeExample(commentNode.has("codeExample") ?
-                                commentNode.get("codeExample").asText() : null)
-                            .build();
-                        comments.add(comment);
+                        comments.add(StreamingReviewParser.toComment(commentNode));
                     } catch (Exception e) {
                         log.error("Failed to parse individual comment: {}", commentNode, e);
                     }
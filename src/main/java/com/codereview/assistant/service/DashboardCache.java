@@ -0,0 +1,188 @@
+package com.codereview.assistant.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 조회 결과 캐시
+ *
+ * 대시보드를 연 탭마다 주기적으로 통계를 다시 계산하지 않도록 StatisticsService 결과를 보관하고,
+ * 리뷰 상태가 바뀌면({@link ReviewStatusChangedEvent}) 무효화합니다.
+ * - 1차: 프로세스 내 Caffeine 캐시 (TTL로 날짜 경계 등 시간에 따른 변화 반영)
+ * - Redis가 설정되면 무효화 버전을 공유하여 다른 노드에서 완료된 리뷰도 반영
+ *
+ * 값마다 직렬화 결과의 해시(ETag)와 내용이 마지막으로 바뀐 시각(Last-Modified)을 함께 보관하므로
+ * 다시 계산해도 내용이 같으면 조건부 요청에 304로 응답할 수 있습니다.
+ */
+@Service
+@Slf4j
+public class DashboardCache {
+
+    private static final String REDIS_VERSION_KEY = "dashboard:version";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final Cache<String, Snapshot<?>> localCache;
+    private final AtomicLong localVersion = new AtomicLong();
+    private final boolean enabled;
+    private final boolean redisEnabled;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public DashboardCache(
+            ObjectMapper objectMapper,
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            MeterRegistry meterRegistry,
+            @Value("${app.dashboard.cache.enabled:true}") boolean enabled,
+            @Value("${app.dashboard.cache.ttl:PT5M}") Duration ttl,
+            @Value("${app.dashboard.cache.redis.enabled:false}") boolean redisEnabled) {
+        this.objectMapper = objectMapper;
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.enabled = enabled;
+        this.redisEnabled = redisEnabled;
+        this.localCache = Caffeine.newBuilder()
+            // 조회 파라미터(limit, days) 조합 수만큼만 필요
+            .maximumSize(200)
+            .expireAfterWrite(ttl)
+            .build();
+
+        this.hits = Counter.builder("dashboard.cache.requests")
+            .tag("result", "hit")
+            .description("Dashboard statistics cache lookups")
+            .register(meterRegistry);
+        this.misses = Counter.builder("dashboard.cache.requests")
+            .tag("result", "miss")
+            .description("Dashboard statistics cache lookups")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없거나 무효화되었으면 loader로 다시 계산합니다
+     *
+     * 같은 키를 동시에 요청하면 한 요청만 계산하고 나머지는 그 결과를 기다립니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Snapshot<T> get(String key, Supplier<T> loader) {
+        if (!enabled) {
+            return snapshot(null, loader.get(), null);
+        }
+
+        String version = currentVersion();
+        Snapshot<?> cached = localCache.getIfPresent(key);
+        if (cached != null && cached.version().equals(version)) {
+            hits.increment();
+            return (Snapshot<T>) cached;
+        }
+
+        return (Snapshot<T>) localCache.asMap().compute(key, (k, previous) -> {
+            if (previous != null && previous.version().equals(version)) {
+                hits.increment();
+                return previous;
+            }
+            misses.increment();
+            return snapshot(version, loader.get(), previous);
+        });
+    }
+
+    /**
+     * 모든 캐시 값을 무효화합니다 (Redis가 설정되면 다른 노드에도 전파)
+     */
+    public void invalidate() {
+        invalidateLocal();
+
+        StringRedisTemplate redis = redisTemplate();
+        if (redis != null) {
+            try {
+                redis.opsForValue().increment(REDIS_VERSION_KEY);
+            } catch (Exception e) {
+                // 다른 노드는 TTL이 지나면 반영됨
+                log.warn("Redis dashboard cache invalidation failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 이 노드의 캐시만 비웁니다 (다른 노드에서 중계받은 이벤트용)
+     */
+    public void invalidateLocal() {
+        localVersion.incrementAndGet();
+        localCache.invalidateAll();
+    }
+
+    /**
+     * 실시간 이벤트를 받은 브라우저가 바로 다시 조회해도 새 값을 받도록 다른 리스너보다 먼저 실행
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onReviewStatusChanged(ReviewStatusChangedEvent event) {
+        invalidate();
+    }
+
+    private String currentVersion() {
+        String version = Long.toString(localVersion.get());
+        StringRedisTemplate redis = redisTemplate();
+        if (redis != null) {
+            try {
+                String shared = redis.opsForValue().get(REDIS_VERSION_KEY);
+                version += "/" + (shared != null ? shared : "0");
+            } catch (Exception e) {
+                log.debug("Redis dashboard cache version lookup failed: {}", e.getMessage());
+            }
+        }
+        return version;
+    }
+
+    private <T> Snapshot<T> snapshot(String version, T value, Snapshot<?> previous) {
+        String etag = etag(value);
+        // 다시 계산했어도 내용이 같으면 이전 수정 시각을 유지
+        Instant lastModified = previous != null && previous.etag().equals(etag)
+            ? previous.lastModified()
+            : Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        return new Snapshot<>(version, value, etag, lastModified);
+    }
+
+    private String etag(Object value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(value));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to serialize dashboard value", e);
+        }
+    }
+
+    private StringRedisTemplate redisTemplate() {
+        return redisEnabled ? redisTemplateProvider.getIfAvailable() : null;
+    }
+
+    /**
+     * 캐시된 값과 조건부 요청 검증용 메타데이터
+     *
+     * @param etag         직렬화 결과의 SHA-256 앞 16바이트 (따옴표 포함)
+     * @param lastModified 내용이 마지막으로 바뀐 시각 (초 단위)
+     */
+    public record Snapshot<T>(String version, T value, String etag, Instant lastModified) {
+    }
+}
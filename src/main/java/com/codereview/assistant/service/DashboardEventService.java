@@ -0,0 +1,213 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.config.RabbitMQConfig;
+import com.codereview.assistant.dto.DashboardEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 대시보드 실시간 이벤트(SSE) 서비스
+ *
+ * 리뷰 상태가 바뀌면({@link ReviewStatusChangedEvent}) 연결된 대시보드에 "review" 이벤트를 보냅니다.
+ * 브라우저는 주기적으로 폴링하지 않고, 이벤트를 받았을 때만 (캐시된) 통계를 다시 조회합니다.
+ *
+ * 리뷰 워커와 브라우저가 연결된 노드가 다를 수 있으므로, 큐를 사용하는 환경에서는 RabbitMQ fanout exchange로
+ * 모든 노드에 중계한 뒤 각 노드가 자신에게 연결된 브라우저로 보냅니다. 큐를 쓰지 않으면 단일 노드로 보고
+ * 바로 보냅니다.
+ *
+ * 전송은 dashboardEventExecutor 스레드에서 하므로 이벤트를 발생시킨 리뷰 워커나 Rabbit 리스너는
+ * 느린 브라우저 연결을 기다리지 않습니다.
+ */
+@Service
+@Slf4j
+public class DashboardEventService {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final DashboardCache dashboardCache;
+    private final TaskExecutor eventExecutor;
+    private final boolean brokerRelay;
+    private final Duration timeout;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    public DashboardEventService(
+            RabbitTemplate rabbitTemplate,
+            DashboardCache dashboardCache,
+            @Qualifier("dashboardEventExecutor") TaskExecutor eventExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${app.dashboard.events.broker-relay:false}") boolean brokerRelay,
+            @Value("${app.dashboard.events.timeout:PT30M}") Duration timeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.dashboardCache = dashboardCache;
+        this.eventExecutor = eventExecutor;
+        this.brokerRelay = brokerRelay;
+        this.timeout = timeout;
+
+        Gauge.builder("dashboard.events.subscribers", emitters, List::size)
+            .description("Open dashboard event streams on this node")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 새 이벤트 스트림을 엽니다
+     *
+     * 시간이 지나 연결이 끊기면 브라우저(EventSource)가 자동으로 다시 연결합니다.
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+
+        // 연결 직후 한 번 보내 프록시가 응답 헤더를 바로 내보내게 함
+        send(emitter, SseEmitter.event()
+            .name("connected")
+            .reconnectTime(3000)
+            .data(Map.of("subscribers", emitters.size()), MediaType.APPLICATION_JSON));
+        return emitter;
+    }
+
+    /**
+     * 캐시 무효화 이후에 실행되어, 이벤트를 받은 브라우저가 바로 새 통계를 조회할 수 있음
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onReviewStatusChanged(ReviewStatusChangedEvent event) {
+        DashboardEvent dashboardEvent = toDashboardEvent(event);
+        if (!brokerRelay) {
+            broadcastAsync(dashboardEvent);
+            return;
+        }
+
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.DASHBOARD_EVENTS_EXCHANGE, "", dashboardEvent);
+        } catch (AmqpException e) {
+            // 다른 노드에는 전달되지 않지만, 이 노드에 연결된 대시보드는 갱신
+            log.warn("Failed to relay dashboard event for review {}: {}", event.reviewId(), e.getMessage());
+            broadcastAsync(dashboardEvent);
+        }
+    }
+
+    /**
+     * 중계된 이벤트 수신 (이 노드가 발행한 이벤트 포함)
+     */
+    @RabbitListener(
+        queues = "#{dashboardEventsQueue.name}",
+        autoStartup = "${app.dashboard.events.broker-relay:false}"
+    )
+    public void onRelayedEvent(DashboardEvent event) {
+        if (!nodeId.equals(event.getOrigin())) {
+            // Redis 버전 공유가 없어도 다른 노드에서 끝난 리뷰가 이 노드의 캐시에 반영되도록
+            dashboardCache.invalidateLocal();
+        }
+        broadcastAsync(event);
+    }
+
+    /**
+     * 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주석 줄을 보내고, 끊긴 연결을 정리합니다
+     */
+    @Scheduled(fixedRateString = "${app.dashboard.events.heartbeat-interval:PT25S}")
+    public void heartbeat() {
+        dispatch(() -> emitters.forEach(emitter -> send(emitter, SseEmitter.event().comment("keepalive"))));
+    }
+
+    @PreDestroy
+    public void completeAll() {
+        emitters.forEach(SseEmitter::complete);
+        emitters.clear();
+    }
+
+    /**
+     * 전송 실행기에 넘기고 바로 반환합니다
+     */
+    void broadcastAsync(DashboardEvent event) {
+        dispatch(() -> broadcast(event));
+    }
+
+    private void dispatch(Runnable task) {
+        try {
+            eventExecutor.execute(task);
+        } catch (TaskRejectedException e) {
+            // 종료 중 - 열린 스트림은 completeAll에서 닫힘
+            log.debug("Dropping dashboard event: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 이 노드에 연결된 모든 스트림에 보냅니다 (전송 실행기 스레드에서 실행)
+     *
+     * @return 전송에 성공한 스트림 수
+     */
+    int broadcast(DashboardEvent event) {
+        int delivered = 0;
+        for (SseEmitter emitter : emitters) {
+            if (send(emitter, SseEmitter.event()
+                    .name("review")
+                    .data(event, MediaType.APPLICATION_JSON))) {
+                delivered++;
+            }
+        }
+        return delivered;
+    }
+
+    private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (Exception e) {
+            // 브라우저가 닫힌 연결 - 다음 이벤트부터 보내지 않음
+            log.debug("Dropping dashboard event stream: {}", e.getMessage());
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private DashboardEvent toDashboardEvent(ReviewStatusChangedEvent event) {
+        DashboardEvent.StatisticsDelta delta = null;
+        if ("completed".equals(event.status())) {
+            Map<String, Integer> severityCounts = event.severityCounts();
+            delta = DashboardEvent.StatisticsDelta.builder()
+                .reviews(1)
+                .comments(event.totalComments())
+                .errors(severityCounts != null ? severityCounts.getOrDefault("error", 0) : 0)
+                .tokensUsed(event.tokensUsed())
+                .processingTimeMs(event.processingTimeMs())
+                .build();
+        }
+
+        return DashboardEvent.builder()
+            .reviewId(event.reviewId())
+            .pullRequestId(event.pullRequestId())
+            .commitSha(event.commitSha())
+            .status(event.status())
+            .delta(delta)
+            .occurredAt(LocalDateTime.now())
+            .origin(nodeId)
+            .build();
+    }
+}
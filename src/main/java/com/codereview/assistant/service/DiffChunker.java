@@ -0,0 +1,178 @@
+package com.codereview.assistant.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Diff 청크 분할기
+ *
+ * diff를 "diff --git" 파일 경계 기준으로 나누고, 청크당 예산(문자 수 또는 토큰 수)을 넘지 않도록 여러 파일을 묶습니다.
+ * 한 파일이 예산을 넘으면 hunk(@@) 단위로, hunk도 넘으면 줄 단위로 나누며
+ * 나뉜 조각마다 파일 헤더와 hunk 헤더를 다시 붙여 LLM이 위치를 알 수 있게 합니다.
+ * 조각은 들어갈 자리가 있는 첫 청크에 넣고(first-fit), 그래도 청크 수 상한을 넘으면
+ * 변경된 줄이 가장 적은 청크부터 버립니다 - 청크를 합치면 호출당 예산을 넘기 때문입니다.
+ */
+@Component
+@Slf4j
+public class DiffChunker {
+
+    /**
+     * diff를 예산(문자 수) 이하의 청크 목록으로 분할합니다
+     */
+    public List<String> split(String diff, int maxChunkChars) {
+        return split(diff, maxChunkChars, String::length);
+    }
+
+    /**
+     * diff를 예산 이하의 청크 목록으로 분할합니다
+     *
+     * @param measure 텍스트 크기 측정 함수 (문자 수, 토큰 수 등) - 줄 단위로 합산됩니다
+     */
+    public List<String> split(String diff, int maxChunkSize, ToIntFunction<String> measure) {
+        return split(diff, maxChunkSize, Integer.MAX_VALUE, measure);
+    }
+
+    /**
+     * diff를 예산 이하의 청크 최대 maxChunks개로 분할합니다
+     *
+     * @param maxChunks 청크 수 상한 - 넘으면 변경된 줄이 적은 청크부터 리뷰에서 제외
+     * @param measure   텍스트 크기 측정 함수 (문자 수, 토큰 수 등) - 줄 단위로 합산됩니다
+     */
+    public List<String> split(String diff, int maxChunkSize, int maxChunks, ToIntFunction<String> measure) {
+        List<String> chunks = new ArrayList<>();
+        if (diff == null || diff.isBlank()) {
+            return chunks;
+        }
+
+        List<StringBuilder> contents = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+        for (String fileSection : splitFiles(diff)) {
+            int sectionSize = measure.applyAsInt(fileSection);
+            // 파일 하나가 예산을 넘는 경우 - hunk/줄 단위로 나눈 조각을 각각 배치
+            List<String> pieces = sectionSize <= maxChunkSize
+                ? List.of(fileSection)
+                : splitLargeFile(fileSection, maxChunkSize, measure);
+            for (String piece : pieces) {
+                int pieceSize = pieces.size() == 1 ? sectionSize : measure.applyAsInt(piece);
+                int target = IntStream.range(0, contents.size())
+                    .filter(i -> sizes.get(i) + pieceSize <= maxChunkSize)
+                    .findFirst()
+                    .orElse(-1);
+                if (target < 0) {
+                    contents.add(new StringBuilder(piece));
+                    sizes.add(pieceSize);
+                } else {
+                    contents.get(target).append(piece);
+                    sizes.set(target, sizes.get(target) + pieceSize);
+                }
+            }
+        }
+        contents.forEach(content -> chunks.add(content.toString()));
+
+        return limit(chunks, maxChunks);
+    }
+
+    /**
+     * 청크 수가 상한을 넘으면 변경된 줄(+/-)이 가장 적은 청크부터 제외하고 원래 순서를 유지합니다
+     */
+    private List<String> limit(List<String> chunks, int maxChunks) {
+        if (chunks.size() <= Math.max(1, maxChunks)) {
+            return chunks;
+        }
+
+        List<Integer> kept = IntStream.range(0, chunks.size()).boxed()
+            .sorted(Comparator.comparingInt((Integer i) -> changedLines(chunks.get(i))).reversed()
+                .thenComparing(Comparator.naturalOrder()))
+            .limit(Math.max(1, maxChunks))
+            .sorted()
+            .toList();
+        log.warn("Diff needs {} chunks, over the limit of {} - skipping {} chunk(s) with the fewest changed lines",
+            chunks.size(), kept.size(), chunks.size() - kept.size());
+        return kept.stream().map(chunks::get).toList();
+    }
+
+    private int changedLines(String chunk) {
+        int count = 0;
+        for (String line : chunk.split("\n")) {
+            if ((line.startsWith("+") && !line.startsWith("+++")) || (line.startsWith("-") && !line.startsWith("---"))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * "diff --git" 헤더 기준으로 파일별 구간을 나눕니다
+     */
+    List<String> splitFiles(String diff) {
+        List<String> sections = new ArrayList<>();
+        StringBuilder section = new StringBuilder();
+
+        for (String line : diff.split("\n")) {
+            if (line.startsWith("diff --git") && section.length() > 0) {
+                sections.add(section.toString());
+                section.setLength(0);
+            }
+            section.append(line).append("\n");
+        }
+        if (section.length() > 0) {
+            sections.add(section.toString());
+        }
+
+        return sections;
+    }
+
+    private List<String> splitLargeFile(String fileSection, int maxChunkSize, ToIntFunction<String> measure) {
+        List<String> pieces = new ArrayList<>();
+        String[] lines = fileSection.split("\n");
+
+        // 첫 @@ 이전까지는 파일 헤더 (diff --git, ---, +++ 등)
+        StringBuilder fileHeader = new StringBuilder();
+        int i = 0;
+        while (i < lines.length && !lines[i].startsWith("@@")) {
+            fileHeader.append(lines[i]).append("\n");
+            i++;
+        }
+        int headerSize = measure.applyAsInt(fileHeader.toString());
+
+        StringBuilder current = new StringBuilder(fileHeader);
+        int currentSize = headerSize;
+        String hunkHeader = null;
+
+        for (; i < lines.length; i++) {
+            String line = lines[i] + "\n";
+            int lineSize = measure.applyAsInt(line);
+            if (lines[i].startsWith("@@")) {
+                hunkHeader = lines[i];
+            }
+
+            if (currentSize + lineSize > maxChunkSize && current.length() > fileHeader.length()) {
+                pieces.add(current.toString());
+                current.setLength(0);
+                current.append(fileHeader);
+                currentSize = headerSize;
+                // 줄 단위로 잘린 hunk는 헤더를 반복해 문맥을 유지
+                if (hunkHeader != null && !lines[i].startsWith("@@")) {
+                    String repeated = hunkHeader + "\n";
+                    current.append(repeated);
+                    currentSize += measure.applyAsInt(repeated);
+                }
+            }
+
+            current.append(line);
+            currentSize += lineSize;
+        }
+
+        if (current.length() > fileHeader.length()) {
+            pieces.add(current.toString());
+        }
+
+        return pieces;
+    }
+}
@@ -0,0 +1,83 @@
+package com.codereview.assistant.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 외부 서비스별 동시 호출 제한
+ *
+ * 가상 스레드 모드에서는 스레드 풀 크기가 동시성을 제한하지 않으므로,
+ * 외부 서비스(OpenAI, GitHub, GitLab, Bitbucket)마다 세마포어로 동시 호출 수를 제한합니다.
+ * 플랫폼 스레드 모드에서도 동일하게 적용되어 서비스별 상한을 보장합니다.
+ */
+@Component
+@Slf4j
+public class DownstreamLimiter {
+
+    public static final String OPENAI = "openai";
+    public static final String GITHUB = "github";
+    public static final String GITLAB = "gitlab";
+    public static final String BITBUCKET = "bitbucket";
+
+    private final Map<String, Semaphore> permits;
+
+    public DownstreamLimiter(
+            @Value("${app.downstream.max-concurrent.openai:16}") int openAi,
+            @Value("${app.downstream.max-concurrent.github:32}") int gitHub,
+            @Value("${app.downstream.max-concurrent.gitlab:16}") int gitLab,
+            @Value("${app.downstream.max-concurrent.bitbucket:16}") int bitbucket,
+            MeterRegistry meterRegistry) {
+        this.permits = Map.of(
+            OPENAI, new Semaphore(openAi, true),
+            GITHUB, new Semaphore(gitHub, true),
+            GITLAB, new Semaphore(gitLab, true),
+            BITBUCKET, new Semaphore(bitbucket, true)
+        );
+
+        Map<String, Integer> limits = Map.of(OPENAI, openAi, GITHUB, gitHub, GITLAB, gitLab, BITBUCKET, bitbucket);
+        permits.forEach((service, semaphore) -> {
+            Gauge.builder("downstream.calls.active", semaphore, s -> limits.get(service) - s.availablePermits())
+                .description("In-flight calls to a downstream service")
+                .tag("service", service)
+                .register(meterRegistry);
+            Gauge.builder("downstream.calls.waiting", semaphore, Semaphore::getQueueLength)
+                .description("Callers waiting for a downstream call permit")
+                .tag("service", service)
+                .register(meterRegistry);
+        });
+    }
+
+    /**
+     * 서비스 허용량을 얻은 뒤 호출합니다 (허용량이 없으면 대기)
+     */
+    public <T, E extends Exception> T call(String service, DownstreamCall<T, E> call) throws E {
+        Semaphore semaphore = permits.get(service);
+        if (semaphore == null) {
+            throw new IllegalArgumentException("Unknown downstream service: " + service);
+        }
+
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a " + service + " call permit", e);
+        }
+
+        try {
+            return call.call();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    @FunctionalInterface
+    public interface DownstreamCall<T, E extends Exception> {
+        T call() throws E;
+    }
+}
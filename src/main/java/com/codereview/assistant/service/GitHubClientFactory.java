@@ -0,0 +1,340 @@
+package com.codereview.assistant.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import org.kohsuke.github.GHAppInstallationToken;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.extras.okhttp3.OkHttpGitHubConnector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GitHub 클라이언트 팩토리
+ *
+ * 커넥션 풀과 HTTP 캐시를 가진 OkHttp 커넥터 하나를 모든 클라이언트가 공유합니다.
+ * 캐시된 응답은 ETag 조건부 요청(If-None-Match)으로 재검증되며, 304 응답은 rate limit에 포함되지 않습니다.
+ * GitHub App이 설정되어 있으면 설치(installation)별 토큰을 발급해 만료 직전까지 재사용하고,
+ * 아니면 개인 액세스 토큰 또는 익명 클라이언트를 사용합니다.
+ */
+@Component
+@Slf4j
+public class GitHubClientFactory {
+
+    @Value("${github.app.id:}")
+    private String appId;
+
+    @Value("${github.app.private-key:}")
+    private String privateKey;
+
+    @Value("${github.token:#{null}}")
+    private String githubToken;
+
+    // GitHub Enterprise 또는 부하 테스트용 스텁 서버를 가리킬 때 변경
+    @Value("${github.api.url:https://api.github.com}")
+    private String apiUrl;
+
+    // 재시작해도 같은 디렉터리를 써서 저장된 ETag 응답을 재사용 - 한 디렉터리는 한 프로세스만 사용해야 함
+    @Value("${github.client.http-cache-dir:${java.io.tmpdir}/github-http-cache}")
+    private String httpCacheDir;
+
+    @Value("${github.client.http-cache-size:52428800}")
+    private long httpCacheSize;
+
+    @Value("${github.client.max-idle-connections:10}")
+    private int maxIdleConnections;
+
+    // 설치 토큰은 1시간 유효 - 만료까지 이 시간보다 적게 남으면 새로 발급
+    @Value("${github.client.token-refresh-skew:PT5M}")
+    private Duration tokenRefreshSkew;
+
+    @Value("${github.client.repository-cache-ttl:PT10M}")
+    private Duration repositoryCacheTtl;
+
+    private OkHttpClient httpClient;
+    private GitHubConnector connector;
+    private PrivateKey appPrivateKey;
+    private volatile GitHub defaultClient;
+
+    private final Map<Long, GitHub> installationClients = new ConcurrentHashMap<>();
+    // 설치별 발급 결과 - 발급 중이면 완료되지 않은 future를 같은 설치의 요청끼리 공유
+    private final Map<Long, CompletableFuture<InstallationToken>> installationTokens = new ConcurrentHashMap<>();
+    private TokenIssuer tokenIssuer = this::issueInstallationToken;
+    private Cache<String, GHRepository> repositories;
+
+    @PostConstruct
+    void init() throws IOException {
+        httpClient = new OkHttpClient.Builder()
+            .connectionPool(new ConnectionPool(maxIdleConnections, 5, TimeUnit.MINUTES))
+            .cache(new okhttp3.Cache(Files.createDirectories(Path.of(httpCacheDir)).toFile(), httpCacheSize))
+            .build();
+        connector = new OkHttpGitHubConnector(httpClient);
+
+        repositories = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(repositoryCacheTtl)
+            .build();
+
+        if (isAppConfigured()) {
+            appPrivateKey = parsePrivateKey(privateKey);
+            log.info("GitHub App {} configured - using installation tokens", appId);
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        httpClient.dispatcher().executorService().shutdown();
+        httpClient.connectionPool().evictAll();
+        if (httpClient.cache() != null) {
+            httpClient.cache().close();
+        }
+    }
+
+    /**
+     * 설치별(또는 기본) GitHub 클라이언트를 반환합니다 - 호출마다 새로 만들지 않습니다
+     */
+    public GitHub getClient(Long installationId) throws IOException {
+        if (installationId != null && isAppConfigured()) {
+            try {
+                return installationClients.computeIfAbsent(installationId, this::buildInstallationClient);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        return getDefaultClient();
+    }
+
+    /**
+     * 저장소 핸들을 캐시에서 조회하고, 없으면 API로 가져옵니다
+     */
+    public GHRepository getRepository(Long installationId, String fullName) throws IOException {
+        String key = installationId + ":" + fullName;
+        GHRepository cached = repositories.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        GHRepository repository = getClient(installationId).getRepository(fullName);
+        repositories.put(key, repository);
+        return repository;
+    }
+
+    private GitHub getDefaultClient() throws IOException {
+        GitHub client = defaultClient;
+        if (client != null) {
+            return client;
+        }
+
+        synchronized (this) {
+            if (defaultClient == null) {
+                GitHubBuilder builder = new GitHubBuilder().withEndpoint(apiUrl).withConnector(connector);
+                // Use personal access token if available (for testing/development)
+                if (githubToken != null && !githubToken.isEmpty()) {
+                    builder.withOAuthToken(githubToken);
+                } else {
+                    log.warn("No GitHub token configured - using anonymous access with limited rate");
+                }
+                defaultClient = builder.build();
+            }
+            return defaultClient;
+        }
+    }
+
+    private GitHub buildInstallationClient(Long installationId) {
+        try {
+            // 토큰은 요청마다 캐시에서 꺼내므로 클라이언트는 토큰이 갱신되어도 그대로 재사용
+            return new GitHubBuilder()
+                .withEndpoint(apiUrl)
+                .withConnector(connector)
+                .withAuthorizationProvider(() -> "token " + getInstallationToken(installationId))
+                .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 설치 토큰을 반환합니다 - 만료 직전까지 재사용하고, 갱신이 필요하면 한 요청만 발급합니다
+     *
+     * 발급(네트워크 호출)은 맵 연산 밖에서 실행하므로 다른 설치의 요청은 막히지 않고,
+     * 같은 설치의 동시 요청은 발급 중인 future를 기다립니다. 발급에 실패하면 캐시하지 않습니다.
+     */
+    String getInstallationToken(Long installationId) throws IOException {
+        while (true) {
+            CompletableFuture<InstallationToken> current = installationTokens.get(installationId);
+            if (current != null && !isStale(current)) {
+                return await(current).value();
+            }
+
+            CompletableFuture<InstallationToken> issuing = new CompletableFuture<>();
+            boolean claimed = current == null
+                ? installationTokens.putIfAbsent(installationId, issuing) == null
+                : installationTokens.replace(installationId, current, issuing);
+            if (!claimed) {
+                // 다른 요청이 먼저 갱신을 시작함 - 그 결과를 다시 조회
+                continue;
+            }
+
+            try {
+                issuing.complete(tokenIssuer.issue(installationId));
+            } catch (IOException | RuntimeException e) {
+                installationTokens.remove(installationId, issuing);
+                issuing.completeExceptionally(e);
+            }
+            return await(issuing).value();
+        }
+    }
+
+    private boolean isStale(CompletableFuture<InstallationToken> token) {
+        return token.isDone() && (token.isCompletedExceptionally() || !token.join().isValid(tokenRefreshSkew));
+    }
+
+    private InstallationToken await(CompletableFuture<InstallationToken> token) throws IOException {
+        try {
+            return token.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a GitHub installation token", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Failed to issue GitHub installation token: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private InstallationToken issueInstallationToken(Long installationId) throws IOException {
+        GitHub app = new GitHubBuilder()
+            .withEndpoint(apiUrl)
+            .withConnector(connector)
+            .withJwtToken(createAppJwt())
+            .build();
+        GHAppInstallationToken created = app.getApp().getInstallationById(installationId).createToken().create();
+        InstallationToken token = new InstallationToken(created.getToken(), created.getExpiresAt().toInstant());
+        log.info("Issued GitHub installation token for installation {} (expires at {})",
+            installationId, token.expiresAt());
+        return token;
+    }
+
+    /**
+     * GitHub App 인증용 JWT (RS256, 최대 10분 유효)
+     */
+    private String createAppJwt() throws IOException {
+        long now = Instant.now().getEpochSecond();
+        String header = base64Url("{\"alg\":\"RS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+        // iat는 시계 오차를 고려해 60초 전으로 설정
+        String payload = base64Url(("{\"iat\":" + (now - 60) + ",\"exp\":" + (now + 540) + ",\"iss\":\"" + appId + "\"}")
+            .getBytes(StandardCharsets.UTF_8));
+        String signingInput = header + "." + payload;
+
+        try {
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initSign(appPrivateKey);
+            signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + base64Url(signature.sign());
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to sign GitHub App JWT", e);
+        }
+    }
+
+    private boolean isAppConfigured() {
+        return appId != null && !appId.isEmpty() && privateKey != null && !privateKey.isEmpty();
+    }
+
+    /**
+     * PEM 형식의 PKCS#1(BEGIN RSA PRIVATE KEY) 또는 PKCS#8(BEGIN PRIVATE KEY) 키를 읽습니다
+     */
+    static PrivateKey parsePrivateKey(String pem) {
+        String normalized = pem.replace("\\n", "\n");
+        boolean pkcs1 = normalized.contains("BEGIN RSA PRIVATE KEY");
+        String base64 = normalized.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        byte[] der = Base64.getDecoder().decode(base64);
+
+        try {
+            byte[] pkcs8 = pkcs1 ? wrapPkcs1(der) : der;
+            return KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(pkcs8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid GitHub App private key", e);
+        }
+    }
+
+    /**
+     * PKCS#1 RSA 키를 PKCS#8 PrivateKeyInfo 구조로 감쌉니다
+     */
+    private static byte[] wrapPkcs1(byte[] pkcs1) {
+        byte[] version = {0x02, 0x01, 0x00};
+        // AlgorithmIdentifier { rsaEncryption (1.2.840.113549.1.1.1), NULL }
+        byte[] algorithm = {0x30, 0x0d, 0x06, 0x09, 0x2a, (byte) 0x86, 0x48, (byte) 0x86, (byte) 0xf7,
+            0x0d, 0x01, 0x01, 0x01, 0x05, 0x00};
+        byte[] privateKey = derElement(0x04, pkcs1);
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(version);
+        body.writeBytes(algorithm);
+        body.writeBytes(privateKey);
+        return derElement(0x30, body.toByteArray());
+    }
+
+    private static byte[] derElement(int tag, byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(tag);
+        int length = content.length;
+        if (length < 0x80) {
+            out.write(length);
+        } else {
+            int bytes = (32 - Integer.numberOfLeadingZeros(length) + 7) / 8;
+            out.write(0x80 | bytes);
+            for (int i = bytes - 1; i >= 0; i--) {
+                out.write(length >>> (8 * i));
+            }
+        }
+        out.writeBytes(content);
+        return out.toByteArray();
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    record InstallationToken(String value, Instant expiresAt) {
+
+        boolean isValid(Duration refreshSkew) {
+            return Instant.now().plus(refreshSkew).isBefore(expiresAt);
+        }
+    }
+
+    /**
+     * 설치 토큰 발급 (GitHub API 호출)
+     */
+    @FunctionalInterface
+    interface TokenIssuer {
+        InstallationToken issue(Long installationId) throws IOException;
+    }
+}
@@ -1,5 +1,8 @@
 package com.codereview.assistant.service;
 
+import com.codereview.assistant.diff.DiffFile;
+import com.codereview.assistant.diff.DiffModel;
+import com.codereview.assistant.diff.UnifiedDiffParser;
 import com.codereview.assistant.exception.GitHubApiException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,46 +11,44 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GitHubClientService {
 
-    @Value("${github.app.id:}")
-    private String appId;
+    private final UnifiedDiffParser unifiedDiffParser;
+    private final GitHubClientFactory gitHubClientFactory;
+    private final DownstreamLimiter downstreamLimiter;
 
-    @Value("${github.app.private-key:}")
-    private String privateKey;
+    // The compare API returns at most 300 files
+    private static final int MAX_COMPARE_FILES = 300;
 
-    @Value("${github.token:#{null}}")
-    private String githubToken;
+    // GitHub rejects review bodies over 65536 characters
+    private static final int MAX_REVIEW_BODY_LENGTH = 60_000;
+
+    private static final String CONTINUED_REVIEW_BODY = "## 🤖 AI Code Review (continued)";
+
+    // Inline comments per review; larger reviews are submitted in batches
+    @Value("${github.review.max-comments-per-review:50}")
+    private int maxCommentsPerReview;
 
     /**
      * Fetches the diff content for a pull request
      */
-    public String getPullRequestDiff(String owner, String repo, int prNumber, Long installationId) {
+    public DiffModel getPullRequestDiff(String owner, String repo, int prNumber, Long installationId) {
         log.info("Fetching diff for PR: {}/{}#{}", owner, repo, prNumber);
 
         try {
-            GitHub github = getGitHubClient(installationId);
-            GHRepository repository = github.getRepository(owner + "/" + repo);
-            GHPullRequest pullRequest = repository.getPullRequest(prNumber);
-
-            // Get diff by listing files and creating a simple diff format
-            StringBuilder diffBuilder = new StringBuilder();
-            for (GHPullRequestFileDetail file : pullRequest.listFiles()) {
-                diffBuilder.append("diff --git a/").append(file.getFilename())
-                    .append(" b/").append(file.getFilename()).append("\n");
-                diffBuilder.append("--- a/").append(file.getFilename()).append("\n");
-                diffBuilder.append("+++ b/").append(file.getFilename()).append("\n");
-                diffBuilder.append("@@ -").append(file.getDeletions())
-                    .append(" +").append(file.getAdditions()).append(" @@\n");
-                diffBuilder.append(file.getPatch() != null ? file.getPatch() : "").append("\n\n");
-            }
+            GHRepository repository = gitHubClientFactory.getRepository(installationId, owner + "/" + repo);
+            GHPullRequest pullRequest = downstreamLimiter.call(DownstreamLimiter.GITHUB, () -> repository.getPullRequest(prNumber));
 
-            return diffBuilder.toString();
+            // Parse each file's patch directly; positions follow GitHub's per-file numbering
+            return downstreamLimiter.call(DownstreamLimiter.GITHUB, () -> toDiffModel(pullRequest.listFiles()));
         } catch (IOException e) {
             log.error("Failed to fetch diff for PR: {}/{}#{}", owner, repo, prNumber, e);
             throw new GitHubApiException(
@@ -58,111 +59,223 @@ public class GitHubClientService {
     }
 
     /**
-     * Posts review comments on a pull request
+     * Fetches the diff between two commits of a pull request (compare API)
+     *
+     * @return empty if head is not a fast-forward of base (force push/rebase), the new commits include a merge
+     *         (e.g. the base branch merged into the PR, whose upstream files are not part of the PR) or the compare was truncated
      */
-    public void postReviewComments(
-            String owner,
-            String repo,
-            int prNumber,
-            String commitSha,
-            List<ReviewCommentRequest> comments,
-            Long installationId
-    ) {
-        log.info("Posting {} review comments for PR: {}/{}#{}",
-            comments.size(), owner, repo, prNumber);
-
-        // Skip if no comments
-        if (comments == null || comments.isEmpty()) {
-            log.info("No review comments to post, skipping");
-            return;
-        }
+    public Optional<DiffModel> getCompareDiff(String owner, String repo, String baseSha, String headSha,
+                                              Long installationId) {
+        log.info("Fetching compare diff for {}/{}: {}...{}", owner, repo, baseSha, headSha);
 
         try {
-            GitHub github = getGitHubClient(installationId);
-            GHRepository repository = github.getRepository(owner + "/" + repo);
-            GHPullRequest pullRequest = repository.getPullRequest(prNumber);
+            GHRepository repository = gitHubClientFactory.getRepository(installationId, owner + "/" + repo);
+            GHCompare compare = downstreamLimiter.call(DownstreamLimiter.GITHUB, () -> repository.getCompare(baseSha, headSha));
 
-            // Post individual comments as issue comments
-            // (Personal Access Token has limited support for PR Review API)
-            int successCount = 0;
-            for (ReviewCommentRequest comment : comments) {
-                try {
-                    String body = formatCommentBodyWithLocation(comment);
-                    pullRequest.comment(body);
-                    successCount++;
-                } catch (IOException e) {
-                    log.warn("Failed to post individual comment: {}", e.getMessage());
-                    // Continue with other comments
-                }
+            if (compare.getStatus() == GHCompare.Status.identical) {
+                return Optional.of(DiffModel.empty());
+            }
+            if (compare.getStatus() != GHCompare.Status.ahead) {
+                log.info("Compare status is {} - history was rewritten, incremental diff not available",
+                    compare.getStatus());
+                return Optional.empty();
             }
 
-            log.info("Successfully posted {}/{} review comments", successCount, comments.size());
+            // Merging the base branch brings upstream changes into compare(prev, head) - review the full PR diff instead
+            GHCompare.Commit[] commits = compare.getCommits();
+            if (commits.length < compare.getTotalCommits()
+                    || Arrays.stream(commits).anyMatch(commit -> commit.getParentSHA1s().size() > 1)) {
+                log.info("New commits include a merge commit - incremental diff not available");
+                return Optional.empty();
+            }
+
+            GHCommit.File[] changedFiles = compare.getFiles();
+            if (changedFiles.length >= MAX_COMPARE_FILES) {
+                log.info("Compare returned {} files (API limit) - incremental diff may be incomplete", changedFiles.length);
+                return Optional.empty();
+            }
+
+            List<DiffFile> files = new ArrayList<>();
+            for (GHCommit.File file : changedFiles) {
+                String oldPath = file.getPreviousFilename() != null ? file.getPreviousFilename() : file.getFileName();
+                DiffFile diffFile = unifiedDiffParser.parsePatch(oldPath, file.getFileName(), file.getPatch());
+                diffFile.setStatus(toDiffStatus(file.getStatus()));
+                diffFile.setBinary(file.getPatch() == null);
+                files.add(diffFile);
+            }
+
+            return Optional.of(new DiffModel(files));
         } catch (IOException e) {
-            log.error("Failed to post review comments for PR: {}/{}#{}", owner, repo, prNumber, e);
+            log.error("Failed to fetch compare diff for {}/{}: {}...{}", owner, repo, baseSha, headSha, e);
             throw new GitHubApiException(
-                String.format("Failed to post review comments for PR %s/%s#%d: %s", owner, repo, prNumber, e.getMessage()),
+                String.format("Failed to fetch compare diff for %s/%s %s...%s: %s", owner, repo, baseSha, headSha, e.getMessage()),
                 e
             );
         }
     }
 
+    private DiffFile.Status toDiffStatus(String status) {
+        if (status == null) {
+            return DiffFile.Status.MODIFIED;
+        }
+        return switch (status) {
+            case "added" -> DiffFile.Status.ADDED;
+            case "removed" -> DiffFile.Status.DELETED;
+            case "renamed" -> DiffFile.Status.RENAMED;
+            default -> DiffFile.Status.MODIFIED;
+        };
+    }
+
     /**
-     * Posts a summary comment on the pull request
+     * Submits all findings as a single pull request review
+     *
+     * Comments on lines that are part of the PR diff become inline review comments (positioned from the diff hunks);
+     * the rest are listed in the review body together with the summary.
+     * Large reviews are split into several reviews of at most maxCommentsPerReview inline comments.
+     *
+     * @param prDiff full PR diff used for inline positions; fetched from the pull request when null
      */
-    public void postSummaryComment(
+    public void submitReview(
             String owner,
             String repo,
             int prNumber,
+            String commitSha,
             String summary,
-            int totalComments,
+            List<ReviewCommentRequest> comments,
+            DiffModel prDiff,
             Long installationId
     ) {
-        log.info("Posting summary comment for PR: {}/{}#{}", owner, repo, prNumber);
+        log.info("Submitting review with {} comments for PR: {}/{}#{}", comments.size(), owner, repo, prNumber);
 
         try {
-            GitHub github = getGitHubClient(installationId);
-            GHRepository repository = github.getRepository(owner + "/" + repo);
-            GHPullRequest pullRequest = repository.getPullRequest(prNumber);
-
-            String commentBody = """
-                ## 🤖 AI Code Review Summary
+            GHRepository repository = gitHubClientFactory.getRepository(installationId, owner + "/" + repo);
+            GHPullRequest pullRequest = downstreamLimiter.call(DownstreamLimiter.GITHUB, () -> repository.getPullRequest(prNumber));
 
-                %s
+            DiffModel positions = prDiff;
+            if (positions == null && !comments.isEmpty()) {
+                positions = downstreamLimiter.call(DownstreamLimiter.GITHUB, () -> toDiffModel(pullRequest.listFiles()));
+            }
 
-                **Total Issues Found:** %d
+            List<InlineComment> inline = new ArrayList<>();
+            List<ReviewCommentRequest> general = new ArrayList<>();
+            for (ReviewCommentRequest comment : comments) {
+                int position = findPosition(positions, comment);
+                if (position > 0) {
+                    inline.add(new InlineComment(comment.getFilePath(), position, formatCommentBody(comment)));
+                } else {
+                    general.add(comment);
+                }
+            }
 
-                ---
-                *Powered by CodeReview AI Assistant*
-                """.formatted(summary, totalComments);
+            List<String> bodies = buildReviewBodies(summary, comments.size(), general);
+            int batches = Math.max(bodies.size(), ceilDiv(inline.size(), maxCommentsPerReview));
+            for (int batch = 0; batch < batches; batch++) {
+                List<InlineComment> batchComments = inline.subList(
+                    Math.min(batch * maxCommentsPerReview, inline.size()),
+                    Math.min((batch + 1) * maxCommentsPerReview, inline.size()));
+                String body = batch < bodies.size() ? bodies.get(batch) : CONTINUED_REVIEW_BODY;
+                createReview(pullRequest, commitSha, body, batchComments);
+            }
 
-            pullRequest.comment(commentBody);
-            log.info("Successfully posted summary comment");
+            log.info("Submitted {} review(s): {} inline comments, {} in review body",
+                batches, inline.size(), general.size());
         } catch (IOException e) {
-            log.error("Failed to post summary comment for PR: {}/{}#{}", owner, repo, prNumber, e);
+            log.error("Failed to submit review for PR: {}/{}#{}", owner, repo, prNumber, e);
             throw new GitHubApiException(
-                String.format("Failed to post summary comment for PR %s/%s#%d: %s", owner, repo, prNumber, e.getMessage()),
+                String.format("Failed to submit review for PR %s/%s#%d: %s", owner, repo, prNumber, e.getMessage()),
                 e
             );
         }
     }
 
-    private GitHub getGitHubClient(Long installationId) throws IOException {
-        // For GitHub App authentication
-        // This is a simplified version - in production, you'd implement proper GitHub App auth
+    private void createReview(GHPullRequest pullRequest, String commitSha, String body,
+                              List<InlineComment> comments) throws IOException {
+        GHPullRequestReviewBuilder builder = pullRequest.createReview()
+            .commitId(commitSha)
+            .body(body)
+            .event(GHPullRequestReviewEvent.COMMENT);
+        for (InlineComment comment : comments) {
+            builder.comment(comment.body(), comment.path(), comment.position());
+        }
+
+        try {
+            downstreamLimiter.call(DownstreamLimiter.GITHUB, builder::create);
+        } catch (HttpException e) {
+            if (e.getResponseCode() != 422 || comments.isEmpty()) {
+                throw e;
+            }
+            // 위치가 맞지 않는 코멘트가 있으면 리뷰 전체가 거부되므로 본문에 넣어 다시 제출
+            log.warn("Inline review comments rejected ({}), resubmitting them in the review body", e.getMessage());
+            StringBuilder fallback = new StringBuilder(body);
+            for (InlineComment comment : comments) {
+                fallback.append("\n\n---\n\n**📁 File:** `").append(comment.path()).append("`\n\n")
+                    .append(comment.body());
+            }
+            GHPullRequestReviewBuilder fallbackReview = pullRequest.createReview()
+                .commitId(commitSha)
+                .body(truncateBody(fallback.toString()))
+                .event(GHPullRequestReviewEvent.COMMENT);
+            downstreamLimiter.call(DownstreamLimiter.GITHUB, fallbackReview::create);
+        }
+    }
+
+    /**
+     * 요약과 위치를 찾지 못한 코멘트를 리뷰 본문 길이 제한에 맞춰 나눕니다
+     */
+    private List<String> buildReviewBodies(String summary, int totalComments, List<ReviewCommentRequest> general) {
+        List<String> bodies = new ArrayList<>();
+        StringBuilder current = new StringBuilder("""
+            ## 🤖 AI Code Review Summary
+
+            %s
+
+            **Total Issues Found:** %d
+            """.formatted(summary, totalComments));
+
+        for (ReviewCommentRequest comment : general) {
+            String section = "\n---\n\n" + formatCommentBodyWithLocation(comment);
+            if (current.length() + section.length() > MAX_REVIEW_BODY_LENGTH) {
+                bodies.add(current.toString());
+                current = new StringBuilder(CONTINUED_REVIEW_BODY).append("\n");
+            }
+            current.append(section);
+        }
+        current.append("\n---\n*Powered by CodeReview AI Assistant*\n");
+        bodies.add(truncateBody(current.toString()));
+        return bodies;
+    }
+
+    private int findPosition(DiffModel diff, ReviewCommentRequest comment) {
+        if (diff == null || comment.getLineNumber() == null) {
+            return -1;
+        }
+        return diff.findFile(comment.getFilePath())
+            .map(file -> file.findPosition(comment.getLineNumber()))
+            .orElse(-1);
+    }
 
-        // Use personal access token if available (for testing/development)
-        if (githubToken != null && !githubToken.isEmpty()) {
-            return new GitHubBuilder()
-                .withOAuthToken(githubToken)
-                .build();
+    private DiffModel toDiffModel(Iterable<GHPullRequestFileDetail> pullRequestFiles) {
+        List<DiffFile> files = new ArrayList<>();
+        for (GHPullRequestFileDetail file : pullRequestFiles) {
+            String oldPath = file.getPreviousFilename() != null ? file.getPreviousFilename() : file.getFilename();
+            DiffFile diffFile = unifiedDiffParser.parsePatch(oldPath, file.getFilename(), file.getPatch());
+            diffFile.setStatus(toDiffStatus(file.getStatus()));
+            // GitHub omits the patch for binary and oversized files
+            diffFile.setBinary(file.getPatch() == null);
+            files.add(diffFile);
         }
+        return new DiffModel(files);
+    }
 
-        // Otherwise, use anonymous access (limited rate)
-        log.warn("No GitHub token configured - using anonymous access with limited rate");
-        return new GitHubBuilder().build();
+    private String truncateBody(String body) {
+        return body.length() <= MAX_REVIEW_BODY_LENGTH ? body : body.substring(0, MAX_REVIEW_BODY_LENGTH) + "\n…";
     }
 
-    private String formatCommentBody(ReviewCommentRequest comment) {
+    private static int ceilDiv(int a, int b) {
+        return (a + b - 1) / b;
+    }
+
+    static String formatCommentBody(ReviewCommentRequest comment) {
         StringBuilder body = new StringBuilder();
 
         // Add severity emoji
@@ -188,7 +301,7 @@ public class GitHubClientService {
         return body.toString();
     }
 
-    private String formatCommentBodyWithLocation(ReviewCommentRequest comment) {
+    static String formatCommentBodyWithLocation(ReviewCommentRequest comment) {
         StringBuilder body = new StringBuilder();
 
         // Add file location header
@@ -223,6 +336,9 @@ public class GitHubClientService {
         return body.toString();
     }
 
+    private record InlineComment(String path, int position, String body) {
+    }
+
     @lombok.Data
     @lombok.Builder
     public static class ReviewCommentRequest {
@@ -1,5 +1,8 @@
 package com.codereview.assistant.service;
 
+import com.codereview.assistant.diff.DiffFile;
+import com.codereview.assistant.diff.DiffModel;
+import com.codereview.assistant.diff.UnifiedDiffParser;
 import com.codereview.assistant.exception.GitLabApiException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -10,7 +13,9 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * GitLab API 클라이언트 서비스
@@ -22,6 +27,8 @@ public class GitLabClientService {
 
     private final RestTemplate restTemplate = new RestTemplate();
     private final ObjectMapper objectMapper;
+    private final UnifiedDiffParser unifiedDiffParser;
+    private final DownstreamLimiter downstreamLimiter;
 
     @Value("${gitlab.api.url:https://gitlab.com/api/v4}")
     private String gitlabApiUrl;
@@ -34,9 +41,9 @@ public class GitLabClientService {
      *
      * @param projectId 프로젝트 ID
      * @param mergeRequestIid Merge Request IID
-     * @return diff 내용
+     * @return 파싱된 diff 모델
      */
-    public String getMergeRequestDiff(Long projectId, Long mergeRequestIid) {
+    public DiffModel getMergeRequestDiff(Long projectId, Long mergeRequestIid) {
         try {
             String url = String.format("%s/projects/%d/merge_requests/%d/changes",
                     gitlabApiUrl, projectId, mergeRequestIid);
@@ -49,12 +56,12 @@ public class GitLabClientService {
 
             HttpEntity<String> entity = new HttpEntity<>(headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = downstreamLimiter.call(DownstreamLimiter.GITLAB, () -> restTemplate.exchange(
                     url,
                     HttpMethod.GET,
                     entity,
                     String.class
-            );
+            ));
 
             if (response.getStatusCode() == HttpStatus.OK) {
                 return parseDiffFromChanges(response.getBody());
@@ -71,39 +78,37 @@ public class GitLabClientService {
     /**
      * GitLab changes API 응답에서 diff를 파싱합니다
      */
-    private String parseDiffFromChanges(String changesJson) {
+    private DiffModel parseDiffFromChanges(String changesJson) {
         try {
             JsonNode root = objectMapper.readTree(changesJson);
             JsonNode changes = root.get("changes");
 
             if (changes == null || !changes.isArray()) {
-                return "";
+                return DiffModel.empty();
             }
 
-            StringBuilder diffBuilder = new StringBuilder();
+            List<DiffFile> files = new ArrayList<>();
 
             for (JsonNode change : changes) {
                 String oldPath = change.has("old_path") ? change.get("old_path").asText() : "";
                 String newPath = change.has("new_path") ? change.get("new_path").asText() : "";
                 String diff = change.has("diff") ? change.get("diff").asText() : "";
 
-                // Git diff 형식으로 변환
-                diffBuilder.append("diff --git a/").append(oldPath)
-                        .append(" b/").append(newPath).append("\n");
-
-                if (change.has("new_file") && change.get("new_file").asBoolean()) {
-                    diffBuilder.append("new file mode 100644\n");
-                } else if (change.has("deleted_file") && change.get("deleted_file").asBoolean()) {
-                    diffBuilder.append("deleted file mode 100644\n");
-                } else if (change.has("renamed_file") && change.get("renamed_file").asBoolean()) {
-                    diffBuilder.append("rename from ").append(oldPath).append("\n");
-                    diffBuilder.append("rename to ").append(newPath).append("\n");
+                // 파일 단위 patch를 바로 모델로 변환 (문자열 재조립 없음)
+                DiffFile file = unifiedDiffParser.parsePatch(oldPath, newPath, diff);
+
+                if (change.path("new_file").asBoolean(false)) {
+                    file.setStatus(DiffFile.Status.ADDED);
+                } else if (change.path("deleted_file").asBoolean(false)) {
+                    file.setStatus(DiffFile.Status.DELETED);
+                } else if (change.path("renamed_file").asBoolean(false)) {
+                    file.setStatus(DiffFile.Status.RENAMED);
                 }
 
-                diffBuilder.append(diff).append("\n");
+                files.add(file);
             }
 
-            return diffBuilder.toString();
+            return new DiffModel(files);
 
         } catch (Exception e) {
             log.error("Error parsing GitLab changes", e);
@@ -135,12 +140,12 @@ public class GitLabClientService {
 
             HttpEntity<String> entity = new HttpEntity<>(requestBody, headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = downstreamLimiter.call(DownstreamLimiter.GITLAB, () -> restTemplate.exchange(
                     url,
                     HttpMethod.POST,
                     entity,
                     String.class
-            );
+            ));
 
             if (response.getStatusCode().is2xxSuccessful()) {
                 log.info("Successfully posted comment to GitLab MR {}/{}", projectId, mergeRequestIid);
@@ -193,12 +198,12 @@ public class GitLabClientService {
                     headers
             );
 
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = downstreamLimiter.call(DownstreamLimiter.GITLAB, () -> restTemplate.exchange(
                     url,
                     HttpMethod.POST,
                     entity,
                     String.class
-            );
+            ));
 
             if (response.getStatusCode().is2xxSuccessful()) {
                 log.info("Successfully posted line comment to GitLab MR {}/{} at {}:{}",
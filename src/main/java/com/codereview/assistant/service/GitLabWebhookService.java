@@ -1,5 +1,7 @@
 package com.codereview.assistant.service;
 
+import com.codereview.assistant.diff.DiffModel;
+import com.codereview.assistant.diff.LanguageDetector;
 import com.codereview.assistant.dto.CodeReviewResult;
 import com.codereview.assistant.dto.gitlab.GitLabMergeRequestEvent;
 import com.codereview.assistant.exception.WebhookProcessingException;
@@ -17,6 +19,7 @@ public class GitLabWebhookService {
 
     private final GitLabClientService gitLabClientService;
     private final CodeReviewService codeReviewService;
+    private final ReviewMetrics reviewMetrics;
 
     /**
      * GitLab Merge Request 이벤트를 처리합니다
@@ -24,6 +27,8 @@ public class GitLabWebhookService {
      * @param event GitLab MR 이벤트
      */
     public void handleMergeRequestEvent(GitLabMergeRequestEvent event) {
+        ReviewMetrics.Recording metrics = null;
+        String outcome = ReviewMetrics.OUTCOME_FAILED;
         try {
             log.info("Processing GitLab MR event: {} - {} for project {}",
                     event.getObjectAttributes().getAction(),
@@ -46,22 +51,40 @@ public class GitLabWebhookService {
             // 1. MR diff 가져오기
             Long projectId = event.getProject().getId();
             Long mergeRequestIid = event.getObjectAttributes().getIid();
-            String diffContent = gitLabClientService.getMergeRequestDiff(projectId, mergeRequestIid);
+            metrics = reviewMetrics.start("gitlab", event.getProject().getPathWithNamespace());
+            DiffModel diff;
+            try (ReviewMetrics.Stage stage = metrics.stage(ReviewMetrics.STAGE_FETCH_DIFF)) {
+                diff = gitLabClientService.getMergeRequestDiff(projectId, mergeRequestIid);
+            }
 
-            if (diffContent == null || diffContent.trim().isEmpty()) {
+            if (diff == null || diff.isEmpty()) {
                 log.warn("No diff content found for MR {}/{}", projectId, mergeRequestIid);
+                outcome = ReviewMetrics.OUTCOME_SKIPPED;
                 return;
             }
+            metrics.diff(diff);
 
-            // 2. 언어 감지 (간단한 프로젝트 이름 기반 - 개선 필요)
-            String language = detectLanguageFromProject(event.getProject().getName());
+            // 2. 언어 감지 (변경 파일 확장자 기준, 실패 시 프로젝트 이름 휴리스틱)
+            String language = LanguageDetector.detect(diff);
+            if (LanguageDetector.UNKNOWN.equals(language)) {
+                language = detectLanguageFromProject(event.getProject().getName());
+            }
+            metrics.language(language);
 
             // 3. AI 코드 리뷰 수행
-            CodeReviewResult reviewResult = codeReviewService.analyzeCode(diffContent, language);
+            CodeReviewResult reviewResult;
+            try (ReviewMetrics.Stage stage = metrics.stage(ReviewMetrics.STAGE_LLM)) {
+                reviewResult = codeReviewService.analyzeCode(diff, language, "gitlab:" + projectId);
+            }
+            metrics.model(reviewResult.getModel());
 
             // 4. GitLab에 코멘트 작성
-            postReviewComments(projectId, mergeRequestIid, reviewResult,
-                    event.getObjectAttributes().getLastCommit().getId());
+            try (ReviewMetrics.Stage stage = metrics.stage(ReviewMetrics.STAGE_POST_REVIEW)) {
+                postReviewComments(projectId, mergeRequestIid, reviewResult,
+                        event.getObjectAttributes().getLastCommit().getId());
+            }
+            metrics.result(reviewResult.getTokensUsed(), reviewResult.getComments().size());
+            outcome = ReviewMetrics.OUTCOME_COMPLETED;
 
             log.info("Successfully completed code review for GitLab MR {}/{}",
                     projectId, mergeRequestIid);
@@ -69,6 +92,10 @@ public class GitLabWebhookService {
         } catch (Exception e) {
             log.error("Error processing GitLab MR event", e);
             throw new WebhookProcessingException("Failed to process GitLab MR webhook", e);
+        } finally {
+            if (metrics != null) {
+                metrics.finish(outcome);
+            }
         }
     }
 
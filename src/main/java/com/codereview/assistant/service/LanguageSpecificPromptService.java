@@ -11,6 +11,11 @@ import java.util.Map;
 @Service
 public class LanguageSpecificPromptService {
 
+    /**
+     * 프롬프트 템플릿 버전 - 템플릿 문구를 바꾸면 반드시 올려야 LLM 결과 캐시가 무효화됩니다
+     */
+    public static final String PROMPT_VERSION = "v1";
+
     private static final Map<String, String> LANGUAGE_SPECIFIC_GUIDELINES = new HashMap<>();
 
     static {
@@ -237,6 +242,13 @@ public class LanguageSpecificPromptService {
         };
     }
 
+    /**
+     * 현재 프롬프트 템플릿 버전을 반환합니다
+     */
+    public String getPromptVersion() {
+        return PROMPT_VERSION;
+    }
+
     /**
      * 지원하는 언어 목록을 반환합니다
      */
@@ -0,0 +1,375 @@
+package com.codereview.assistant.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LLM 호출 복원력 계층
+ *
+ * - 시도마다 타임아웃을 두고, 5xx/429/네트워크 오류/타임아웃이면 지터를 준 지수 백오프로 재시도합니다.
+ *   타임아웃은 시도가 {@link Attempt#markSent()}로 요청을 보냈다고 알린 시점부터 잽니다 (rate limit 대기는 제외).
+ * - 헤징이 켜져 있으면 최근 성공 지연의 p95가 지나도 응답이 없을 때 같은 요청을 한 번 더 보내고,
+ *   먼저 끝난 응답을 쓰고 나머지는 포기합니다. 포기한 시도는 인터럽트하고 {@link Attempt#onAbandon}으로
+ *   등록된 정리 작업(스트림 닫기, 허가 반환)을 실행합니다 - 블로킹 HTTP 읽기는 인터럽트로 끊기지 않기 때문입니다.
+ * - 시도마다 llm.call.attempts 타이머에 결과(outcome)와 종류(primary/hedge)를 기록합니다.
+ */
+@Component
+@Slf4j
+public class LlmCallExecutor {
+
+    private static final int LATENCY_WINDOW = 200;
+
+    // 요청을 보내기 전(허가 대기 중)에는 이 간격으로 전송 여부를 다시 확인
+    private static final long QUEUED_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AsyncTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration attemptTimeout;
+    private final boolean hedgeEnabled;
+    private final int hedgeMinSamples;
+    private final Duration hedgeMinDelay;
+
+    private final long[] latencies = new long[LATENCY_WINDOW];
+    private int latencyCount;
+    private int latencyIndex;
+
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+
+    public LlmCallExecutor(
+            @Qualifier("llmAttemptExecutor") AsyncTaskExecutor executor,
+            MeterRegistry meterRegistry,
+            @Value("${app.openai.retry.max-attempts:3}") int maxAttempts,
+            @Value("${app.openai.retry.initial-backoff:PT1S}") Duration initialBackoff,
+            @Value("${app.openai.retry.max-backoff:PT20S}") Duration maxBackoff,
+            @Value("${app.openai.retry.attempt-timeout:PT60S}") Duration attemptTimeout,
+            @Value("${app.openai.hedge.enabled:false}") boolean hedgeEnabled,
+            @Value("${app.openai.hedge.min-samples:20}") int hedgeMinSamples,
+            @Value("${app.openai.hedge.min-delay:PT2S}") Duration hedgeMinDelay) {
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.attemptTimeout = attemptTimeout;
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeMinSamples = hedgeMinSamples;
+        this.hedgeMinDelay = hedgeMinDelay;
+
+        this.hedgesSent = Counter.builder("llm.call.hedges")
+            .description("Hedged LLM requests sent after the p95 latency elapsed")
+            .tag("result", "sent")
+            .register(meterRegistry);
+        this.hedgesWon = Counter.builder("llm.call.hedges")
+            .description("Hedged LLM requests that finished before the primary")
+            .tag("result", "won")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 재시도와 헤징을 적용해 호출합니다
+     *
+     * 마지막 시도의 예외를 그대로 던지며, 시도 타임아웃은 ResourceAccessException으로 알립니다.
+     */
+    public <T> T execute(Callable<T> call) {
+        return execute(call, true);
+    }
+
+    /**
+     * 재시도를 적용해 호출합니다 - hedgeable이 false이면 헤지 요청을 보내지 않습니다
+     * (부수 효과가 있는 스트리밍 호출처럼 두 요청이 동시에 실행되면 안 되는 경우)
+     */
+    public <T> T execute(Callable<T> call, boolean hedgeable) {
+        return execute(attempt -> {
+            attempt.markSent();
+            return call.call();
+        }, hedgeable);
+    }
+
+    /**
+     * 시도 핸들을 받는 호출 - 허가를 기다린 뒤 markSent()를 호출하면 그때부터 타임아웃을 잽니다
+     */
+    public <T> T execute(AttemptCall<T> call, boolean hedgeable) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return runAttempt(call, hedgeable);
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+
+                long backoffMillis = backoffMillis(attempt);
+                log.warn("LLM call attempt {}/{} failed ({}) - retrying in {} ms",
+                    attempt, maxAttempts, e.getMessage(), backoffMillis);
+                sleep(backoffMillis);
+            }
+        }
+    }
+
+    /**
+     * 한 번의 시도 - 필요하면 헤지 요청을 보내고 먼저 성공한 응답을 반환합니다
+     */
+    private <T> T runAttempt(AttemptCall<T> call, boolean hedgeable) {
+        CompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        Map<Future<T>, Attempt> attempts = new LinkedHashMap<>();
+        Attempt primary = new Attempt(false);
+        attempts.put(completion.submit(timed(call, primary)), primary);
+        Future<T> winner = null;
+
+        RuntimeException failure = null;
+        try {
+            long hedgeDelay = hedgeable ? hedgeDelayNanos() : 0;
+            int pending = 1;
+            while (pending > 0) {
+                long sentAt = primary.sentAt;
+                long deadline = sentAt + attemptTimeout.toNanos();
+                boolean canHedge = sentAt != 0 && hedgeDelay > 0 && attempts.size() == 1;
+                long waitNanos = sentAt == 0 ? QUEUED_POLL_NANOS
+                    : Math.max(0, (canHedge ? Math.min(deadline, sentAt + hedgeDelay) : deadline) - System.nanoTime());
+                Future<T> done = completion.poll(waitNanos, TimeUnit.NANOSECONDS);
+
+                if (done == null) {
+                    if (sentAt == 0) {
+                        // 아직 rate limit 허가를 기다리는 중 - 대기 시간은 타임아웃에 넣지 않음
+                        continue;
+                    }
+                    if (canHedge && System.nanoTime() < deadline) {
+                        log.info("LLM call exceeded p95 latency ({} ms) - sending hedged request",
+                            TimeUnit.NANOSECONDS.toMillis(hedgeDelay));
+                        hedgesSent.increment();
+                        Attempt hedge = new Attempt(true);
+                        attempts.put(completion.submit(timed(call, hedge)), hedge);
+                        pending++;
+                        continue;
+                    }
+                    throw new ResourceAccessException("LLM call timed out after " + attemptTimeout.toSeconds() + "s");
+                }
+
+                pending--;
+                try {
+                    T result = done.get();
+                    winner = done;
+                    Attempt won = attempts.get(done);
+                    if (won.sentAt != 0) {
+                        recordLatency(System.nanoTime() - won.sentAt);
+                    }
+                    if (won.hedge) {
+                        hedgesWon.increment();
+                    }
+                    return result;
+                } catch (ExecutionException e) {
+                    // 다른 요청이 아직 진행 중이면 그 결과를 기다림 (허가가 없어 보내지 않은 헤지는 무시)
+                    if (!(e.getCause() instanceof AttemptSkippedException)) {
+                        failure = unwrap(e);
+                    }
+                }
+            }
+            throw failure;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the LLM response", e);
+        } finally {
+            for (Map.Entry<Future<T>, Attempt> entry : attempts.entrySet()) {
+                if (entry.getKey() != winner && !entry.getKey().isDone()) {
+                    entry.getValue().abandon();
+                    entry.getKey().cancel(true);
+                }
+            }
+        }
+    }
+
+    private <T> Callable<T> timed(AttemptCall<T> call, Attempt attempt) {
+        String kind = attempt.hedge ? "hedge" : "primary";
+        return () -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "success";
+            try {
+                return call.call(attempt);
+            } catch (Exception e) {
+                outcome = e instanceof AttemptSkippedException ? "skipped"
+                    : attempt.isAbandoned() || Thread.currentThread().isInterrupted() ? "cancelled"
+                    : isRetryable(e) ? "retryable_error" : "error";
+                throw e;
+            } finally {
+                sample.stop(Timer.builder("llm.call.attempts")
+                    .description("Individual LLM call attempts, including retries and hedges")
+                    .tag("kind", kind)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            }
+        };
+    }
+
+    /**
+     * 5xx, 429, 네트워크 오류/타임아웃만 재시도 - 분류는 {@link OpenAiErrors#isRetryable}
+     */
+    static boolean isRetryable(Throwable e) {
+        return OpenAiErrors.isRetryable(e);
+    }
+
+    /**
+     * Full jitter: [0, min(maxBackoff, initialBackoff * 2^(attempt-1))) 범위의 임의 대기
+     */
+    long backoffMillis(int attempt) {
+        long cap = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 1, 20));
+        return cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap);
+    }
+
+    /**
+     * 헤지 요청을 보낼 시점 (최근 성공 지연의 p95, 최소 hedgeMinDelay) - 비활성/표본 부족이면 0
+     */
+    synchronized long hedgeDelayNanos() {
+        if (!hedgeEnabled || latencyCount < Math.max(1, hedgeMinSamples)) {
+            return 0;
+        }
+        long[] window = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(window);
+        long p95 = window[Math.min(window.length - 1, (int) Math.ceil(window.length * 0.95) - 1)];
+        return Math.max(p95, hedgeMinDelay.toNanos());
+    }
+
+    private synchronized void recordLatency(long nanos) {
+        latencies[latencyIndex] = nanos;
+        latencyIndex = (latencyIndex + 1) % LATENCY_WINDOW;
+        latencyCount = Math.min(latencyCount + 1, LATENCY_WINDOW);
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException("LLM call failed: " + cause.getMessage(), cause);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off before an LLM retry", e);
+        }
+    }
+
+    /**
+     * 시도 핸들을 받는 LLM 호출
+     */
+    @FunctionalInterface
+    public interface AttemptCall<T> {
+        T call(Attempt attempt) throws Exception;
+    }
+
+    /**
+     * 재시도/헤지 한 건의 상태
+     *
+     * 호출은 허가를 얻고 요청을 보내기 직전에 markSent()를 호출하고, 포기될 때 실행할 정리 작업을
+     * onAbandon()으로 등록합니다. 포기된 뒤에는 whileActive()로 감싼 작업이 실행되지 않습니다.
+     */
+    public static final class Attempt {
+
+        private final boolean hedge;
+        private final List<Runnable> abandonActions = new ArrayList<>();
+        private volatile long sentAt;
+        private boolean abandoned;
+
+        Attempt(boolean hedge) {
+            this.hedge = hedge;
+        }
+
+        public boolean isHedge() {
+            return hedge;
+        }
+
+        /**
+         * 요청을 보냄 - 이때부터 시도 타임아웃과 헤지 지연을 잽니다
+         */
+        public void markSent() {
+            if (sentAt == 0) {
+                sentAt = System.nanoTime() | 1;
+            }
+        }
+
+        public synchronized boolean isAbandoned() {
+            return abandoned;
+        }
+
+        /**
+         * 포기될 때 실행할 작업을 등록합니다 (이미 포기되었으면 바로 실행)
+         */
+        public void onAbandon(Runnable action) {
+            synchronized (this) {
+                if (!abandoned) {
+                    abandonActions.add(action);
+                    return;
+                }
+            }
+            action.run();
+        }
+
+        /**
+         * 포기되지 않았을 때만 실행합니다 - 실행 중에는 포기 처리가 이 작업이 끝날 때까지 기다리므로
+         * 포기된 시도가 그 뒤에 결과를 내보내지 않습니다 (스트리밍 코멘트 전달용)
+         *
+         * @return 실행했으면 true
+         */
+        public synchronized boolean whileActive(Runnable action) {
+            if (abandoned) {
+                return false;
+            }
+            action.run();
+            return true;
+        }
+
+        private void abandon() {
+            List<Runnable> actions;
+            synchronized (this) {
+                if (abandoned) {
+                    return;
+                }
+                abandoned = true;
+                actions = new ArrayList<>(abandonActions);
+            }
+            for (Runnable action : actions) {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    log.debug("Cleanup of abandoned LLM call attempt failed: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 시도가 요청을 보내지 않고 물러남 (예: 헤지에 쓸 허가가 없음) - 결과를 기다리는 다른 시도에 영향을 주지 않습니다
+     */
+    public static class AttemptSkippedException extends RuntimeException {
+        public AttemptSkippedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.dto.CodeReviewResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * LLM 리뷰 결과 캐시
+ *
+ * 정규화(truncate)된 diff, 언어, 프롬프트 템플릿 버전, 커스텀 규칙, 모델을 해시한 키로
+ * 리뷰 결과를 저장합니다. 리베이스나 재실행으로 같은 diff가 다시 들어오면 LLM을 호출하지 않습니다.
+ * - 1차: 프로세스 내 Caffeine 캐시 (크기/TTL 기반 제거)
+ * - 2차: Redis (설정된 경우에만, 노드 간 공유)
+ */
+@Service
+@Slf4j
+public class LlmResultCache {
+
+    private static final String REDIS_KEY_PREFIX = "llm-review:";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final Cache<String, CodeReviewResult> localCache;
+    private final boolean enabled;
+    private final boolean redisEnabled;
+    private final Duration ttl;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+
+    public LlmResultCache(
+            ObjectMapper objectMapper,
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            MeterRegistry meterRegistry,
+            @Value("${app.llm-cache.enabled:true}") boolean enabled,
+            @Value("${app.llm-cache.max-entries:1000}") long maxEntries,
+            @Value("${app.llm-cache.ttl:PT24H}") Duration ttl,
+            @Value("${app.llm-cache.redis.enabled:false}") boolean redisEnabled) {
+        this.objectMapper = objectMapper;
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.enabled = enabled;
+        this.redisEnabled = redisEnabled;
+        this.ttl = ttl;
+        this.localCache = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(ttl)
+            .build();
+
+        this.localHits = Counter.builder("llm.cache.requests")
+            .tag("result", "hit").tag("tier", "local")
+            .description("LLM review cache lookups")
+            .register(meterRegistry);
+        this.redisHits = Counter.builder("llm.cache.requests")
+            .tag("result", "hit").tag("tier", "redis")
+            .description("LLM review cache lookups")
+            .register(meterRegistry);
+        this.misses = Counter.builder("llm.cache.requests")
+            .tag("result", "miss").tag("tier", "none")
+            .description("LLM review cache lookups")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 키를 생성합니다 (SHA-256)
+     */
+    public String buildKey(String processedDiff, String language, String promptVersion,
+                           String ruleSet, String model) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : new String[]{model, promptVersion, language, ruleSet, processedDiff}) {
+                byte[] bytes = (part != null ? part : "").getBytes(StandardCharsets.UTF_8);
+                // 길이를 함께 넣어 필드 경계가 모호해지지 않도록 함
+                digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+                digest.update((byte) ':');
+                digest.update(bytes);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 캐시된 결과를 조회합니다. 히트 시 토큰을 소비하지 않았으므로 tokensUsed는 0입니다
+     */
+    public Optional<CodeReviewResult> get(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        CodeReviewResult cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            localHits.increment();
+            return Optional.of(copyWithoutTokens(cached));
+        }
+
+        StringRedisTemplate redis = redisTemplate();
+        if (redis != null) {
+            try {
+                String json = redis.opsForValue().get(REDIS_KEY_PREFIX + key);
+                if (json != null) {
+                    CodeReviewResult result = objectMapper.readValue(json, CodeReviewResult.class);
+                    localCache.put(key, result);
+                    redisHits.increment();
+                    return Optional.of(copyWithoutTokens(result));
+                }
+            } catch (Exception e) {
+                // 캐시 장애가 리뷰를 실패시키지 않도록 무시
+                log.warn("Redis LLM cache lookup failed: {}", e.getMessage());
+            }
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 정상적으로 파싱된 결과만 저장합니다
+     */
+    public void put(String key, CodeReviewResult result) {
+        if (!enabled || result == null) {
+            return;
+        }
+
+        localCache.put(key, result);
+
+        StringRedisTemplate redis = redisTemplate();
+        if (redis != null) {
+            try {
+                redis.opsForValue().set(REDIS_KEY_PREFIX + key, objectMapper.writeValueAsString(result), ttl);
+            } catch (Exception e) {
+                log.warn("Redis LLM cache write failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private StringRedisTemplate redisTemplate() {
+        return redisEnabled ? redisTemplateProvider.getIfAvailable() : null;
+    }
+
+    /**
+     * 캐시된 결과의 사본 - 결과를 만든 모델은 유지하고 토큰 수만 0으로 둡니다
+     */
+    private CodeReviewResult copyWithoutTokens(CodeReviewResult result) {
+        return CodeReviewResult.builder()
+            .comments(result.getComments() != null ? new ArrayList<>(result.getComments()) : new ArrayList<>())
+            .summary(result.getSummary())
+            .model(result.getModel())
+            .tokensUsed(0)
+            .promptTokens(0)
+            .completionTokens(0)
+            .build();
+    }
+}
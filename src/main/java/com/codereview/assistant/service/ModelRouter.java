@@ -0,0 +1,163 @@
+package com.codereview.assistant.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 청크별 LLM 모델 선택기
+ *
+ * 정책 (위에서부터 먼저 맞는 규칙 적용):
+ * 1) 보안 민감 경로(glob)나 지정한 언어의 변경이 포함되면 strong 모델
+ * 2) 작은 청크이고 커스텀 규칙이 없으면 cheap 모델
+ * 3) 그 외에는 default 모델
+ * 라우팅 결과는 llm.route(지연)와 llm.route.tokens(토큰)에 모델/사유 태그로 기록합니다.
+ */
+@Component
+@Slf4j
+public class ModelRouter {
+
+    public static final String REASON_DISABLED = "disabled";
+    public static final String REASON_SECURITY_PATH = "security-path";
+    public static final String REASON_LANGUAGE = "language";
+    public static final String REASON_SMALL_DIFF = "small-diff";
+    public static final String REASON_DEFAULT = "default";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final String defaultModel;
+    private final String cheapModel;
+    private final String strongModel;
+    private final int smallChunkTokens;
+    private final List<PathMatcher> securityPaths;
+    private final Set<String> strongLanguages;
+
+    public ModelRouter(
+            MeterRegistry meterRegistry,
+            @Value("${app.review.routing.enabled:true}") boolean enabled,
+            @Value("${app.review.routing.default-model:gpt-4o-mini}") String defaultModel,
+            @Value("${app.review.routing.cheap-model:gpt-4o-mini}") String cheapModel,
+            @Value("${app.review.routing.strong-model:gpt-4o}") String strongModel,
+            @Value("${app.review.routing.small-chunk-tokens:500}") int smallChunkTokens,
+            @Value("${app.review.routing.security-paths:}") List<String> securityPaths,
+            @Value("${app.review.routing.strong-languages:}") List<String> strongLanguages) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.defaultModel = defaultModel;
+        this.cheapModel = cheapModel;
+        this.strongModel = strongModel;
+        this.smallChunkTokens = smallChunkTokens;
+        this.securityPaths = securityPaths.stream()
+            .map(String::trim)
+            .filter(glob -> !glob.isEmpty())
+            .map(glob -> FileSystems.getDefault().getPathMatcher("glob:" + glob))
+            .collect(Collectors.toList());
+        this.strongLanguages = strongLanguages.stream()
+            .map(language -> language.trim().toLowerCase(Locale.ROOT))
+            .filter(language -> !language.isEmpty())
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * 청크 하나를 리뷰할 모델을 고릅니다
+     *
+     * @param chunk       unified diff 텍스트 (파일 헤더 포함)
+     * @param language    LanguageDetector가 감지한 언어
+     * @param ruleCount   적용되는 커스텀 규칙 수
+     * @param chunkTokens 청크의 토큰 수
+     */
+    public Route route(String chunk, String language, int ruleCount, int chunkTokens) {
+        if (!enabled) {
+            return new Route(defaultModel, REASON_DISABLED);
+        }
+
+        for (String path : changedPaths(chunk)) {
+            for (PathMatcher matcher : securityPaths) {
+                if (matcher.matches(Path.of(path))) {
+                    log.debug("Routing chunk to {} - security-sensitive path {}", strongModel, path);
+                    return new Route(strongModel, REASON_SECURITY_PATH);
+                }
+            }
+        }
+
+        if (language != null && strongLanguages.contains(language.toLowerCase(Locale.ROOT))) {
+            return new Route(strongModel, REASON_LANGUAGE);
+        }
+
+        if (chunkTokens <= smallChunkTokens && ruleCount == 0) {
+            return new Route(cheapModel, REASON_SMALL_DIFF);
+        }
+
+        return new Route(defaultModel, REASON_DEFAULT);
+    }
+
+    /**
+     * 라우팅된 호출의 지연과 토큰 수를 기록합니다
+     */
+    public void record(Route route, Duration latency, int tokensUsed) {
+        Timer.builder("llm.route")
+            .description("LLM call latency per routed model")
+            .tag("model", route.model())
+            .tag("reason", route.reason())
+            .register(meterRegistry)
+            .record(latency);
+        DistributionSummary.builder("llm.route.tokens")
+            .description("Tokens used per routed LLM call")
+            .baseUnit("tokens")
+            .tag("model", route.model())
+            .tag("reason", route.reason())
+            .register(meterRegistry)
+            .record(tokensUsed);
+    }
+
+    public String getDefaultModel() {
+        return defaultModel;
+    }
+
+    /**
+     * diff 헤더("+++ b/path", 삭제 파일은 "--- a/path")에서 변경된 파일 경로를 추출합니다
+     */
+    static List<String> changedPaths(String chunk) {
+        List<String> paths = new ArrayList<>();
+        String previous = "";
+        for (String line : chunk.split("\n")) {
+            // "--- " 바로 다음의 "+++ "만 파일 헤더 (hunk 안의 "--"/"++"로 시작하는 줄 제외)
+            if (line.startsWith("+++ ") && previous.startsWith("--- ")) {
+                String newPath = stripPrefix(line.substring(4));
+                String path = newPath != null ? newPath : stripPrefix(previous.substring(4));
+                if (path != null) {
+                    paths.add(path);
+                }
+            }
+            previous = line;
+        }
+        return paths;
+    }
+
+    private static String stripPrefix(String path) {
+        String trimmed = path.trim();
+        if (trimmed.equals("/dev/null")) {
+            return null;
+        }
+        return trimmed.startsWith("a/") || trimmed.startsWith("b/") ? trimmed.substring(2) : trimmed;
+    }
+
+    /**
+     * 선택된 모델과 선택 사유
+     */
+    public record Route(String model, String reason) {
+    }
+}
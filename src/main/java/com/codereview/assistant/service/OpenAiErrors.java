@@ -0,0 +1,130 @@
+package com.codereview.assistant.service;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * OpenAI 호출 오류 분류
+ *
+ * - 블로킹 호출은 RestClientResponseException (OpenAiConfig가 Spring 기본 오류 핸들러를 씀),
+ *   스트리밍 호출은 WebClientResponseException으로 실패하며 둘 다 상태 코드와 응답 헤더를 가집니다.
+ * - Spring AI 자체 오류 핸들러의 예외는 "429 - {body}" 형태의 메시지만 남기므로 메시지 앞의 상태 코드를 읽습니다.
+ */
+final class OpenAiErrors {
+
+    private static final Pattern STATUS_PREFIX = Pattern.compile("^(\\d{3}) - ");
+    private static final Pattern RESET_PART = Pattern.compile("(\\d+(?:\\.\\d+)?)(ms|h|m|s)");
+
+    private OpenAiErrors() {
+    }
+
+    /**
+     * 오류 응답의 HTTP 상태 코드 - 응답 없이 실패했으면 null
+     */
+    static Integer statusOf(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RestClientResponseException responseException) {
+                return responseException.getStatusCode().value();
+            }
+            if (cause instanceof WebClientResponseException responseException) {
+                return responseException.getStatusCode().value();
+            }
+            if (cause.getMessage() != null) {
+                Matcher matcher = STATUS_PREFIX.matcher(cause.getMessage());
+                if (matcher.find()) {
+                    return Integer.parseInt(matcher.group(1));
+                }
+            }
+        }
+        return null;
+    }
+
+    static boolean isRateLimited(Throwable e) {
+        Integer status = statusOf(e);
+        return status != null && status == 429;
+    }
+
+    /**
+     * 5xx, 429, 네트워크 오류/타임아웃만 재시도 - 인증 오류 등 다른 4xx는 재시도해도 같은 결과
+     */
+    static boolean isRetryable(Throwable e) {
+        Integer status = statusOf(e);
+        if (status != null) {
+            return status == 429 || status >= 500;
+        }
+        return e instanceof ResourceAccessException || e instanceof WebClientRequestException;
+    }
+
+    /**
+     * 429 응답에서 새 호출을 멈출 시간
+     *
+     * Retry-After(초 또는 HTTP-date)와, 남은 요청/토큰이 0인 x-ratelimit-reset-* 헤더 중 가장 긴 값 -
+     * 헤더가 없으면 null (제한기의 기본 대기 시간 사용)
+     */
+    static Duration retryAfter(Throwable e) {
+        HttpHeaders headers = headersOf(e);
+        if (headers == null) {
+            return null;
+        }
+        Duration retryAfter = OpenAiRateLimiter.parseRetryAfter(headers.getFirst(HttpHeaders.RETRY_AFTER));
+        retryAfter = longer(retryAfter, exhaustedReset(headers, "requests"));
+        return longer(retryAfter, exhaustedReset(headers, "tokens"));
+    }
+
+    private static HttpHeaders headersOf(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RestClientResponseException responseException) {
+                return responseException.getResponseHeaders();
+            }
+            if (cause instanceof WebClientResponseException responseException) {
+                return responseException.getHeaders();
+            }
+        }
+        return null;
+    }
+
+    private static Duration exhaustedReset(HttpHeaders headers, String limit) {
+        String remaining = headers.getFirst("x-ratelimit-remaining-" + limit);
+        if (remaining == null || !remaining.trim().equals("0")) {
+            return null;
+        }
+        return parseReset(headers.getFirst("x-ratelimit-reset-" + limit));
+    }
+
+    /**
+     * OpenAI reset 헤더 ("1s", "6m0s", "20ms", "1h2m3.5s")
+     */
+    static Duration parseReset(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        Matcher matcher = RESET_PART.matcher(value.trim());
+        double millis = 0;
+        boolean matched = false;
+        while (matcher.find()) {
+            matched = true;
+            double amount = Double.parseDouble(matcher.group(1));
+            millis += switch (matcher.group(2)) {
+                case "h" -> amount * 3_600_000;
+                case "m" -> amount * 60_000;
+                case "s" -> amount * 1_000;
+                default -> amount;
+            };
+        }
+        return matched ? Duration.ofMillis((long) Math.ceil(millis)) : null;
+    }
+
+    private static Duration longer(Duration a, Duration b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.compareTo(b) >= 0 ? a : b;
+    }
+}
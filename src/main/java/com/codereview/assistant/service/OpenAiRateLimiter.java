@@ -0,0 +1,443 @@
+package com.codereview.assistant.service;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.EstimationProbe;
+import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.metadata.RateLimit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * OpenAI 호출 제한기
+ *
+ * - 분당 요청 수(RPM)와 분당 토큰 수(TPM)를 bucket4j 버킷으로 제한합니다.
+ * - 동시 호출 수는 AIMD로 조절합니다: 성공할 때마다 조금씩 늘리고, 429를 받으면 절반으로 줄입니다.
+ * - 429의 Retry-After나 응답의 rate limit 헤더(남은 요청/토큰 0)가 오면 reset 시각까지 새 호출을 멈춥니다.
+ * - 대기 중인 호출은 저장소별 큐에 넣고 저장소 간 라운드로빈으로 내보내, 큰 PR 하나가 다른 저장소를 막지 않게 합니다.
+ * - 허가는 한 번만 반환됩니다: 포기한 시도의 허가를 먼저 반환한 뒤 늦게 끝난 호출이 다시 반환해도 무시합니다.
+ */
+@Component
+@Slf4j
+public class OpenAiRateLimiter {
+
+    /**
+     * HTTP-date 형식: IMF-fixdate, RFC 850, asctime (RFC 9110 5.6.7)
+     */
+    private static final List<DateTimeFormatter> HTTP_DATE_FORMATS = List.of(
+        DateTimeFormatter.RFC_1123_DATE_TIME,
+        DateTimeFormatter.ofPattern("EEEE, dd-MMM-yy HH:mm:ss zzz", Locale.US),
+        DateTimeFormatter.ofPattern("EEE MMM ppd HH:mm:ss yyyy", Locale.US).withZone(ZoneOffset.UTC)
+    );
+
+    private final Bucket requestBucket;
+    private final Bucket tokenBucket;
+    private final long tokensPerMinute;
+    private final int minConcurrency;
+    private final int maxConcurrency;
+    private final Duration defaultBackoff;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Map<String, Deque<Condition>> waiters = new HashMap<>();
+    private final Deque<String> rotation = new ArrayDeque<>();
+    private int waiting;
+    private int inFlight;
+    private double concurrencyLimit;
+    private long pausedUntilNanos = System.nanoTime();
+
+    private final Counter rateLimitedCounter;
+
+    public OpenAiRateLimiter(
+            @Value("${app.openai.rate-limit.requests-per-minute:500}") long requestsPerMinute,
+            @Value("${app.openai.rate-limit.tokens-per-minute:200000}") long tokensPerMinute,
+            @Value("${app.openai.rate-limit.initial-concurrency:4}") int initialConcurrency,
+            @Value("${app.openai.rate-limit.min-concurrency:1}") int minConcurrency,
+            @Value("${app.openai.rate-limit.max-concurrency:16}") int maxConcurrency,
+            @Value("${app.openai.rate-limit.default-backoff:PT5S}") Duration defaultBackoff,
+            MeterRegistry meterRegistry) {
+        this.requestBucket = Bucket.builder()
+            .addLimit(Bandwidth.classic(requestsPerMinute, Refill.greedy(requestsPerMinute, Duration.ofMinutes(1))))
+            .build();
+        this.tokenBucket = Bucket.builder()
+            .addLimit(Bandwidth.classic(tokensPerMinute, Refill.greedy(tokensPerMinute, Duration.ofMinutes(1))))
+            .build();
+        this.tokensPerMinute = tokensPerMinute;
+        this.minConcurrency = minConcurrency;
+        this.maxConcurrency = maxConcurrency;
+        this.defaultBackoff = defaultBackoff;
+        this.concurrencyLimit = Math.max(minConcurrency, Math.min(initialConcurrency, maxConcurrency));
+
+        Gauge.builder("llm.ratelimit.concurrency.limit", this, limiter -> limiter.concurrencyLimit)
+            .description("Current adaptive OpenAI concurrency limit")
+            .register(meterRegistry);
+        Gauge.builder("llm.ratelimit.inflight", this, limiter -> limiter.inFlight)
+            .description("OpenAI calls in flight")
+            .register(meterRegistry);
+        Gauge.builder("llm.ratelimit.waiting", this, limiter -> limiter.waiting)
+            .description("OpenAI calls waiting for a permit")
+            .register(meterRegistry);
+        this.rateLimitedCounter = Counter.builder("llm.ratelimit.throttled")
+            .description("OpenAI responses with HTTP 429")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 호출 허가를 얻을 때까지 대기합니다
+     *
+     * @param repositoryKey   공정 큐잉 단위 (저장소)
+     * @param estimatedTokens 프롬프트 + 최대 응답 토큰 추정치 (TPM 버킷에서 미리 차감)
+     */
+    public Permit acquire(String repositoryKey, int estimatedTokens) {
+        long tokens = Math.max(1, Math.min(estimatedTokens, tokensPerMinute));
+
+        lock.lock();
+        try {
+            Condition condition = lock.newCondition();
+            enqueue(repositoryKey, condition);
+            waiting++;
+            try {
+                while (true) {
+                    long waitNanos = tryStart(repositoryKey, condition, tokens);
+                    if (waitNanos == 0) {
+                        break;
+                    }
+                    if (waitNanos < 0) {
+                        condition.await();
+                    } else {
+                        condition.awaitNanos(waitNanos);
+                    }
+                }
+            } catch (InterruptedException e) {
+                remove(repositoryKey, condition);
+                signalNext();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for an OpenAI rate limit permit", e);
+            } finally {
+                waiting--;
+            }
+
+            inFlight++;
+            signalNext();
+            return new Permit(tokens);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 기다리지 않고 바로 허가를 얻을 수 있을 때만 얻습니다 (헤지 요청용)
+     *
+     * 대기 중인 호출이 있거나 한도/버킷에 여유가 없으면 null - 헤지가 대기열의 다른 호출보다 먼저 허가를 가져가지 않도록 합니다.
+     */
+    public Permit tryAcquire(String repositoryKey, int estimatedTokens) {
+        long tokens = Math.max(1, Math.min(estimatedTokens, tokensPerMinute));
+
+        lock.lock();
+        try {
+            if (waiting > 0 || inFlight >= (int) concurrencyLimit || pausedUntilNanos - System.nanoTime() > 0) {
+                return null;
+            }
+            if (!requestBucket.estimateAbilityToConsume(1).canBeConsumed()
+                    || !tokenBucket.estimateAbilityToConsume(tokens).canBeConsumed()) {
+                return null;
+            }
+
+            requestBucket.tryConsume(1);
+            tokenBucket.tryConsume(tokens);
+            inFlight++;
+            return new Permit(tokens);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 호출이 성공했을 때 허가를 반환하고 동시성 한도를 조금 늘립니다
+     *
+     * @param actualTokens API가 보고한 실제 토큰 수 (추정치와의 차이를 TPM 버킷에 반영)
+     * @param rateLimit    응답의 rate limit 헤더 (없으면 null)
+     */
+    public void onSuccess(Permit permit, int actualTokens, RateLimit rateLimit) {
+        if (!permit.release()) {
+            return;
+        }
+        long difference = actualTokens - permit.reservedTokens();
+        if (difference > 0) {
+            tokenBucket.consumeIgnoringRateLimits(difference);
+        } else if (difference < 0) {
+            tokenBucket.addTokens(-difference);
+        }
+
+        lock.lock();
+        try {
+            inFlight--;
+            // Additive increase: 한도만큼 성공하면 1 증가
+            concurrencyLimit = Math.min(maxConcurrency, concurrencyLimit + 1.0 / concurrencyLimit);
+            if (rateLimit != null) {
+                pauseFromHeaders(rateLimit);
+            }
+            signalNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 429를 받았을 때 동시성 한도를 절반으로 줄이고 Retry-After 동안 새 호출을 멈춥니다
+     */
+    public void onRateLimited(Permit permit, Duration retryAfter) {
+        if (!permit.release()) {
+            return;
+        }
+        rateLimitedCounter.increment();
+
+        lock.lock();
+        try {
+            inFlight--;
+            // Multiplicative decrease
+            concurrencyLimit = Math.max(minConcurrency, concurrencyLimit / 2);
+            pauseFor(retryAfter != null ? retryAfter : defaultBackoff);
+            log.warn("OpenAI rate limited - concurrency limit reduced to {}, pausing for {}",
+                (int) concurrencyLimit, retryAfter != null ? retryAfter : defaultBackoff);
+            signalNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실패한 호출의 허가를 반환합니다 - 429이면 응답의 Retry-After/x-ratelimit-* 헤더만큼 멈추고,
+     * 그 외 오류는 {@link #onFailure}
+     */
+    public void onError(Permit permit, Throwable error) {
+        if (OpenAiErrors.isRateLimited(error)) {
+            onRateLimited(permit, OpenAiErrors.retryAfter(error));
+        } else {
+            onFailure(permit);
+        }
+    }
+
+    /**
+     * 429 이외의 실패 - 예약한 토큰만 돌려주고 한도는 유지합니다
+     */
+    public void onFailure(Permit permit) {
+        if (!permit.release()) {
+            return;
+        }
+        tokenBucket.addTokens(permit.reservedTokens());
+        releaseSlot();
+    }
+
+    /**
+     * 타임아웃/헤지 패배로 포기한 시도 - 동시 호출 자리만 돌려줍니다
+     *
+     * 블로킹 중인 HTTP 호출은 인터럽트로 끊기지 않아 OpenAI 쪽에서는 계속 처리될 수 있으므로
+     * 예약한 토큰은 돌려주지 않습니다. 늦게 끝난 호출의 onSuccess/onFailure는 무시됩니다.
+     */
+    public void onAbandoned(Permit permit) {
+        if (permit.release()) {
+            releaseSlot();
+        }
+    }
+
+    private void releaseSlot() {
+        lock.lock();
+        try {
+            inFlight--;
+            signalNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 이 호출 차례인지, 한도와 버킷이 허용하는지 확인하고 가능하면 시작 처리합니다
+     *
+     * @return 0이면 시작, 양수면 그만큼(ns) 뒤 재시도, 음수면 신호가 올 때까지 대기
+     */
+    private long tryStart(String repositoryKey, Condition condition, long tokens) {
+        if (!isNext(repositoryKey, condition) || inFlight >= (int) concurrencyLimit) {
+            return -1;
+        }
+
+        long pausedNanos = pausedUntilNanos - System.nanoTime();
+        if (pausedNanos > 0) {
+            return pausedNanos;
+        }
+
+        EstimationProbe requestProbe = requestBucket.estimateAbilityToConsume(1);
+        EstimationProbe tokenProbe = tokenBucket.estimateAbilityToConsume(tokens);
+        if (!requestProbe.canBeConsumed() || !tokenProbe.canBeConsumed()) {
+            return Math.max(1, Math.max(requestProbe.getNanosToWaitForRefill(), tokenProbe.getNanosToWaitForRefill()));
+        }
+
+        requestBucket.tryConsume(1);
+        tokenBucket.tryConsume(tokens);
+        dequeueHead(repositoryKey);
+        return 0;
+    }
+
+    private void pauseFromHeaders(RateLimit rateLimit) {
+        if (rateLimit.getRequestsRemaining() != null && rateLimit.getRequestsRemaining() == 0
+                && rateLimit.getRequestsReset() != null) {
+            pauseFor(rateLimit.getRequestsReset());
+        }
+        if (rateLimit.getTokensRemaining() != null && rateLimit.getTokensRemaining() == 0
+                && rateLimit.getTokensReset() != null) {
+            pauseFor(rateLimit.getTokensReset());
+        }
+    }
+
+    private void pauseFor(Duration duration) {
+        long until = System.nanoTime() + duration.toNanos();
+        if (until - pausedUntilNanos > 0) {
+            pausedUntilNanos = until;
+        }
+    }
+
+    private void enqueue(String repositoryKey, Condition condition) {
+        Deque<Condition> queue = waiters.computeIfAbsent(repositoryKey, key -> new ArrayDeque<>());
+        if (queue.isEmpty()) {
+            rotation.addLast(repositoryKey);
+        }
+        queue.addLast(condition);
+    }
+
+    private boolean isNext(String repositoryKey, Condition condition) {
+        return repositoryKey.equals(rotation.peekFirst()) && waiters.get(repositoryKey).peekFirst() == condition;
+    }
+
+    /**
+     * 저장소 큐의 첫 호출을 꺼내고, 남은 호출이 있으면 저장소를 라운드로빈 맨 뒤로 보냅니다
+     */
+    private void dequeueHead(String repositoryKey) {
+        Deque<Condition> queue = waiters.get(repositoryKey);
+        queue.pollFirst();
+        rotation.pollFirst();
+        if (queue.isEmpty()) {
+            waiters.remove(repositoryKey);
+        } else {
+            rotation.addLast(repositoryKey);
+        }
+    }
+
+    private void remove(String repositoryKey, Condition condition) {
+        Deque<Condition> queue = waiters.get(repositoryKey);
+        if (queue == null) {
+            return;
+        }
+        queue.remove(condition);
+        if (queue.isEmpty()) {
+            waiters.remove(repositoryKey);
+            rotation.remove(repositoryKey);
+        }
+    }
+
+    private void signalNext() {
+        String next = rotation.peekFirst();
+        if (next != null) {
+            waiters.get(next).peekFirst().signal();
+        }
+    }
+
+    /**
+     * 획득한 호출 허가 (TPM 버킷에서 미리 차감한 토큰 수 포함)
+     */
+    public static final class Permit {
+
+        private final long reservedTokens;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(long reservedTokens) {
+            this.reservedTokens = reservedTokens;
+        }
+
+        public long reservedTokens() {
+            return reservedTokens;
+        }
+
+        /**
+         * 처음 반환할 때만 true
+         */
+        private boolean release() {
+            return released.compareAndSet(false, true);
+        }
+    }
+
+    /**
+     * 허가를 기다리는 호출 수
+     */
+    int getWaiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 동시성 한도
+     */
+    int getConcurrencyLimit() {
+        lock.lock();
+        try {
+            return (int) concurrencyLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retry-After 헤더 (RFC 9110) - delta-seconds 또는 HTTP-date
+     *
+     * HTTP-date는 IMF-fixdate 외에 RFC 850, asctime 형식도 받으며 이미 지난 시각이면 0.
+     * 해석할 수 없으면 null (제한기의 기본 대기 시간 사용)
+     */
+    static Duration parseRetryAfter(String header) {
+        return parseRetryAfter(header, Instant.now());
+    }
+
+    static Duration parseRetryAfter(String header, Instant now) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        String value = header.trim();
+        if (value.chars().allMatch(Character::isDigit)) {
+            try {
+                return Duration.ofSeconds(Long.parseLong(value));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        for (DateTimeFormatter format : HTTP_DATE_FORMATS) {
+            try {
+                Instant retryAt = ZonedDateTime.parse(value, format).toInstant();
+                return retryAt.isAfter(now) ? Duration.between(now, retryAt) : Duration.ZERO;
+            } catch (DateTimeParseException ignored) {
+                // 다음 형식 시도
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,220 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.diff.DiffFile;
+import com.codereview.assistant.diff.DiffHunk;
+import com.codereview.assistant.diff.DiffLine;
+import com.codereview.assistant.diff.DiffModel;
+import com.codereview.assistant.diff.SkipFileClassifier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 토큰 예산 기반 프롬프트 구성기
+ *
+ * 호출당 프롬프트 창(토큰)과 최대 청크 수로 전체 예산을 정하고, 우선순위에 따라 채웁니다.
+ * 1) 파일/hunk 헤더와 변경된 줄(+/-) 2) hunk 문맥 줄 3) 커스텀 규칙
+ * 줄 단위 토큰 수를 합산해 예측하므로 실제 토큰 수와 약간의 차이가 있을 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PromptBudgeter {
+
+    private final TokenCounter tokenCounter;
+
+    /**
+     * 예산 안에서 리뷰할 diff와 커스텀 규칙을 결정합니다
+     *
+     * @param windowTokens 호출 1회에 diff와 커스텀 규칙이 쓸 수 있는 토큰 수 (템플릿 제외)
+     * @param maxChunks    리뷰 1회의 최대 LLM 호출 수
+     */
+    public Allocation allocate(DiffModel diff, SkipFileClassifier skipFileClassifier, String customPrompt,
+                               int windowTokens, int maxChunks, String model) {
+        int capacity = windowTokens * maxChunks;
+        List<FileBlock> files = collectFiles(diff, skipFileClassifier, model);
+
+        // 1) 헤더와 변경된 줄
+        int used = 0;
+        for (FileBlock file : files) {
+            used += file.headerTokens;
+            for (HunkBlock hunk : file.hunks) {
+                used += hunk.headerTokens + hunk.changedTokens;
+            }
+        }
+
+        if (used > capacity) {
+            int totalLines = diff.getTotalAdditions() + diff.getTotalDeletions();
+            log.info("Changed lines need {} tokens, exceeding budget {} - truncating and dropping custom rules",
+                used, capacity);
+            return new Allocation(renderTruncated(files, capacity, totalLines, model), "", windowTokens, capacity);
+        }
+
+        // 2) 남은 예산으로 hunk 문맥 줄을 앞에서부터 채움
+        for (FileBlock file : files) {
+            for (HunkBlock hunk : file.hunks) {
+                if (hunk.contextTokens > 0 && used + hunk.contextTokens <= capacity) {
+                    hunk.withContext = true;
+                    used += hunk.contextTokens;
+                }
+            }
+        }
+
+        // 3) 커스텀 규칙은 청크마다 반복되므로 청크 수가 한도를 넘지 않을 때만 포함
+        String rules = customPrompt != null ? customPrompt : "";
+        int ruleTokens = tokenCounter.count(rules, model);
+        int chunkTokens = windowTokens;
+        if (ruleTokens > 0) {
+            int perChunk = windowTokens - ruleTokens;
+            if (perChunk > 0 && ceilDiv(used, perChunk) <= maxChunks) {
+                chunkTokens = perChunk;
+            } else {
+                log.warn("Custom rules ({} tokens) do not fit the prompt budget - reviewing without them", ruleTokens);
+                rules = "";
+            }
+        }
+
+        log.debug("Prompt budget: {} diff tokens / {} capacity, chunk window {} tokens", used, capacity, chunkTokens);
+        return new Allocation(render(files), rules, chunkTokens, used);
+    }
+
+    private List<FileBlock> collectFiles(DiffModel diff, SkipFileClassifier skipFileClassifier, String model) {
+        List<FileBlock> files = new ArrayList<>();
+        for (DiffFile file : diff.getFiles()) {
+            // Skip files that don't need review (binary, lock files, etc.)
+            if (file.isBinary() || skipFileClassifier.shouldSkip(file.getPath())) {
+                continue;
+            }
+
+            String header = fileHeader(file);
+            FileBlock block = new FileBlock(header, tokenCounter.count(header, model));
+            for (DiffHunk hunk : file.getHunks()) {
+                HunkBlock hunkBlock = new HunkBlock(hunk, tokenCounter.count(hunk.getHeader() + "\n", model));
+                for (DiffLine line : hunk.getLines()) {
+                    int lineTokens = tokenCounter.count(line.getRaw() + "\n", model);
+                    if (line.isChange()) {
+                        hunkBlock.changedTokens += lineTokens;
+                    } else {
+                        hunkBlock.contextTokens += lineTokens;
+                    }
+                }
+                block.hunks.add(hunkBlock);
+            }
+            files.add(block);
+        }
+        return files;
+    }
+
+    private String fileHeader(DiffFile file) {
+        String sourcePath = file.getOldPath() != null ? file.getOldPath() : file.getPath();
+        String oldPath = file.getStatus() == DiffFile.Status.ADDED ? "/dev/null" : "a/" + sourcePath;
+        String newPath = file.getStatus() == DiffFile.Status.DELETED ? "/dev/null" : "b/" + file.getPath();
+        return "diff --git a/" + sourcePath
+            + " b/" + file.getPath() + "\n"
+            + "--- " + oldPath + "\n"
+            + "+++ " + newPath + "\n";
+    }
+
+    private String render(List<FileBlock> files) {
+        StringBuilder out = new StringBuilder();
+        for (FileBlock file : files) {
+            out.append(file.header);
+            for (HunkBlock hunk : file.hunks) {
+                out.append(hunk.hunk.getHeader()).append("\n");
+                for (DiffLine line : hunk.hunk.getLines()) {
+                    if (hunk.withContext || line.isChange()) {
+                        out.append(line.getRaw()).append("\n");
+                    }
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * 변경된 줄만으로도 예산을 넘을 때 줄 단위로 잘라냅니다
+     */
+    private String renderTruncated(List<FileBlock> files, int capacity, int totalLines, String model) {
+        StringBuilder out = new StringBuilder();
+        int used = 0;
+        for (FileBlock file : files) {
+            out.append(file.header);
+            used += file.headerTokens;
+            for (HunkBlock hunk : file.hunks) {
+                out.append(hunk.hunk.getHeader()).append("\n");
+                used += hunk.headerTokens;
+                for (DiffLine line : hunk.hunk.getLines()) {
+                    if (!line.isChange()) {
+                        continue;
+                    }
+                    String text = line.getRaw() + "\n";
+                    used += tokenCounter.count(text, model);
+                    if (used > capacity) {
+                        out.append("\n... (truncated - ").append(totalLines).append(" total changed lines) ...\n");
+                        return out.toString();
+                    }
+                    out.append(text);
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    private static int ceilDiv(int a, int b) {
+        return (a + b - 1) / b;
+    }
+
+    /**
+     * 예산 배분 결과
+     */
+    @Getter
+    public static class Allocation {
+
+        /** 리뷰할 diff 텍스트 */
+        private final String diff;
+
+        /** 포함된 커스텀 규칙 프롬프트 (예산 부족으로 빠지면 빈 문자열) */
+        private final String customPrompt;
+
+        /** 청크 하나가 쓸 수 있는 diff 토큰 수 */
+        private final int chunkTokens;
+
+        /** 예측한 diff 토큰 수 */
+        private final int diffTokens;
+
+        Allocation(String diff, String customPrompt, int chunkTokens, int diffTokens) {
+            this.diff = diff;
+            this.customPrompt = customPrompt;
+            this.chunkTokens = chunkTokens;
+            this.diffTokens = diffTokens;
+        }
+    }
+
+    private static class FileBlock {
+        private final String header;
+        private final int headerTokens;
+        private final List<HunkBlock> hunks = new ArrayList<>();
+
+        FileBlock(String header, int headerTokens) {
+            this.header = header;
+            this.headerTokens = headerTokens;
+        }
+    }
+
+    private static class HunkBlock {
+        private final DiffHunk hunk;
+        private final int headerTokens;
+        private int changedTokens;
+        private int contextTokens;
+        private boolean withContext;
+
+        HunkBlock(DiffHunk hunk, int headerTokens) {
+            this.hunk = hunk;
+            this.headerTokens = headerTokens;
+        }
+    }
+}
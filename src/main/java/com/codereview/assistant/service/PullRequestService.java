@@ -3,6 +3,7 @@ package com.codereview.assistant.service;
 import com.codereview.assistant.domain.PullRequest;
 import com.codereview.assistant.domain.Repository;
 import com.codereview.assistant.dto.GitHubWebhookPayload;
+import com.codereview.assistant.dto.PullRequestDto;
 import com.codereview.assistant.repository.PullRequestRepository;
 import com.codereview.assistant.repository.RepositoryRepository;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -36,7 +40,25 @@ public class PullRequestService {
         pullRequest.setDescription(payload.getPullRequest().getBody());
         pullRequest.setStatus(payload.getPullRequest().getState());
 
-        return pullRequestRepository.save(pullRequest);
+        PullRequest saved = pullRequestRepository.save(pullRequest);
+        advanceHead(saved, payload.getPullRequest());
+        return saved;
+    }
+
+    /**
+     * 웹훅의 head 커밋을 기록합니다 - 이미 더 최근 이벤트의 head가 기록되어 있으면 무시
+     */
+    private void advanceHead(PullRequest pullRequest, PullRequestDto dto) {
+        if (dto.getHead() == null || dto.getHead().getSha() == null) {
+            return;
+        }
+        LocalDateTime updatedAt = dto.getUpdatedAt() != null
+            ? LocalDateTime.ofInstant(dto.getUpdatedAt().toInstant(), ZoneOffset.UTC)
+            : LocalDateTime.now(ZoneOffset.UTC);
+        if (pullRequestRepository.advanceHead(pullRequest.getId(), dto.getHead().getSha(), updatedAt) == 0) {
+            log.info("Ignoring out-of-order head {} for PR #{} (updated at {})",
+                dto.getHead().getSha(), pullRequest.getPrNumber(), updatedAt);
+        }
     }
 
     private Repository getOrCreateRepository(GitHubWebhookPayload payload) {
@@ -0,0 +1,120 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.domain.PullRequest;
+import com.codereview.assistant.domain.Review;
+import com.codereview.assistant.repository.CommentRepository;
+import com.codereview.assistant.repository.PullRequestRepository;
+import com.codereview.assistant.repository.ReviewRepository;
+import com.codereview.assistant.repository.ReviewStageTimingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PR 단위 리뷰 병합(coalescing) 서비스
+ *
+ * 같은 PR(repository id + PR 번호)에 새 head SHA가 들어오면 이전 SHA의 대기/진행 중 리뷰를
+ * superseded로 전환하여, 연속 push 시 최신 커밋만 리뷰되도록 합니다.
+ * 상태는 DB에 기록되므로 발행 노드와 워커 노드가 달라도 동일하게 동작합니다.
+ *
+ * 웹훅은 순서대로 오지 않으므로 PR에 기록된 head(PullRequestService가 갱신)와 같은 SHA만 등록하고,
+ * 늦게 도착한 이전 SHA의 이벤트는 무시합니다. 같은 SHA를 다시 받으면 실패한 리뷰만 다시 큐에 넣습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReviewCoalescingService {
+
+    public static final String STATUS_PENDING = "pending";
+    public static final String STATUS_IN_PROGRESS = "in_progress";
+    public static final String STATUS_SUPERSEDED = "superseded";
+    public static final String STATUS_FAILED = "failed";
+
+    private static final List<String> ACTIVE_STATUSES = List.of(STATUS_PENDING, STATUS_IN_PROGRESS);
+    // 다시 리뷰할 수 있는 종료 상태 (completed는 코멘트/집계가 이미 반영되어 있고, superseded는 이미 지난 커밋)
+    private static final List<String> REQUEUEABLE_STATUSES = List.of(STATUS_FAILED);
+
+    private final PullRequestRepository pullRequestRepository;
+    private final ReviewRepository reviewRepository;
+    private final CommentRepository commentRepository;
+    private final ReviewStageTimingRepository reviewStageTimingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 새 head SHA에 대한 대기 리뷰를 등록하고 이전 SHA의 리뷰를 superseded로 전환합니다
+     *
+     * @return 큐에 등록해야 할 대기 리뷰. SHA가 PR의 현재 head가 아니거나, 이미 대기/진행 중이거나 완료되었으면 empty
+     */
+    @Transactional
+    public Optional<Review> registerPending(PullRequest pullRequest, String commitSha) {
+        // PR 행을 잠가 같은 PR에 대한 동시 웹훅의 head 확인과 superseded 처리가 섞이지 않도록 함
+        String headSha = pullRequestRepository.findForUpdateById(pullRequest.getId())
+            .map(PullRequest::getHeadSha)
+            .orElse(null);
+        if (headSha != null && !headSha.equals(commitSha)) {
+            log.info("Ignoring review request for PR #{} at {} - head is already {}",
+                pullRequest.getPrNumber(), commitSha, headSha);
+            return Optional.empty();
+        }
+
+        int superseded = reviewRepository.markSuperseded(pullRequest.getId(), commitSha, ACTIVE_STATUSES);
+        if (superseded > 0) {
+            log.info("Marked {} older review(s) of PR #{} as superseded by {}",
+                superseded, pullRequest.getPrNumber(), commitSha);
+        }
+
+        Optional<Review> existing = reviewRepository.findByPullRequestIdAndCommitSha(pullRequest.getId(), commitSha);
+        if (existing.isPresent() && !REQUEUEABLE_STATUSES.contains(existing.get().getReviewStatus())) {
+            log.info("Review for PR #{} at {} is already {} - not queueing again",
+                pullRequest.getPrNumber(), commitSha, existing.get().getReviewStatus());
+            return Optional.empty();
+        }
+        if (existing.isPresent()) {
+            // 중단된 시도가 남긴 코멘트(스트리밍)와 단계 기록을 지워 다시 리뷰할 때 중복되지 않도록
+            Long reviewId = existing.get().getId();
+            int comments = commentRepository.deleteByReviewId(reviewId);
+            reviewStageTimingRepository.deleteByReviewId(reviewId);
+            log.info("Re-queueing {} review for PR #{} at {} (removed {} stale comments)",
+                existing.get().getReviewStatus(), pullRequest.getPrNumber(), commitSha, comments);
+        }
+
+        Review review = existing.orElseGet(() -> Review.builder()
+            .pullRequest(pullRequest)
+            .commitSha(commitSha)
+            .build());
+        review.setReviewStatus(STATUS_PENDING);
+        review.setErrorMessage(null);
+
+        Review saved = reviewRepository.save(review);
+        // 트랜잭션 커밋 이후 리스너에 전달됨
+        eventPublisher.publishEvent(ReviewStatusChangedEvent.of(saved));
+        return Optional.of(saved);
+    }
+
+    /**
+     * 큐나 실행기에 넣지 못한 대기 리뷰를 failed로 전환합니다 (다음 웹훅 전달 때 다시 등록됨)
+     */
+    @Transactional
+    public void markNotQueued(Review review, String reason) {
+        if (reviewRepository.markFailedIfPending(review.getId(), reason) == 0) {
+            return;
+        }
+        review.setReviewStatus(STATUS_FAILED);
+        review.setErrorMessage(reason);
+        eventPublisher.publishEvent(ReviewStatusChangedEvent.of(review));
+    }
+
+    /**
+     * 리뷰가 더 새로운 커밋에 의해 대체되었는지 확인합니다
+     */
+    public boolean isSuperseded(Review review) {
+        return review.getId() != null && reviewRepository.findStatusById(review.getId())
+            .map(STATUS_SUPERSEDED::equals)
+            .orElse(false);
+    }
+}
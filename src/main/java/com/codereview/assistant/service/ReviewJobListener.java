@@ -0,0 +1,50 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.config.RabbitMQConfig;
+import com.codereview.assistant.dto.ReviewJobMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 작업 큐 리스너
+ *
+ * code-review-queue에서 작업을 꺼내 리뷰를 수행합니다.
+ * 동시성과 prefetch는 reviewListenerContainerFactory에서 설정합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReviewJobListener {
+
+    private final ReviewService reviewService;
+
+    @RabbitListener(
+        queues = RabbitMQConfig.REVIEW_QUEUE,
+        containerFactory = "reviewListenerContainerFactory",
+        autoStartup = "${app.review.queue.enabled:false}"
+    )
+    public void handleReviewJob(ReviewJobMessage message) {
+        Duration queueWait = null;
+        if (message.getEnqueuedAt() != null) {
+            queueWait = Duration.between(message.getEnqueuedAt(), LocalDateTime.now());
+            log.info("Dequeued review job for PR #{} at commit {} (waited {}ms)",
+                message.getPrNumber(), message.getCommitSha(), queueWait.toMillis());
+        }
+
+        reviewService.performReview(message.getPullRequestId(), message.getCommitSha(), queueWait);
+    }
+
+    /**
+     * 큐를 사용할 수 없을 때 로컬 비동기 실행기에서 작업을 처리합니다
+     */
+    @Async
+    public void handleReviewJobAsync(ReviewJobMessage message) {
+        handleReviewJob(message);
+    }
+}
@@ -0,0 +1,123 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.config.RabbitMQConfig;
+import com.codereview.assistant.domain.PullRequest;
+import com.codereview.assistant.domain.Review;
+import com.codereview.assistant.dto.ReviewJobMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 리뷰 작업 발행 서비스
+ *
+ * 웹훅 요청 스레드에서는 메시지 발행만 수행하고, 실제 리뷰는 큐 리스너가 처리합니다.
+ * 큐가 비활성화된 환경(로컬 H2 등)이나 발행이 확실히 실패한 경우(브로커 연결 오류)에는 비동기 실행기로 처리하며,
+ * 실행기가 가득 차면 TaskRejectedException을 그대로 던져 웹훅이 503으로 응답하게 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReviewJobPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ReviewJobListener reviewJobListener;
+    private final ReviewCoalescingService reviewCoalescingService;
+
+    @Value("${app.review.queue.enabled:false}")
+    private boolean queueEnabled;
+
+    /**
+     * 리뷰 작업을 큐에 등록합니다
+     *
+     * 같은 PR의 이전 커밋에 대한 대기/진행 중 리뷰는 이 시점에 superseded 처리됩니다.
+     *
+     * @throws TaskRejectedException 로컬 실행기로 보내야 하는데 실행기가 가득 참 (리뷰는 failed로 남아 다음 전달 때 재등록)
+     */
+    public void publish(PullRequest pullRequest, String commitSha) {
+        Optional<Review> pending = reviewCoalescingService.registerPending(pullRequest, commitSha);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        ReviewJobMessage message = ReviewJobMessage.builder()
+            .pullRequestId(pullRequest.getId())
+            .repositoryId(pullRequest.getRepository().getId())
+            .prNumber(pullRequest.getPrNumber())
+            .commitSha(commitSha)
+            .enqueuedAt(LocalDateTime.now())
+            .build();
+
+        if (!queueEnabled) {
+            log.debug("Review queue disabled - dispatching PR #{} to local async executor",
+                pullRequest.getPrNumber());
+            dispatchLocally(pending.get(), message);
+            return;
+        }
+
+        CorrelationData correlation = new CorrelationData();
+        try {
+            rabbitTemplate.convertAndSend(
+                RabbitMQConfig.REVIEW_EXCHANGE,
+                RabbitMQConfig.REVIEW_ROUTING_KEY,
+                message,
+                correlation
+            );
+        } catch (AmqpException e) {
+            // 메시지가 브로커에 닿지 않음 - 리뷰 유실을 막기 위해 로컬 실행기로 대체
+            log.error("Failed to publish review job for PR #{} - falling back to local executor",
+                pullRequest.getPrNumber(), e);
+            dispatchLocally(pending.get(), message);
+            return;
+        }
+
+        // 브로커가 메시지를 큐에 넣었는지 확인(publisher confirm)
+        Review review = pending.get();
+        correlation.getFuture().whenComplete((confirm, error) -> onConfirm(review, message, correlation, confirm, error));
+    }
+
+    private void dispatchLocally(Review review, ReviewJobMessage message) {
+        try {
+            reviewJobListener.handleReviewJobAsync(message);
+        } catch (TaskRejectedException e) {
+            log.warn("Local review executor saturated - PR #{} at {} not queued",
+                message.getPrNumber(), message.getCommitSha());
+            reviewCoalescingService.markNotQueued(review, "Review executor is full");
+            throw e;
+        }
+    }
+
+    /**
+     * nack나 반환(return)은 메시지가 이미 큐에 들어갔을 가능성을 배제하지 못하므로 로컬 실행기로 대체하지 않고
+     * 아직 대기 중인 리뷰만 failed로 돌려 다음 웹훅 전달 때 다시 등록되게 합니다.
+     * 메시지가 실제로 전달되었다면 워커는 pending이 아닌 리뷰를 실행하지 않습니다.
+     */
+    private void onConfirm(Review review, ReviewJobMessage message, CorrelationData correlation,
+                           CorrelationData.Confirm confirm, Throwable error) {
+        String failure = null;
+        if (error != null) {
+            failure = error.getMessage();
+        } else if (!confirm.isAck()) {
+            failure = "nacked: " + confirm.getReason();
+        } else if (correlation.getReturned() != null) {
+            failure = "returned: " + correlation.getReturned().getReplyText();
+        }
+
+        if (failure == null) {
+            log.info("Published review job for PR #{} at commit {}", message.getPrNumber(), message.getCommitSha());
+            return;
+        }
+
+        log.error("Review job for PR #{} may not have been queued ({}) - marking it failed for re-delivery",
+            message.getPrNumber(), failure);
+        reviewCoalescingService.markNotQueued(review, "Review job was not confirmed by the broker (" + failure + ")");
+    }
+}
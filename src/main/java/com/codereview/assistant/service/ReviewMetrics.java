@@ -0,0 +1,203 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.diff.DiffModel;
+import com.codereview.assistant.diff.LanguageDetector;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 리뷰 파이프라인 단계별 지표
+ *
+ * 리뷰 하나마다 {@link Recording}을 시작해 단계별 소요 시간을 모은 뒤, 끝날 때 한 번에 기록합니다.
+ * 언어와 모델은 diff 조회와 LLM 호출 이후에야 알 수 있으므로, 모든 단계 타이머가 같은 태그
+ * (provider, repository, language, model)를 갖도록 기록을 리뷰 종료 시점까지 미룹니다.
+ *
+ * - review.stage: 단계별 소요 시간 (stage 태그)
+ * - review.duration: 리뷰 전체 소요 시간 (outcome 태그)
+ * - review.diff.files / review.diff.lines: 리뷰한 diff 크기
+ * - review.tokens / review.comments: 사용한 토큰 수와 코멘트 수
+ */
+@Component
+public class ReviewMetrics {
+
+    public static final String STAGE_QUEUE_WAIT = "queue_wait";
+    public static final String STAGE_FETCH_DIFF = "fetch_diff";
+    public static final String STAGE_LOAD_RULES = "load_rules";
+    public static final String STAGE_LLM = "llm";
+    public static final String STAGE_SAVE_COMMENTS = "save_comments";
+    public static final String STAGE_POST_REVIEW = "post_review";
+    /** review_stage_timings에만 저장하는 전체 처리 시간 (지표는 review.duration) */
+    public static final String STAGE_TOTAL = "total";
+
+    public static final String OUTCOME_COMPLETED = "completed";
+    public static final String OUTCOME_UNCHANGED = "unchanged";
+    public static final String OUTCOME_SUPERSEDED = "superseded";
+    public static final String OUTCOME_SKIPPED = "skipped";
+    public static final String OUTCOME_FAILED = "failed";
+
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean repositoryTagEnabled;
+
+    public ReviewMetrics(
+            MeterRegistry meterRegistry,
+            // 저장소가 많으면 시계열 수가 늘어나므로 끌 수 있게 함 (끄면 repository="all")
+            @Value("${app.review.metrics.repository-tag-enabled:true}") boolean repositoryTagEnabled) {
+        this.meterRegistry = meterRegistry;
+        this.repositoryTagEnabled = repositoryTagEnabled;
+    }
+
+    /**
+     * 리뷰 하나의 지표 수집을 시작합니다
+     *
+     * @param provider   github, gitlab, bitbucket
+     * @param repository owner/name 형식의 저장소 이름
+     */
+    public Recording start(String provider, String repository) {
+        return new Recording(provider, repositoryTagEnabled && repository != null ? repository : "all");
+    }
+
+    /**
+     * 리뷰 하나의 단계별 소요 시간과 크기 정보
+     *
+     * 리뷰는 한 스레드에서 순서대로 진행되므로 동기화하지 않습니다.
+     */
+    public final class Recording {
+
+        private final String provider;
+        private final String repository;
+        private final long startNanos = System.nanoTime();
+        private final Map<String, Long> stageNanos = new LinkedHashMap<>();
+        private String language = LanguageDetector.UNKNOWN;
+        private String model = UNKNOWN;
+        private DiffModel diff;
+        private Integer tokensUsed;
+        private Integer commentCount;
+        private boolean finished;
+
+        private Recording(String provider, String repository) {
+            this.provider = provider;
+            this.repository = repository;
+        }
+
+        /**
+         * 단계 시간을 잽니다 - try-with-resources로 감싸면 예외가 나도 경과 시간이 남습니다
+         *
+         * 같은 단계를 여러 번 재면 합산합니다.
+         */
+        public Stage stage(String name) {
+            long stageStart = System.nanoTime();
+            return () -> stageNanos.merge(name, System.nanoTime() - stageStart, Long::sum);
+        }
+
+        /**
+         * 작업 큐에서 대기한 시간 - 리뷰 시작 전에 지난 시간이므로 review.duration에는 포함되지 않습니다
+         */
+        public void queueWait(Duration wait) {
+            stageNanos.put(STAGE_QUEUE_WAIT, Math.max(0, wait.toNanos()));
+        }
+
+        /**
+         * 지금까지 잰 단계별 소요 시간 (밀리초, 측정 순서)
+         */
+        public Map<String, Integer> stageMillis() {
+            Map<String, Integer> millis = new LinkedHashMap<>();
+            stageNanos.forEach((stage, nanos) -> millis.put(stage, (int) Duration.ofNanos(nanos).toMillis()));
+            return millis;
+        }
+
+        public void language(String language) {
+            if (language != null) {
+                this.language = language;
+            }
+        }
+
+        public void model(String model) {
+            if (model != null) {
+                this.model = model;
+            }
+        }
+
+        public void diff(DiffModel diff) {
+            this.diff = diff;
+        }
+
+        public void result(int tokensUsed, int commentCount) {
+            this.tokensUsed = tokensUsed;
+            this.commentCount = commentCount;
+        }
+
+        /**
+         * 모은 지표를 기록합니다 - 여러 번 호출해도 처음 한 번만 기록됩니다
+         */
+        public void finish(String outcome) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+
+            Tags tags = Tags.of(
+                "provider", provider,
+                "repository", repository,
+                "language", language,
+                "model", model);
+
+            stageNanos.forEach((stage, nanos) -> Timer.builder("review.stage")
+                .description("Time spent in each review pipeline stage")
+                .tags(tags)
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(nanos)));
+
+            Timer.builder("review.duration")
+                .description("End-to-end review processing time")
+                .tags(tags)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - startNanos));
+
+            if (diff != null) {
+                summary("review.diff.files", "Changed files per reviewed diff", "files", tags)
+                    .record(diff.getFiles().size());
+                summary("review.diff.lines", "Added and deleted lines per reviewed diff", "lines", tags)
+                    .record(diff.getTotalAdditions() + diff.getTotalDeletions());
+            }
+            if (tokensUsed != null) {
+                summary("review.tokens", "LLM tokens used per review", "tokens", tags).record(tokensUsed);
+            }
+            if (commentCount != null) {
+                summary("review.comments", "Review comments per review", "comments", tags).record(commentCount);
+            }
+        }
+
+        private DistributionSummary summary(String name, String description, String baseUnit, Tags tags) {
+            return DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit(baseUnit)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 진행 중인 단계 - close 시 경과 시간을 기록합니다
+     */
+    @FunctionalInterface
+    public interface Stage extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,122 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.domain.Review;
+import com.codereview.assistant.repository.ReviewDailyRollupRepository;
+import com.codereview.assistant.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 대시보드용 일별 집계(review_daily_rollup) 관리
+ *
+ * - 리뷰가 완료될 때마다 해당 날짜/Repository 행에 증분 반영
+ * - 처음 배포되어 집계 테이블이 비어 있으면 기존 리뷰 전체로 백필
+ * - 매일 지난 며칠을 reviews에서 다시 계산해 증분 반영 중 누락/중복을 보정
+ *
+ * 백필과 보정은 어제까지만 다시 계산하므로 진행 중인 오늘의 증분 반영과 겹치지 않습니다.
+ * 모든 노드에서 실행되지만 PostgreSQL advisory lock을 얻은 한 노드만 다시 계산하고 나머지는 건너뜁니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReviewRollupService {
+
+    // pg_try_advisory_xact_lock 키 ("rollup")
+    private static final long REBUILD_LOCK_KEY = 0x726f6c6c7570L;
+
+    private final ReviewDailyRollupRepository rollupRepository;
+    private final ReviewRepository reviewRepository;
+
+    @Value("${app.dashboard.rollup.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @Value("${app.dashboard.rollup.reconcile-days:3}")
+    private int reconcileDays;
+
+    /**
+     * 완료된 리뷰를 집계에 더합니다
+     *
+     * 집계 실패가 리뷰 완료를 되돌리면 안 되므로 예외는 로그만 남깁니다 (다음 보정 때 반영됨).
+     */
+    public void recordCompletedReview(Review review) {
+        try {
+            LocalDate date = review.getCreatedAt() != null ? review.getCreatedAt().toLocalDate() : LocalDate.now();
+            Map<String, Integer> severityCounts = review.getSeverityCounts();
+            int errors = severityCounts != null ? severityCounts.getOrDefault("error", 0) : 0;
+
+            rollupRepository.increment(
+                date,
+                review.getPullRequest().getRepository().getId(),
+                valueOrZero(review.getTotalComments()),
+                errors,
+                valueOrZero(review.getTokensUsed()),
+                valueOrZero(review.getProcessingTimeMs()));
+        } catch (Exception e) {
+            log.warn("Failed to update daily rollup for review {}: {}", review.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 기간 [from, to] 의 집계를 reviews에서 다시 계산합니다
+     *
+     * @return 다시 만든 행 수 (다른 노드가 재계산 중이어서 건너뛰었으면 -1)
+     */
+    @Transactional
+    public int rebuild(LocalDate from, LocalDate to) {
+        if (!rollupRepository.tryRebuildLock(REBUILD_LOCK_KEY)) {
+            log.info("Daily rollup {}..{} is being rebuilt by another node - skipping", from, to);
+            return -1;
+        }
+
+        int deleted = rollupRepository.deleteByRollupDateBetween(from, to);
+        int inserted = rollupRepository.rebuildFromReviews(from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+        log.info("Rebuilt daily rollup {}..{}: {} rows replaced by {}", from, to, deleted, inserted);
+        return inserted;
+    }
+
+    /**
+     * 집계 테이블이 비어 있으면 가장 오래된 리뷰부터 어제까지 백필합니다
+     *
+     * 오늘 완료되는 리뷰는 증분으로 반영되고, 백필 전에 완료된 오늘의 리뷰는 다음 보정 때 반영됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (!backfillOnStartup || rollupRepository.count() > 0) {
+            return;
+        }
+
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        reviewRepository.findEarliestCreatedAt()
+            .map(LocalDateTime::toLocalDate)
+            .filter(earliest -> !earliest.isAfter(yesterday))
+            .ifPresent(earliest -> {
+                log.info("Daily rollup is empty - backfilling {}..{}", earliest, yesterday);
+                rebuild(earliest, yesterday);
+            });
+    }
+
+    /**
+     * 매일 지난 reconcile-days일(어제까지)을 다시 계산합니다
+     */
+    @Scheduled(cron = "${app.dashboard.rollup.reconcile-cron:0 30 3 * * *}")
+    @Transactional
+    public void reconcile() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        rebuild(yesterday.minusDays(reconcileDays - 1L), yesterday);
+    }
+
+    private int valueOrZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -1,5 +1,6 @@
 package com.codereview.assistant.service;
 
+import com.codereview.assistant.diff.SkipFileClassifier;
 import com.codereview.assistant.domain.ReviewRule;
 import com.codereview.assistant.dto.ReviewRuleDto;
 import com.codereview.assistant.exception.ResourceNotFoundException;
@@ -11,6 +12,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.file.FileSystems;
 import java.nio.file.PathMatcher;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -19,6 +22,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ReviewRuleService {
 
+    static final String FILE_PATTERN_RULE = "file_pattern";
+
     private final ReviewRuleRepository reviewRuleRepository;
 
     /**
@@ -89,10 +94,50 @@ public class ReviewRuleService {
         }
     }
 
+    /**
+     * file_pattern 규칙으로 레포지토리별 파일 제외 분류기 생성
+     * - excludeFiles: 추가로 제외할 glob 목록 (쉼표 구분)
+     * - ruleConfig.include: 기본 제외 규칙보다 우선해 리뷰할 glob 목록
+     */
+    public SkipFileClassifier buildSkipFileClassifier(List<ReviewRule> rules) {
+        List<ReviewRule> filePatternRules = rules.stream()
+            .filter(rule -> FILE_PATTERN_RULE.equals(rule.getRuleType()))
+            .collect(Collectors.toList());
+        if (filePatternRules.isEmpty()) {
+            return SkipFileClassifier.defaults();
+        }
+
+        SkipFileClassifier.Builder builder = SkipFileClassifier.defaults().toBuilder();
+        for (ReviewRule rule : filePatternRules) {
+            builder.skipGlobs(splitPatterns(rule.getExcludeFiles()));
+            Object include = rule.getRuleConfig() != null ? rule.getRuleConfig().get("include") : null;
+            if (include instanceof Collection<?> includes) {
+                builder.reviewGlobs(includes.stream().map(Object::toString).collect(Collectors.toList()));
+            } else if (include != null) {
+                builder.reviewGlobs(splitPatterns(include.toString()));
+            }
+        }
+        return builder.build();
+    }
+
+    private List<String> splitPatterns(String patterns) {
+        if (patterns == null || patterns.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(patterns.split(","))
+            .map(String::trim)
+            .filter(p -> !p.isEmpty())
+            .collect(Collectors.toList());
+    }
+
     /**
      * 커스텀 규칙을 AI 프롬프트에 추가
      */
     public String buildCustomPromptFromRules(List<ReviewRule> rules) {
+        // file_pattern 규칙은 리뷰 대상 선정에만 사용되므로 프롬프트에서 제외
+        rules = rules.stream()
+            .filter(rule -> !FILE_PATTERN_RULE.equals(rule.getRuleType()))
+            .collect(Collectors.toList());
         if (rules.isEmpty()) {
             return "";
         }
@@ -1,21 +1,32 @@
 package com.codereview.assistant.service;
 
+import com.codereview.assistant.diff.DiffModel;
+import com.codereview.assistant.diff.LanguageDetector;
 import com.codereview.assistant.domain.Comment;
 import com.codereview.assistant.domain.PullRequest;
 import com.codereview.assistant.domain.Review;
 import com.codereview.assistant.domain.ReviewRule;
+import com.codereview.assistant.domain.ReviewStageTiming;
 import com.codereview.assistant.dto.CodeReviewResult;
 import com.codereview.assistant.repository.CommentRepository;
+import com.codereview.assistant.repository.PullRequestRepository;
 import com.codereview.assistant.repository.ReviewRepository;
+import com.codereview.assistant.repository.ReviewStageTimingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,64 +39,192 @@ public class ReviewService {
     private final CodeReviewService codeReviewService;
     private final GitHubClientService gitHubClientService;
     private final ReviewRuleService reviewRuleService;
+    private final PullRequestRepository pullRequestRepository;
+    private final ReviewCoalescingService reviewCoalescingService;
+    private final ModelRouter modelRouter;
+    private final ReviewMetrics reviewMetrics;
+    private final ReviewStageTimingRepository reviewStageTimingRepository;
+    private final ReviewRollupService reviewRollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Async
-    @Transactional
+    // 이전에 완료된 리뷰가 있으면 그 커밋 이후 변경분만 리뷰
+    @Value("${app.review.incremental.enabled:true}")
+    private boolean incrementalEnabled;
+
+    /**
+     * 큐 워커에서 호출되는 진입점 - PR과 Repository를 함께 다시 조회합니다
+     *
+     * @param queueWait 작업 큐에서 대기한 시간 (알 수 없으면 null)
+     */
+    public void performReview(Long pullRequestId, String commitSha, Duration queueWait) {
+        PullRequest pullRequest = pullRequestRepository.findWithRepositoryById(pullRequestId).orElse(null);
+        if (pullRequest == null) {
+            log.warn("Skipping review job - pull request {} no longer exists", pullRequestId);
+            return;
+        }
+
+        performReview(pullRequest, commitSha, queueWait);
+    }
+
+    /**
+     * 리뷰를 수행합니다
+     *
+     * LLM 호출 동안 DB 커넥션과 행 잠금을 잡고 있지 않도록 전체를 하나의 트랜잭션으로 묶지 않고,
+     * 상태 전환과 저장은 각 repository 호출 단위로 커밋합니다.
+     * 단계 사이마다 더 새로운 커밋에 의해 대체(superseded)되었는지 확인하여 불필요한 작업을 중단합니다.
+     */
     public void performReview(PullRequest pullRequest, String commitSha) {
+        performReview(pullRequest, commitSha, null);
+    }
+
+    private void performReview(PullRequest pullRequest, String commitSha, Duration queueWait) {
         log.info("Starting review for PR #{} at commit {}", pullRequest.getPrNumber(), commitSha);
 
         long startTime = System.currentTimeMillis();
+        ReviewMetrics.Recording metrics = reviewMetrics.start("github",
+            pullRequest.getRepository().getOwner() + "/" + pullRequest.getRepository().getName());
+        String outcome = ReviewMetrics.OUTCOME_FAILED;
+        if (queueWait != null) {
+            metrics.queueWait(queueWait);
+        }
 
         try {
-            // Create review record
-            Review review = Review.builder()
-                .pullRequest(pullRequest)
-                .commitSha(commitSha)
-                .reviewStatus("in_progress")
-                .aiModel("gpt-4o-mini")
-                .build();
-            review = reviewRepository.save(review);
+            // Create or resume review record
+            Review review = reviewRepository.findByPullRequestIdAndCommitSha(pullRequest.getId(), commitSha)
+                .orElseGet(() -> Review.builder()
+                    .pullRequest(pullRequest)
+                    .commitSha(commitSha)
+                    .build());
+
+            if (!markInProgress(review, queueWait)) {
+                String status = reviewRepository.findStatusById(review.getId()).orElse(review.getReviewStatus());
+                if (ReviewCoalescingService.STATUS_SUPERSEDED.equals(status)) {
+                    log.info("Dropping superseded review for PR #{} at commit {}", pullRequest.getPrNumber(), commitSha);
+                    outcome = ReviewMetrics.OUTCOME_SUPERSEDED;
+                } else {
+                    // 브로커 재전달 또는 로컬 대체 실행으로 같은 작업이 두 번 들어온 경우
+                    log.info("Dropping duplicate review job for PR #{} at commit {} - review is already {}",
+                        pullRequest.getPrNumber(), commitSha, status);
+                    outcome = ReviewMetrics.OUTCOME_SKIPPED;
+                }
+                return;
+            }
+            publishStatusChanged(review);
             final Review savedReview = review;  // Make it effectively final for lambda
 
-            // Fetch PR diff from GitHub
-            String diff = gitHubClientService.getPullRequestDiff(
-                pullRequest.getRepository().getOwner(),
-                pullRequest.getRepository().getName(),
-                pullRequest.getPrNumber(),
-                pullRequest.getRepository().getInstallationId()
-            );
+            // Fetch only the commits added since the last completed review when possible
+            Review previous = findPreviousReview(pullRequest, commitSha);
+            DiffModel diff = null;
+            if (previous != null) {
+                try (ReviewMetrics.Stage stage = metrics.stage(ReviewMetrics.STAGE_FETCH_DIFF)) {
+                    diff = gitHubClientService.getCompareDiff(
+                        pullRequest.getRepository().getOwner(),
+                        pullRequest.getRepository().getName(),
+                        previous.getCommitSha(),
+                        commitSha,
+                        pullRequest.getRepository().getInstallationId()
+                    ).orElse(null);
+                }
+            }
+
+            if (diff != null) {
+                log.info("Incremental review for PR #{}: {}..{} ({} files changed)",
+                    pullRequest.getPrNumber(), previous.getCommitSha(), commitSha, diff.getFiles().size());
+                review.setBaseCommitSha(previous.getCommitSha());
+            } else {
+                // Fetch full PR diff from GitHub
+                previous = null;
+                try (ReviewMetrics.Stage stage = metrics.stage(ReviewMetrics.STAGE_FETCH_DIFF)) {
+                    diff = gitHubClientService.getPullRequestDiff(
+                        pullRequest.getRepository().getOwner(),
+                        pullRequest.getRepository().getName(),
+                        pullRequest.getPrNumber(),
+                        pullRequest.getRepository().getInstallationId()
+                    );
+                }
+            }
+            metrics.diff(diff);
+
+            // 변경되지 않은 파일에 대한 이전 코멘트는 그대로 유지
+            List<Comment> carriedComments = previous != null
+                ? carryForwardComments(previous, diff, savedReview)
+                : List.of();
+
+            if (previous != null && diff.isEmpty()) {
+                completeWithoutChanges(review, carriedComments, startTime, metrics);
+                outcome = ReviewMetrics.OUTCOME_UNCHANGED;
+                return;
+            }
 
             // Get custom review rules for this repository
-            List<ReviewRule> customRules = reviewRuleService
-                .getActiveRulesForRepository(pullRequest.getRepository().getId());
+            List<ReviewRule> customRules;
+            try (ReviewMetrics.Stage stage = metrics.stage(ReviewMetrics.STAGE_LOAD_RULES)) {
+                customRules = reviewRuleService.getActiveRulesForRepository(pullRequest.getRepository().getId());
+            }
+
+            if (abortIfSuperseded(pullRequest, review)) {
+                outcome = ReviewMetrics.OUTCOME_SUPERSEDED;
+                return;
+            }
 
             // Analyze code with AI (with custom rules if available)
+            String language = LanguageDetector.detect(diff);
+            metrics.language(language);
+            String repositoryKey = "github:" + pullRequest.getRepository().getOwner() + "/" + pullRequest.getRepository().getName();
+            // 스트리밍 모드에서는 LLM이 코멘트를 생성하는 대로 먼저 저장 (대시보드에서 바로 확인 가능)
+            Set<CodeReviewResult.ReviewComment> streamed =
+                Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+            List<Comment> streamedComments = Collections.synchronizedList(new ArrayList<>());
+            Consumer<CodeReviewResult.ReviewComment> commentListener = rc -> {
+                streamedComments.add(commentRepository.save(toComment(rc, savedReview)));
+                if (streamed.add(rc) && streamed.size() == 1) {
+                    log.info("First finding for PR #{} saved after {}ms",
+                        pullRequest.getPrNumber(), System.currentTimeMillis() - startTime);
+                }
+            };
+
+            // 스트리밍 중 코멘트 저장 시간도 LLM 단계에 포함됨
             CodeReviewResult result;
-            if (customRules.isEmpty()) {
-                result = codeReviewService.analyzeCode(diff, detectLanguage(diff));
-            } else {
-                result = codeReviewService.analyzeCodeWithRules(diff, detectLanguage(diff), customRules);
+            try (ReviewMetrics.Stage stage = metrics.stage(ReviewMetrics.STAGE_LLM)) {
+                if (customRules.isEmpty()) {
+                    result = codeReviewService.analyzeCode(diff, language, repositoryKey, commentListener);
+                } else {
+                    result = codeReviewService.analyzeCodeWithRules(diff, language, customRules, repositoryKey,
+                        commentListener);
+                }
+            }
+            metrics.model(result.getModel());
+
+            // 새 커밋이 들어왔다면 오래된 결과를 게시하지 않음
+            if (abortIfSuperseded(pullRequest, review)) {
+                outcome = ReviewMetrics.OUTCOME_SUPERSEDED;
+                return;
+            }
+
+            // Save comments to database (streamed ones are already saved)
+            List<CodeReviewResult.ReviewComment> findings = new ArrayList<>(result.getComments());
+            synchronized (streamed) {
+                // 스트림이 중간에 끊긴 청크의 코멘트는 결과에 없지만 이미 저장되었으므로 함께 게시
+                Set<CodeReviewResult.ReviewComment> inResult = Collections.newSetFromMap(new IdentityHashMap<>());
+                inResult.addAll(findings);
+                streamed.stream().filter(rc -> !inResult.contains(rc)).forEach(findings::add);
+            }
+
+            List<Comment> newComments = new ArrayList<>(carriedComments);
+            findings.stream()
+                .filter(rc -> !streamed.contains(rc))
+                .map(rc -> toComment(rc, savedReview))
+                .forEach(newComments::add);
+            try (ReviewMetrics.Stage stage = metrics.stage(ReviewMetrics.STAGE_SAVE_COMMENTS)) {
+                commentRepository.saveAll(newComments);
             }
 
-            // Save comments to database
-            List<Comment> comments = result.getComments().stream()
-                .map(rc -> Comment.builder()
-                    .review(savedReview)
-                    .filePath(rc.getFilePath())
-                    .lineNumber(rc.getLineNumber())
-                    .severity(rc.getSeverity())
-                    .category(rc.getCategory())
-                    .message(rc.getMessage())
-                    .suggestion(rc.getSuggestion())
-                    .codeExample(rc.getCodeExample())
-                    .build())
-                .collect(Collectors.toList());
-
-            commentRepository.saveAll(comments);
-
-            // Post comments to GitHub
+            List<Comment> comments = new ArrayList<>(newComments);
+            comments.addAll(streamedComments);
+
+            // Post findings and summary to GitHub as a single pull request review
             List<GitHubClientService.ReviewCommentRequest> githubComments =
-                result.getComments().stream()
+                findings.stream()
                     .map(rc -> GitHubClientService.ReviewCommentRequest.builder()
                         .filePath(rc.getFilePath())
                         .lineNumber(rc.getLineNumber())
@@ -97,33 +236,45 @@ public class ReviewService {
                         .build())
                     .collect(Collectors.toList());
 
-            gitHubClientService.postReviewComments(
-                pullRequest.getRepository().getOwner(),
-                pullRequest.getRepository().getName(),
-                pullRequest.getPrNumber(),
-                commitSha,
-                githubComments,
-                pullRequest.getRepository().getInstallationId()
-            );
-
-            // Post summary comment
-            gitHubClientService.postSummaryComment(
-                pullRequest.getRepository().getOwner(),
-                pullRequest.getRepository().getName(),
-                pullRequest.getPrNumber(),
-                result.getSummary(),
-                result.getComments().size(),
-                pullRequest.getRepository().getInstallationId()
-            );
+            String summary = result.getSummary();
+            if (previous != null) {
+                summary = "이전 리뷰(`" + abbreviate(previous.getCommitSha()) + "`) 이후 변경분만 리뷰했습니다. "
+                    + "변경되지 않은 파일의 기존 코멘트 " + carriedComments.size() + "개는 유지됩니다.\n\n" + summary;
+            }
+
+            // 증분 리뷰의 diff는 PR 전체 기준 position과 다르므로 PR diff를 다시 조회하게 함
+            try (ReviewMetrics.Stage stage = metrics.stage(ReviewMetrics.STAGE_POST_REVIEW)) {
+                gitHubClientService.submitReview(
+                    pullRequest.getRepository().getOwner(),
+                    pullRequest.getRepository().getName(),
+                    pullRequest.getPrNumber(),
+                    commitSha,
+                    summary,
+                    githubComments,
+                    previous == null ? diff : null,
+                    pullRequest.getRepository().getInstallationId()
+                );
+            }
 
             // Update review record
             long processingTime = System.currentTimeMillis() - startTime;
             review.setReviewStatus("completed");
             review.setTotalComments(comments.size());
             review.setTokensUsed(result.getTokensUsed());
+            review.setPromptTokens(result.getPromptTokens());
+            review.setCompletionTokens(result.getCompletionTokens());
+            if (result.getModel() != null) {
+                // 청크별로 라우팅된 모델 목록 (ai_model 컬럼 길이 50)
+                review.setAiModel(result.getModel().length() > 50 ? result.getModel().substring(0, 50) : result.getModel());
+            }
             review.setProcessingTimeMs((int) processingTime);
             review.setSeverityCounts(calculateSeverityCounts(comments));
             reviewRepository.save(review);
+            saveStageTimings(review, metrics, processingTime);
+            reviewRollupService.recordCompletedReview(review);
+            publishStatusChanged(review);
+            metrics.result(result.getTokensUsed(), comments.size());
+            outcome = ReviewMetrics.OUTCOME_COMPLETED;
 
             log.info("Review completed successfully. Comments: {}, Processing time: {}ms",
                 comments.size(), processingTime);
@@ -137,18 +288,183 @@ public class ReviewService {
                     review.setReviewStatus("failed");
                     review.setErrorMessage(e.getMessage());
                     reviewRepository.save(review);
+                    discardComments(review);
+                    publishStatusChanged(review);
                 });
+        } finally {
+            metrics.finish(outcome);
+        }
+    }
+
+    private Comment toComment(CodeReviewResult.ReviewComment rc, Review review) {
+        return Comment.builder()
+            .review(review)
+            .filePath(rc.getFilePath())
+            .lineNumber(rc.getLineNumber())
+            .severity(rc.getSeverity())
+            .category(rc.getCategory())
+            .message(rc.getMessage())
+            .suggestion(rc.getSuggestion())
+            .codeExample(rc.getCodeExample())
+            .build();
+    }
+
+    /**
+     * 증분 리뷰의 기준이 될 이전 완료 리뷰를 찾습니다
+     */
+    private Review findPreviousReview(PullRequest pullRequest, String commitSha) {
+        if (!incrementalEnabled) {
+            return null;
+        }
+        return reviewRepository
+            .findFirstByPullRequestIdAndReviewStatusOrderByCreatedAtDesc(pullRequest.getId(), "completed")
+            .filter(previous -> !previous.getCommitSha().equals(commitSha))
+            .orElse(null);
+    }
+
+    /**
+     * 이번 변경분에 포함되지 않은 파일의 이전 코멘트를 새 리뷰로 복사합니다
+     *
+     * 변경된 파일의 코멘트는 줄 위치가 바뀌었을 수 있으므로 새 리뷰 결과로 대체합니다.
+     * GitHub에는 이미 게시되어 있으므로 다시 게시하지 않습니다.
+     */
+    private List<Comment> carryForwardComments(Review previous, DiffModel delta, Review review) {
+        List<Comment> carried = new ArrayList<>();
+        for (Comment comment : commentRepository.findByReviewId(previous.getId())) {
+            if (delta.findFile(comment.getFilePath()).isPresent()) {
+                continue;
+            }
+            carried.add(Comment.builder()
+                .review(review)
+                .filePath(comment.getFilePath())
+                .lineNumber(comment.getLineNumber())
+                .severity(comment.getSeverity())
+                .category(comment.getCategory())
+                .message(comment.getMessage())
+                .suggestion(comment.getSuggestion())
+                .codeExample(comment.getCodeExample())
+                .githubCommentId(comment.getGithubCommentId())
+                .build());
+        }
+        return carried;
+    }
+
+    /**
+     * 이전 리뷰 이후 변경된 내용이 없으면 LLM 호출과 게시 없이 완료 처리합니다
+     */
+    private void completeWithoutChanges(Review review, List<Comment> carriedComments, long startTime,
+                                        ReviewMetrics.Recording metrics) {
+        commentRepository.saveAll(carriedComments);
+
+        long processingTime = System.currentTimeMillis() - startTime;
+        review.setReviewStatus("completed");
+        review.setTotalComments(carriedComments.size());
+        review.setTokensUsed(0);
+        review.setPromptTokens(0);
+        review.setCompletionTokens(0);
+        review.setProcessingTimeMs((int) processingTime);
+        review.setSeverityCounts(calculateSeverityCounts(carriedComments));
+        reviewRepository.save(review);
+        saveStageTimings(review, metrics, processingTime);
+        reviewRollupService.recordCompletedReview(review);
+        publishStatusChanged(review);
+
+        log.info("No changes since commit {} - carried forward {} comments",
+            review.getBaseCommitSha(), carriedComments.size());
+    }
+
+    /**
+     * 완료된 리뷰의 단계별 소요 시간을 이력 분석용으로 저장합니다
+     *
+     * 저장에 실패해도 리뷰 자체는 완료된 것이므로 로그만 남깁니다.
+     */
+    private void saveStageTimings(Review review, ReviewMetrics.Recording metrics, long processingTime) {
+        Map<String, Integer> stageMillis = metrics.stageMillis();
+        stageMillis.put(ReviewMetrics.STAGE_TOTAL, (int) processingTime);
+
+        List<ReviewStageTiming> timings = stageMillis.entrySet().stream()
+            .map(entry -> ReviewStageTiming.builder()
+                .review(review)
+                .stage(entry.getKey())
+                .durationMs(entry.getValue())
+                .build())
+            .collect(Collectors.toList());
+        try {
+            reviewStageTimingRepository.saveAll(timings);
+        } catch (Exception e) {
+            log.warn("Failed to save stage timings for review {}: {}", review.getId(), e.getMessage());
+        }
+    }
+
+    private String abbreviate(String sha) {
+        return sha != null && sha.length() > 7 ? sha.substring(0, 7) : sha;
+    }
+
+    /**
+     * 리뷰를 in_progress로 전환합니다
+     *
+     * 이미 저장된 리뷰는 pending일 때만 조건부 UPDATE로 전환하여, 조회 이후 들어온 markSuperseded를
+     * 덮어쓰지 않고 이미 진행 중이거나 완료된 리뷰를 다시 실행하지 않습니다.
+     *
+     * @return 전환했으면 true, superseded 되었거나 다른 작업이 이미 처리했으면 false
+     */
+    private boolean markInProgress(Review review, Duration queueWait) {
+        String model = modelRouter.getDefaultModel();
+        Integer queueWaitMs = queueWait != null ? (int) queueWait.toMillis() : null;
+        if (review.getId() != null && reviewRepository.markInProgress(review.getId(), model, queueWaitMs) == 0) {
+            return false;
+        }
+
+        review.setReviewStatus(ReviewCoalescingService.STATUS_IN_PROGRESS);
+        review.setAiModel(model);
+        if (queueWaitMs != null) {
+            review.setQueueWaitMs(queueWaitMs);
+        }
+        if (review.getId() == null) {
+            reviewRepository.save(review);
+        }
+        return true;
+    }
+
+    /**
+     * 더 새로운 커밋에 의해 대체된 리뷰를 superseded로 남기고 중단 여부를 반환합니다
+     */
+    private boolean abortIfSuperseded(PullRequest pullRequest, Review review) {
+        if (!reviewCoalescingService.isSuperseded(review)) {
+            return false;
+        }
+
+        log.info("Review for PR #{} at commit {} superseded by a newer push - cancelling",
+            pullRequest.getPrNumber(), review.getCommitSha());
+        review.setReviewStatus(ReviewCoalescingService.STATUS_SUPERSEDED);
+        reviewRepository.save(review);
+        discardComments(review);
+        publishStatusChanged(review);
+        return true;
+    }
+
+    /**
+     * 게시되지 않은 리뷰가 스트리밍 중 저장한 코멘트를 지웁니다 (대시보드에 남지 않도록)
+     */
+    private void discardComments(Review review) {
+        if (review.getId() == null) {
+            return;
+        }
+        try {
+            int deleted = commentRepository.deleteByReviewId(review.getId());
+            if (deleted > 0) {
+                log.info("Removed {} streamed comment(s) of unpublished review {}", deleted, review.getId());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to remove streamed comments of review {}: {}", review.getId(), e.getMessage());
         }
     }
 
-    private String detectLanguage(String diff) {
-        // Simple language detection based on file extensions in diff
-        if (diff.contains(".java")) return "Java";
-        if (diff.contains(".py")) return "Python";
-        if (diff.contains(".js") || diff.contains(".ts")) return "JavaScript/TypeScript";
-        if (diff.contains(".go")) return "Go";
-        if (diff.contains(".rb")) return "Ruby";
-        return "Unknown";
+    /**
+     * 저장된 상태 변경을 대시보드 캐시 등 구독자에게 알립니다
+     */
+    private void publishStatusChanged(Review review) {
+        eventPublisher.publishEvent(ReviewStatusChangedEvent.of(review));
     }
 
     private Map<String, Integer> calculateSeverityCounts(List<Comment> comments) {
@@ -0,0 +1,31 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.domain.Review;
+
+import java.util.Map;
+
+/**
+ * 리뷰 상태가 바뀌었음을 알리는 애플리케이션 이벤트 (pending, in_progress, completed, failed, superseded)
+ *
+ * 트랜잭션 안에서 발행되면 리스너는 커밋 이후에 실행됩니다.
+ * 코멘트/토큰/처리 시간은 완료된 리뷰에만 채워집니다.
+ */
+public record ReviewStatusChangedEvent(Long reviewId, Long pullRequestId, String commitSha, String status,
+                                       Integer totalComments, Integer tokensUsed, Integer processingTimeMs,
+                                       Map<String, Integer> severityCounts) {
+
+    public ReviewStatusChangedEvent(Long reviewId, Long pullRequestId, String commitSha, String status) {
+        this(reviewId, pullRequestId, commitSha, status, null, null, null, null);
+    }
+
+    public static ReviewStatusChangedEvent of(Review review) {
+        Long pullRequestId = review.getPullRequest() != null ? review.getPullRequest().getId() : null;
+        if (!"completed".equals(review.getReviewStatus())) {
+            return new ReviewStatusChangedEvent(review.getId(), pullRequestId, review.getCommitSha(),
+                review.getReviewStatus());
+        }
+        return new ReviewStatusChangedEvent(review.getId(), pullRequestId, review.getCommitSha(),
+            review.getReviewStatus(), review.getTotalComments(), review.getTokensUsed(),
+            review.getProcessingTimeMs(), review.getSeverityCounts());
+    }
+}
@@ -1,25 +1,26 @@
 package com.codereview.assistant.service;
 
-import com.codereview.assistant.domain.Comment;
 import com.codereview.assistant.domain.Review;
 import com.codereview.assistant.dto.DashboardStatistics;
 import com.codereview.assistant.dto.ReviewSummaryDto;
+import com.codereview.assistant.dto.StageTimingStatsDto;
 import com.codereview.assistant.dto.TrendDataDto;
 import com.codereview.assistant.repository.CommentRepository;
 import com.codereview.assistant.repository.PullRequestRepository;
 import com.codereview.assistant.repository.RepositoryRepository;
+import com.codereview.assistant.repository.ReviewDailyRollupRepository;
 import com.codereview.assistant.repository.ReviewRepository;
+import com.codereview.assistant.repository.ReviewStageTimingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,6 +32,8 @@ public class StatisticsService {
     private final PullRequestRepository pullRequestRepository;
     private final ReviewRepository reviewRepository;
     private final CommentRepository commentRepository;
+    private final ReviewStageTimingRepository reviewStageTimingRepository;
+    private final ReviewDailyRollupRepository rollupRepository;
 
     /**
      * 대시보드 전체 통계 조회
@@ -66,8 +69,7 @@ public class StatisticsService {
     public List<ReviewSummaryDto> getRecentReviews(int limit) {
         log.info("Fetching recent {} reviews", limit);
 
-        Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
-        List<Review> reviews = reviewRepository.findAll(pageable).getContent();
+        List<Review> reviews = reviewRepository.findRecentWithPullRequest(PageRequest.of(0, limit));
 
         return reviews.stream()
             .map(this::convertToReviewSummary)
@@ -76,22 +78,29 @@ public class StatisticsService {
 
     /**
      * 트렌드 데이터 조회 (최근 30일)
+     *
+     * 일별 집계(review_daily_rollup)만 읽으므로 비용이 리뷰 수가 아닌 일수 x Repository 수에 비례합니다.
      */
     @Transactional(readOnly = true)
     public TrendDataDto getTrendData(int days) {
         log.info("Fetching trend data for last {} days", days);
 
-        LocalDateTime startDate = LocalDateTime.now().minusDays(days);
-        List<Review> reviews = reviewRepository.findByCreatedAtAfter(startDate);
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = today.minusDays(days - 1L);
+        Map<LocalDate, ReviewDailyRollupRepository.DailyTotals> totals = new HashMap<>();
+        rollupRepository.sumByDateFrom(startDate).forEach(row -> totals.put(row.getDate(), row));
 
         // 날짜별 리뷰 수
-        List<TrendDataDto.DataPoint> dailyReviews = calculateDailyReviews(reviews, days);
+        List<TrendDataDto.DataPoint> dailyReviews = toDataPoints(totals, startDate, today,
+            ReviewDailyRollupRepository.DailyTotals::getReviews);
 
         // 날짜별 코멘트 수
-        List<TrendDataDto.DataPoint> dailyComments = calculateDailyComments(reviews, days);
+        List<TrendDataDto.DataPoint> dailyComments = toDataPoints(totals, startDate, today,
+            ReviewDailyRollupRepository.DailyTotals::getComments);
 
         // 날짜별 이슈 수 (error severity)
-        List<TrendDataDto.DataPoint> dailyIssues = calculateDailyIssues(reviews, days);
+        List<TrendDataDto.DataPoint> dailyIssues = toDataPoints(totals, startDate, today,
+            ReviewDailyRollupRepository.DailyTotals::getErrors);
 
         return TrendDataDto.builder()
             .dailyReviews(dailyReviews)
@@ -101,68 +110,113 @@ public class StatisticsService {
     }
 
     /**
-     * Repository별 통계 조회
+     * Repository별 통계 조회 (일별 집계 기준, 완료된 리뷰)
      */
     @Transactional(readOnly = true)
     public Map<String, DashboardStatistics.OverallStats> getRepositoryStatistics() {
         log.info("Fetching repository statistics");
 
+        Map<Long, ReviewDailyRollupRepository.RepositoryTotals> totals = new HashMap<>();
+        rollupRepository.sumByRepository().forEach(row -> totals.put(row.getRepositoryId(), row));
+
         Map<String, DashboardStatistics.OverallStats> stats = new HashMap<>();
 
         repositoryRepository.findAll().forEach(repo -> {
             String repoKey = repo.getOwner() + "/" + repo.getName();
-            stats.put(repoKey, calculateRepositoryStats(repo.getId()));
+            stats.put(repoKey, toRepositoryStats(totals.get(repo.getId())));
         });
 
         return stats;
     }
 
+    /**
+     * 기간 내 완료된 리뷰의 단계별 소요 시간 백분위수 조회
+     */
+    @Transactional(readOnly = true)
+    public List<StageTimingStatsDto> getStageTimingStatistics(int days) {
+        log.info("Fetching stage timing percentiles for last {} days", days);
+
+        return reviewStageTimingRepository.findStagePercentiles(LocalDateTime.now().minusDays(days)).stream()
+            .map(row -> toStageTimingStats(null, row))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 기간 내 Repository별 단계별 소요 시간 백분위수 조회
+     */
+    @Transactional(readOnly = true)
+    public List<StageTimingStatsDto> getRepositoryStageTimingStatistics(int days) {
+        log.info("Fetching repository stage timing percentiles for last {} days", days);
+
+        return reviewStageTimingRepository.findRepositoryStagePercentiles(LocalDateTime.now().minusDays(days)).stream()
+            .map(row -> toStageTimingStats(row.getRepository(), row))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 리뷰 하나의 단계별 소요 시간 (밀리초)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Integer> getReviewStageTimings(Long reviewId) {
+        Map<String, Integer> timings = new LinkedHashMap<>();
+        reviewStageTimingRepository.findByReviewId(reviewId)
+            .forEach(timing -> timings.put(timing.getStage(), timing.getDurationMs()));
+        return timings;
+    }
+
+    private StageTimingStatsDto toStageTimingStats(String repository,
+                                                   ReviewStageTimingRepository.StagePercentiles row) {
+        return StageTimingStatsDto.builder()
+            .repository(repository)
+            .stage(row.getStage())
+            .count(row.getCount())
+            .p50Ms(round(row.getP50()))
+            .p90Ms(round(row.getP90()))
+            .p95Ms(round(row.getP95()))
+            .p99Ms(round(row.getP99()))
+            .maxMs(row.getMax() != null ? row.getMax().longValue() : null)
+            .build();
+    }
+
+    private Long round(Double value) {
+        return value != null ? Math.round(value) : null;
+    }
+
     private DashboardStatistics.OverallStats calculateOverallStats() {
         long totalRepos = repositoryRepository.count();
         long totalPrs = pullRequestRepository.count();
         long totalReviews = reviewRepository.count();
         long totalComments = commentRepository.count();
 
-        List<Review> completedReviews = reviewRepository.findByReviewStatus("completed");
-
-        double avgComments = completedReviews.isEmpty() ? 0.0 :
-            completedReviews.stream()
-                .mapToInt(Review::getTotalComments)
-                .average()
-                .orElse(0.0);
-
-        int avgProcessingTime = completedReviews.isEmpty() ? 0 :
-            (int) completedReviews.stream()
-                .filter(r -> r.getProcessingTimeMs() != null)
-                .mapToInt(Review::getProcessingTimeMs)
-                .average()
-                .orElse(0.0);
-
-        int totalTokens = completedReviews.stream()
-            .filter(r -> r.getTokensUsed() != null)
-            .mapToInt(Review::getTokensUsed)
-            .sum();
+        // 완료된 리뷰의 평균/합계는 DB에서 한 번에 집계 (AVG/SUM은 null 값을 건너뜀)
+        ReviewRepository.ReviewAggregate completed = reviewRepository.aggregateByStatus("completed");
 
+        // 토큰 구분은 V4 이후 리뷰에만 있음
         return DashboardStatistics.OverallStats.builder()
             .totalRepositories(totalRepos)
             .totalPullRequests(totalPrs)
             .totalReviews(totalReviews)
             .totalComments(totalComments)
-            .averageCommentsPerReview(avgComments)
-            .averageProcessingTimeMs(avgProcessingTime)
-            .totalTokensUsed(totalTokens)
+            .averageCommentsPerReview(completed.getAverageComments() != null ? completed.getAverageComments() : 0.0)
+            .averageProcessingTimeMs(toInt(completed.getAverageProcessingTimeMs()))
+            .totalTokensUsed(toInt(completed.getTotalTokens()))
+            .totalPromptTokens(toInt(completed.getTotalPromptTokens()))
+            .totalCompletionTokens(toInt(completed.getTotalCompletionTokens()))
             .build();
     }
 
+    private int toInt(Number value) {
+        return value != null ? value.intValue() : 0;
+    }
+
     private Map<String, Integer> calculateSeverityDistribution() {
         Map<String, Integer> distribution = new HashMap<>();
         distribution.put("info", 0);
         distribution.put("warning", 0);
         distribution.put("error", 0);
 
-        List<Comment> allComments = commentRepository.findAll();
-        for (Comment comment : allComments) {
-            distribution.merge(comment.getSeverity(), 1, Integer::sum);
+        for (CommentRepository.NamedCount count : commentRepository.countBySeverity()) {
+            distribution.merge(count.getName(), count.getTotal().intValue(), Integer::sum);
         }
 
         return distribution;
@@ -171,23 +225,19 @@ public class StatisticsService {
     private Map<String, Integer> calculateCategoryDistribution() {
         Map<String, Integer> distribution = new HashMap<>();
 
-        List<Comment> allComments = commentRepository.findAll();
-        for (Comment comment : allComments) {
-            distribution.merge(comment.getCategory(), 1, Integer::sum);
+        for (CommentRepository.NamedCount count : commentRepository.countByCategory()) {
+            distribution.merge(count.getName(), count.getTotal().intValue(), Integer::sum);
         }
 
         return distribution;
     }
 
     private DashboardStatistics.RecentActivity calculateRecentActivity() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime startOfToday = now.toLocalDate().atStartOfDay();
-        LocalDateTime startOfWeek = now.minusDays(7);
-        LocalDateTime startOfMonth = now.minusDays(30);
+        LocalDate today = LocalDate.now();
 
-        int reviewsToday = reviewRepository.findByCreatedAtAfter(startOfToday).size();
-        int reviewsThisWeek = reviewRepository.findByCreatedAtAfter(startOfWeek).size();
-        int reviewsThisMonth = reviewRepository.findByCreatedAtAfter(startOfMonth).size();
+        int reviewsToday = (int) rollupRepository.sumReviewCountFrom(today);
+        int reviewsThisWeek = (int) rollupRepository.sumReviewCountFrom(today.minusDays(7));
+        int reviewsThisMonth = (int) rollupRepository.sumReviewCountFrom(today.minusDays(30));
 
         LocalDateTime lastReviewTime = reviewRepository.findFirstByOrderByCreatedAtDesc()
             .map(Review::getCreatedAt)
@@ -201,25 +251,14 @@ public class StatisticsService {
             .build();
     }
 
-    private DashboardStatistics.OverallStats calculateRepositoryStats(Long repoId) {
-        List<Review> reviews = pullRequestRepository.findByRepositoryId(repoId).stream()
-            .flatMap(pr -> reviewRepository.findByPullRequestId(pr.getId()).stream())
-            .collect(Collectors.toList());
-
-        long totalComments = reviews.stream()
-            .mapToInt(Review::getTotalComments)
-            .sum();
-
-        double avgComments = reviews.isEmpty() ? 0.0 :
-            reviews.stream()
-                .mapToInt(Review::getTotalComments)
-                .average()
-                .orElse(0.0);
+    private DashboardStatistics.OverallStats toRepositoryStats(ReviewDailyRollupRepository.RepositoryTotals totals) {
+        long totalReviews = totals != null && totals.getReviews() != null ? totals.getReviews() : 0L;
+        long totalComments = totals != null && totals.getComments() != null ? totals.getComments() : 0L;
 
         return DashboardStatistics.OverallStats.builder()
-            .totalReviews((long) reviews.size())
+            .totalReviews(totalReviews)
             .totalComments(totalComments)
-            .averageCommentsPerReview(avgComments)
+            .averageCommentsPerReview(totalReviews == 0 ? 0.0 : (double) totalComments / totalReviews)
             .build();
     }
 
@@ -240,71 +279,21 @@ public class StatisticsService {
             .build();
     }
 
-    private List<TrendDataDto.DataPoint> calculateDailyReviews(List<Review> reviews, int days) {
-        Map<LocalDate, Integer> dailyCounts = new HashMap<>();
-
-        // Initialize all dates
-        for (int i = 0; i < days; i++) {
-            dailyCounts.put(LocalDate.now().minusDays(i), 0);
-        }
-
-        // Count reviews per day
-        reviews.forEach(review -> {
-            LocalDate date = review.getCreatedAt().toLocalDate();
-            dailyCounts.merge(date, 1, Integer::sum);
-        });
-
-        return dailyCounts.entrySet().stream()
-            .map(entry -> TrendDataDto.DataPoint.builder()
-                .date(entry.getKey())
-                .count(entry.getValue())
-                .build())
-            .sorted(Comparator.comparing(TrendDataDto.DataPoint::getDate))
-            .collect(Collectors.toList());
-    }
-
-    private List<TrendDataDto.DataPoint> calculateDailyComments(List<Review> reviews, int days) {
-        Map<LocalDate, Integer> dailyCounts = new HashMap<>();
-
-        for (int i = 0; i < days; i++) {
-            dailyCounts.put(LocalDate.now().minusDays(i), 0);
-        }
-
-        reviews.forEach(review -> {
-            LocalDate date = review.getCreatedAt().toLocalDate();
-            dailyCounts.merge(date, review.getTotalComments(), Integer::sum);
-        });
-
-        return dailyCounts.entrySet().stream()
-            .map(entry -> TrendDataDto.DataPoint.builder()
-                .date(entry.getKey())
-                .count(entry.getValue())
-                .build())
-            .sorted(Comparator.comparing(TrendDataDto.DataPoint::getDate))
-            .collect(Collectors.toList());
-    }
-
-    private List<TrendDataDto.DataPoint> calculateDailyIssues(List<Review> reviews, int days) {
-        Map<LocalDate, Integer> dailyCounts = new HashMap<>();
-
-        for (int i = 0; i < days; i++) {
-            dailyCounts.put(LocalDate.now().minusDays(i), 0);
+    /**
+     * 집계가 없는 날짜는 0으로 채워 from..to 의 연속된 데이터 포인트를 만듭니다
+     */
+    private List<TrendDataDto.DataPoint> toDataPoints(Map<LocalDate, ReviewDailyRollupRepository.DailyTotals> totals,
+                                                      LocalDate from, LocalDate to,
+                                                      Function<ReviewDailyRollupRepository.DailyTotals, Long> value) {
+        List<TrendDataDto.DataPoint> points = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            ReviewDailyRollupRepository.DailyTotals row = totals.get(date);
+            Long count = row != null ? value.apply(row) : null;
+            points.add(TrendDataDto.DataPoint.builder()
+                .date(date)
+                .count(count != null ? count.intValue() : 0)
+                .build());
         }
-
-        reviews.forEach(review -> {
-            LocalDate date = review.getCreatedAt().toLocalDate();
-            Map<String, Integer> counts = review.getSeverityCounts();
-            if (counts != null && counts.containsKey("error")) {
-                dailyCounts.merge(date, counts.get("error"), Integer::sum);
-            }
-        });
-
-        return dailyCounts.entrySet().stream()
-            .map(entry -> TrendDataDto.DataPoint.builder()
-                .date(entry.getKey())
-                .count(entry.getValue())
-                .build())
-            .sorted(Comparator.comparing(TrendDataDto.DataPoint::getDate))
-            .collect(Collectors.toList());
+        return points;
     }
 }
@@ -0,0 +1,194 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.dto.CodeReviewResult;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 스트리밍 LLM 응답 증분 파서
+ *
+ * 응답 조각을 받는 대로 Jackson 논블로킹 파서에 넣고, 최상위 "comments" 배열의 원소가 닫히는 즉시
+ * 리스너에 전달합니다. 첫 '{' 이전(```json 펜스 등)과 최상위 객체가 닫힌 뒤의 텍스트는 무시합니다.
+ * 스레드 안전하지 않으며, 응답 하나당 인스턴스 하나를 사용합니다.
+ */
+@Slf4j
+public class StreamingReviewParser {
+
+    private final ObjectMapper objectMapper;
+    private final Consumer<CodeReviewResult.ReviewComment> listener;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private final StringBuilder raw = new StringBuilder();
+    private final List<CodeReviewResult.ReviewComment> comments = new ArrayList<>();
+    private String summary;
+
+    private boolean started;
+    private boolean completed;
+    private boolean failed;
+    private int depth;
+    private String fieldName;
+    private boolean inComments;
+    private TokenBuffer element;
+    private int elementDepth;
+
+    public StreamingReviewParser(ObjectMapper objectMapper, Consumer<CodeReviewResult.ReviewComment> listener)
+            throws IOException {
+        this.objectMapper = objectMapper;
+        this.listener = listener;
+        this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * 응답 조각을 추가합니다
+     */
+    public void feed(String delta) {
+        if (delta == null || delta.isEmpty()) {
+            return;
+        }
+        raw.append(delta);
+        if (completed || failed) {
+            return;
+        }
+
+        String text = delta;
+        if (!started) {
+            int start = text.indexOf('{');
+            if (start < 0) {
+                return;
+            }
+            started = true;
+            text = text.substring(start);
+        }
+
+        try {
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            feeder.feedInput(bytes, 0, bytes.length);
+            drain();
+        } catch (IOException e) {
+            // 이후 조각은 무시하고, 끝난 뒤 전체 텍스트로 다시 파싱할 수 있게 원문만 보관
+            log.warn("Incremental parsing of the LLM response failed: {}", e.getMessage());
+            failed = true;
+        }
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while (!completed && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (element != null) {
+                element.copyCurrentEvent(parser);
+                if (token.isStructStart()) {
+                    elementDepth++;
+                } else if (token.isStructEnd() && --elementDepth == 0) {
+                    emit();
+                }
+                continue;
+            }
+
+            switch (token) {
+                case START_OBJECT -> {
+                    if (inComments && depth == 2) {
+                        element = new TokenBuffer(parser);
+                        element.copyCurrentEvent(parser);
+                        elementDepth = 1;
+                    } else {
+                        depth++;
+                    }
+                }
+                case START_ARRAY -> {
+                    depth++;
+                    if (depth == 2 && "comments".equals(fieldName)) {
+                        inComments = true;
+                    }
+                }
+                case END_OBJECT, END_ARRAY -> {
+                    depth--;
+                    if (depth == 1) {
+                        inComments = false;
+                    } else if (depth == 0) {
+                        completed = true;
+                    }
+                }
+                case FIELD_NAME -> {
+                    if (depth == 1) {
+                        fieldName = parser.currentName();
+                    }
+                }
+                case VALUE_STRING -> {
+                    if (depth == 1 && "summary".equals(fieldName)) {
+                        summary = parser.getText();
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    private void emit() throws IOException {
+        JsonNode node = objectMapper.readTree(element.asParser(objectMapper));
+        element = null;
+        try {
+            CodeReviewResult.ReviewComment comment = toComment(node);
+            comments.add(comment);
+            listener.accept(comment);
+        } catch (RuntimeException e) {
+            log.error("Failed to parse individual comment: {}", node, e);
+        }
+    }
+
+    /**
+     * 최상위 객체를 끝까지 읽었는지 여부
+     */
+    public boolean isComplete() {
+        return completed;
+    }
+
+    /**
+     * 지금까지 리스너에 전달한 코멘트
+     */
+    public List<CodeReviewResult.ReviewComment> getComments() {
+        return comments;
+    }
+
+    public String getSummary() {
+        return summary;
+    }
+
+    /**
+     * 지금까지 받은 응답 원문
+     */
+    public String getContent() {
+        return raw.toString();
+    }
+
+    /**
+     * comments[] 원소 하나를 리뷰 코멘트로 변환합니다 (필수 필드가 없으면 예외)
+     */
+    static CodeReviewResult.ReviewComment toComment(JsonNode commentNode) {
+        return CodeReviewResult.ReviewComment.builder()
+            .filePath(commentNode.get("filePath").asText())
+            .lineNumber(commentNode.has("lineNumber") ?
+                commentNode.get("lineNumber").asInt() : null)
+            .severity(commentNode.get("severity").asText())
+            .category(commentNode.get("category").asText())
+            .message(commentNode.get("message").asText())
+            .suggestion(commentNode.has("suggestion") ?
+                commentNode.get("suggestion").asText() : null)
+            .codeExample(commentNode.has("codeExample") ?
+                commentNode.get("codeExample").asText() : null)
+            .build();
+    }
+}
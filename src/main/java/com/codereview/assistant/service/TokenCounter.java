@@ -0,0 +1,71 @@
+package com.codereview.assistant.service;
+
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingRegistry;
+import com.knuddels.jtokkit.api.EncodingType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 BPE 토큰 카운터
+ *
+ * jtokkit에 포함된 cl100k/o200k 어휘를 사용하므로 네트워크 호출 없이 OpenAI와 같은 방식으로 토큰을 셉니다.
+ * 모델 이름으로 인코딩을 고르고, 알 수 없는 모델은 o200k_base(gpt-4o 계열)로 계산합니다.
+ */
+@Component
+@Slf4j
+public class TokenCounter {
+
+    private final EncodingRegistry registry = Encodings.newLazyEncodingRegistry();
+    private final Map<String, Encoding> encodingsByModel = new ConcurrentHashMap<>();
+
+    private final DistributionSummary predictedTokens;
+    private final DistributionSummary actualTokens;
+    private final DistributionSummary predictionError;
+
+    public TokenCounter(MeterRegistry meterRegistry) {
+        this.predictedTokens = DistributionSummary.builder("llm.tokens")
+            .description("Total tokens per LLM call")
+            .tag("kind", "predicted")
+            .register(meterRegistry);
+        this.actualTokens = DistributionSummary.builder("llm.tokens")
+            .description("Total tokens per LLM call")
+            .tag("kind", "actual")
+            .register(meterRegistry);
+        this.predictionError = DistributionSummary.builder("llm.tokens.prediction.error")
+            .description("Absolute difference between locally predicted and reported total tokens")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 모델 기준 토큰 수를 계산합니다
+     */
+    public int count(String text, String model) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        return encodingFor(model).countTokens(text);
+    }
+
+    /**
+     * 로컬 예측치와 API가 보고한 getTotalTokens()를 함께 기록합니다
+     */
+    public void recordUsage(int predicted, int actual) {
+        predictedTokens.record(predicted);
+        actualTokens.record(actual);
+        predictionError.record(Math.abs(actual - predicted));
+        log.debug("Token usage - predicted: {}, actual: {}", predicted, actual);
+    }
+
+    private Encoding encodingFor(String model) {
+        String key = model != null ? model : "";
+        return encodingsByModel.computeIfAbsent(key, name -> registry.getEncodingForModel(name)
+            .orElseGet(() -> registry.getEncoding(EncodingType.O200K_BASE)));
+    }
+}
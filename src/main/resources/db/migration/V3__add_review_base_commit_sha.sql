@@ -0,0 +1,4 @@
+-- Base commit of an incremental review (last completed review's commit)
+ALTER TABLE reviews ADD COLUMN base_commit_sha VARCHAR(40);
+
+CREATE INDEX idx_reviews_pull_request_status ON reviews(pull_request_id, review_status);
@@ -0,0 +1,16 @@
+-- Token breakdown and queue wait per review
+ALTER TABLE reviews ADD COLUMN prompt_tokens INTEGER;
+ALTER TABLE reviews ADD COLUMN completion_tokens INTEGER;
+ALTER TABLE reviews ADD COLUMN queue_wait_ms INTEGER;
+
+-- Per-stage durations of completed reviews (queue_wait, fetch_diff, load_rules, llm, save_comments, post_review, total)
+CREATE TABLE review_stage_timings (
+    id BIGSERIAL PRIMARY KEY,
+    review_id BIGINT NOT NULL REFERENCES reviews(id) ON DELETE CASCADE,
+    stage VARCHAR(50) NOT NULL,
+    duration_ms INTEGER NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE(review_id, stage)
+);
+
+CREATE INDEX idx_review_stage_timings_created_at_stage ON review_stage_timings(created_at, stage);
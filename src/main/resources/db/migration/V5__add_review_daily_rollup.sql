@@ -0,0 +1,16 @@
+-- Per-day, per-repository totals of completed reviews for dashboard trends and repository statistics.
+-- Incremented when a review completes; rebuilt from reviews by the backfill/reconcile job.
+CREATE TABLE review_daily_rollup (
+    id BIGSERIAL PRIMARY KEY,
+    rollup_date DATE NOT NULL,
+    repository_id BIGINT NOT NULL REFERENCES repositories(id) ON DELETE CASCADE,
+    review_count INTEGER NOT NULL DEFAULT 0,
+    comment_count INTEGER NOT NULL DEFAULT 0,
+    error_count INTEGER NOT NULL DEFAULT 0,
+    tokens_used BIGINT NOT NULL DEFAULT 0,
+    processing_time_ms_sum BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE(rollup_date, repository_id)
+);
+
+CREATE INDEX idx_review_daily_rollup_repository_id ON review_daily_rollup(repository_id);
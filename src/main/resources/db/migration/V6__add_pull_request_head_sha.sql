@@ -0,0 +1,4 @@
+-- Latest head commit seen in webhooks and the pull request's updated_at for that delivery.
+-- Deliveries are not ordered, so an older updated_at never moves the head back.
+ALTER TABLE pull_requests ADD COLUMN head_sha VARCHAR(40);
+ALTER TABLE pull_requests ADD COLUMN head_updated_at TIMESTAMP;
@@ -10,11 +10,8 @@ document.addEventListener('DOMContentLoaded', () => {
     loadDashboardData();
     loadRecentReviews();
 
-    // Refresh every 30 seconds
-    setInterval(() => {
-        loadDashboardData();
-        loadRecentReviews();
-    }, 30000);
+    // Refresh when a review changes state instead of polling
+    subscribeToEvents();
 
     // Modal close event
     const modal = document.getElementById('reviewModal');
@@ -40,6 +37,49 @@ document.addEventListener('DOMContentLoaded', () => {
     });
 });
 
+// Subscribe to live review events (Server-Sent Events)
+let refreshTimer = null;
+
+function subscribeToEvents() {
+    if (!window.EventSource) {
+        // Fallback for browsers without SSE support
+        setInterval(refreshDashboard, 30000);
+        return;
+    }
+
+    const source = new EventSource(`${API_BASE_URL}/api/dashboard/events`);
+    let disconnected = false;
+
+    source.addEventListener('review', () => scheduleRefresh());
+
+    source.addEventListener('open', () => {
+        // Catch up on events missed while reconnecting
+        if (disconnected) {
+            disconnected = false;
+            scheduleRefresh();
+        }
+    });
+
+    source.onerror = () => {
+        // EventSource reconnects automatically
+        disconnected = true;
+    };
+}
+
+// Coalesce bursts of events (e.g. several reviews finishing together) into one refresh
+function scheduleRefresh() {
+    if (refreshTimer) return;
+    refreshTimer = setTimeout(() => {
+        refreshTimer = null;
+        refreshDashboard();
+    }, 300);
+}
+
+function refreshDashboard() {
+    loadDashboardData();
+    loadRecentReviews();
+}
+
 // Close modal function
 function closeModal() {
     const modal = document.getElementById('reviewModal');
@@ -0,0 +1,98 @@
+package com.codereview.assistant.controller;
+
+import com.codereview.assistant.config.AsyncConfig;
+import com.codereview.assistant.dto.gitlab.GitLabMergeRequestEvent;
+import com.codereview.assistant.service.GitLabWebhookService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GitLabWebhookController 테스트")
+class GitLabWebhookControllerTest {
+
+    @Mock
+    private GitLabWebhookService gitLabWebhookService;
+
+    private ThreadPoolTaskExecutor webhookReviewExecutor;
+    private GitLabWebhookController controller;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        // 스레드 1개, 대기열 없음 - 리뷰 하나가 실행 중이면 다음 작업은 AbortPolicy로 거부
+        webhookReviewExecutor = new AsyncConfig().webhookReviewExecutor(1, 1, 0, 1, new SimpleMeterRegistry());
+        controller = new GitLabWebhookController(gitLabWebhookService, webhookReviewExecutor);
+        ReflectionTestUtils.setField(controller, "retryAfterSeconds", 45);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        webhookReviewExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("실행기가 가득 차 거부하면 설정된 Retry-After와 함께 503 응답")
+    void handleWebhook_RejectedWith503WhenExecutorFull() throws Exception {
+        // Given - 첫 리뷰가 유일한 스레드를 점유
+        CountDownLatch started = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(gitLabWebhookService).handleMergeRequestEvent(any());
+
+        ResponseEntity<Map<String, String>> accepted =
+            controller.handleWebhook("Merge Request Hook", null, mergeRequestEvent());
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        ResponseEntity<Map<String, String>> rejected =
+            controller.handleWebhook("Merge Request Hook", null, mergeRequestEvent());
+
+        // Then
+        assertThat(accepted.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(rejected.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("45");
+        assertThat(rejected.getBody()).containsEntry("status", "rejected");
+        verify(gitLabWebhookService, times(1)).handleMergeRequestEvent(any());
+    }
+
+    @Test
+    @DisplayName("MR 이벤트가 아니면 실행기에 넣지 않고 무시")
+    void handleWebhook_IgnoresOtherEvents() {
+        // When
+        ResponseEntity<Map<String, String>> response =
+            controller.handleWebhook("Push Hook", null, new GitLabMergeRequestEvent());
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsEntry("status", "ignored");
+        assertThat(webhookReviewExecutor.getActiveCount()).isZero();
+    }
+
+    private GitLabMergeRequestEvent mergeRequestEvent() {
+        GitLabMergeRequestEvent event = new GitLabMergeRequestEvent();
+        event.setObjectKind("merge_request");
+        return event;
+    }
+}
@@ -0,0 +1,76 @@
+package com.codereview.assistant.controller;
+
+import com.codereview.assistant.domain.PullRequest;
+import com.codereview.assistant.service.GitHubWebhookService;
+import com.codereview.assistant.service.PullRequestService;
+import com.codereview.assistant.service.ReviewJobPublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookController 테스트")
+class WebhookControllerTest {
+
+    private static final String PAYLOAD = """
+        {"action": "synchronize", "pull_request": {"number": 7, "head": {"sha": "abc123"}}}
+        """;
+
+    @Mock
+    private GitHubWebhookService webhookService;
+
+    @Mock
+    private PullRequestService pullRequestService;
+
+    @Mock
+    private ReviewJobPublisher reviewJobPublisher;
+
+    private WebhookController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new WebhookController(webhookService, pullRequestService, reviewJobPublisher, new ObjectMapper());
+        ReflectionTestUtils.setField(controller, "retryAfterSeconds", 45);
+        when(webhookService.verifySignature(PAYLOAD, "sha256=sig")).thenReturn(true);
+        when(pullRequestService.handlePullRequestEvent(any())).thenReturn(PullRequest.builder().prNumber(7).build());
+    }
+
+    @Test
+    @DisplayName("리뷰 작업이 큐에 들어가면 200 응답")
+    void handleGitHubWebhook_Queued() {
+        // When
+        ResponseEntity<String> response = controller.handleGitHubWebhook("pull_request", "sha256=sig", PAYLOAD);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(reviewJobPublisher).publish(any(PullRequest.class), eq("abc123"));
+    }
+
+    @Test
+    @DisplayName("로컬 실행기가 가득 차 거부하면 설정된 Retry-After와 함께 503 응답")
+    void handleGitHubWebhook_RejectedWith503WhenExecutorFull() {
+        // Given
+        doThrow(new TaskRejectedException("full"))
+            .when(reviewJobPublisher).publish(any(PullRequest.class), eq("abc123"));
+
+        // When
+        ResponseEntity<String> response = controller.handleGitHubWebhook("pull_request", "sha256=sig", PAYLOAD);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("45");
+    }
+}
@@ -0,0 +1,60 @@
+package com.codereview.assistant.diff;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SkipFileClassifier 테스트")
+class SkipFileClassifierTest {
+
+    private final SkipFileClassifier classifier = SkipFileClassifier.defaults();
+
+    @Test
+    @DisplayName("짧은 확장자(.a/.o/.so)가 소스 파일을 제외하지 않음")
+    void defaults_DoNotDropSourceFiles() {
+        assertThat(classifier.shouldSkip("src/main/java/com/app/Application.java")).isFalse();
+        assertThat(classifier.shouldSkip("src/solver/model.py")).isFalse();
+        assertThat(classifier.shouldSkip("docs/overview.md")).isFalse();
+        assertThat(classifier.shouldSkip("web/src/targets.ts")).isFalse();
+        assertThat(classifier.shouldSkip("rebuild/script.sh")).isFalse();
+    }
+
+    @Test
+    @DisplayName("기본 규칙 - lock 파일, 빌드 산출물, 바이너리, 스냅샷 제외")
+    void defaults_SkipNoise() {
+        assertThat(classifier.shouldSkip("package-lock.json")).isTrue();
+        assertThat(classifier.shouldSkip("services/api/go.sum")).isTrue();
+        assertThat(classifier.shouldSkip("build/classes/App.class")).isTrue();
+        assertThat(classifier.shouldSkip("web/node_modules/react/index.js")).isTrue();
+        assertThat(classifier.shouldSkip("static/app.min.js")).isTrue();
+        assertThat(classifier.shouldSkip("lib/libfoo.so")).isTrue();
+        assertThat(classifier.shouldSkip("out/main.o")).isTrue();
+        assertThat(classifier.shouldSkip("docs/Logo.PNG")).isTrue();
+        assertThat(classifier.shouldSkip("src/__snapshots__/App.test.js.snap")).isTrue();
+        assertThat(classifier.shouldSkip(".gitignore")).isTrue();
+    }
+
+    @Test
+    @DisplayName("레포지토리별 glob - 추가 제외 및 기본 규칙 재정의")
+    void repositoryGlobs_OverrideDefaults() {
+        // Given
+        SkipFileClassifier custom = classifier.toBuilder()
+            .skipGlobs(List.of("**/generated/**", "*.proto"))
+            .reviewGlobs(List.of("vendor/internal/**"))
+            .directories("src/legacy")
+            .build();
+
+        // When / Then
+        assertThat(custom.shouldSkip("src/main/generated/Api.java")).isTrue();
+        assertThat(custom.shouldSkip("api.proto")).isTrue();
+        assertThat(custom.shouldSkip("vendor/internal/util.go")).isFalse();
+        assertThat(custom.shouldSkip("vendor/github.com/lib/x.go")).isTrue();
+        assertThat(custom.shouldSkip("app/src/legacy/Old.java")).isTrue();
+        assertThat(custom.shouldSkip("src/Main.java")).isFalse();
+        // 기본 인스턴스는 변경되지 않음
+        assertThat(classifier.shouldSkip("src/main/generated/Api.java")).isFalse();
+    }
+}
@@ -0,0 +1,117 @@
+package com.codereview.assistant.diff;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UnifiedDiffParser 테스트")
+class UnifiedDiffParserTest {
+
+    private final UnifiedDiffParser parser = new UnifiedDiffParser();
+
+    @Test
+    @DisplayName("파일/hunk/줄 번호 파싱")
+    void parse_FilesHunksAndLineNumbers() {
+        // Given
+        String diff = """
+            diff --git a/src/Main.java b/src/Main.java
+            index 1111111..2222222 100644
+            --- a/src/Main.java
+            +++ b/src/Main.java
+            @@ -1,3 +1,4 @@
+             public class Main {
+            -    int a;
+            +    int b;
+            +    int c;
+             }
+            diff --git a/README.md b/README.md
+            new file mode 100644
+            --- /dev/null
+            +++ b/README.md
+            @@ -0,0 +1 @@
+            +hello
+            """;
+
+        // When
+        DiffModel model = parser.parse(diff);
+
+        // Then
+        assertThat(model.getFiles()).hasSize(2);
+        DiffFile main = model.getFiles().get(0);
+        assertThat(main.getPath()).isEqualTo("src/Main.java");
+        assertThat(main.getStatus()).isEqualTo(DiffFile.Status.MODIFIED);
+        assertThat(main.getAdditions()).isEqualTo(2);
+        assertThat(main.getDeletions()).isEqualTo(1);
+        assertThat(main.isLineAdded(3)).isTrue();
+        assertThat(main.isLineAdded(1)).isFalse();
+
+        DiffFile readme = model.getFiles().get(1);
+        assertThat(readme.getStatus()).isEqualTo(DiffFile.Status.ADDED);
+        assertThat(readme.getAdditions()).isEqualTo(1);
+        assertThat(model.getTotalAdditions()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("GitHub 방식 position 계산 - 이후 hunk 헤더도 position에 포함")
+    void parsePatch_GitHubPositions() {
+        // Given
+        String patch = """
+            @@ -1,2 +1,2 @@
+             a
+            -b
+            +B
+            @@ -10,1 +10,2 @@
+             x
+            +y
+            """;
+
+        // When
+        DiffFile file = parser.parsePatch("f.txt", "f.txt", patch);
+
+        // Then
+        assertThat(file.findPosition(2)).isEqualTo(3);
+        assertThat(file.findPosition(11)).isEqualTo(6);
+        assertThat(file.findPosition(5)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("스트림 입력과 '+++'/'---'로 시작하는 본문 줄 처리")
+    void parse_StreamWithMarkerLikeContent() {
+        // Given
+        String diff = """
+            diff --git a/a.sql b/a.sql
+            --- a/a.sql
+            +++ b/a.sql
+            @@ -1,1 +1,1 @@
+            --- old comment
+            +++ new comment
+            """;
+
+        // When
+        DiffModel model = parser.parse(new ByteArrayInputStream(diff.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertThat(model.getFiles()).hasSize(1);
+        DiffFile file = model.getFiles().get(0);
+        assertThat(file.getDeletions()).isEqualTo(1);
+        assertThat(file.getAdditions()).isEqualTo(1);
+        assertThat(file.getHunks().get(0).getLines().get(1).getContent()).isEqualTo("++ new comment");
+    }
+
+    @Test
+    @DisplayName("변경 줄이 가장 많은 언어 감지")
+    void languageDetector_PicksDominantLanguage() {
+        // Given
+        DiffModel model = new DiffModel(java.util.List.of(
+            parser.parsePatch("a.py", "a.py", "@@ -0,0 +1,1 @@\n+x\n"),
+            parser.parsePatch("B.java", "B.java", "@@ -0,0 +1,2 @@\n+x\n+y\n")
+        ));
+
+        // When / Then
+        assertThat(LanguageDetector.detect(model)).isEqualTo("Java");
+    }
+}
@@ -0,0 +1,114 @@
+package com.codereview.assistant.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DashboardCache 테스트")
+class DashboardCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("무효화 전까지는 다시 계산하지 않고 같은 ETag 반환")
+    void get_CachesUntilInvalidated() {
+        // Given
+        DashboardCache cache = cache(null);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        DashboardCache.Snapshot<List<String>> first = cache.get("reviews/recent:10", () -> load(loads, "a"));
+        DashboardCache.Snapshot<List<String>> second = cache.get("reviews/recent:10", () -> load(loads, "a"));
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(second.value()).containsExactly("a");
+        assertThat(second.etag()).isEqualTo(first.etag()).startsWith("\"").endsWith("\"");
+        assertThat(meterRegistry.get("dashboard.cache.requests").tag("result", "hit").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리뷰 상태 변경 이벤트로 무효화 - 내용이 같으면 ETag와 Last-Modified 유지")
+    void onReviewStatusChanged_Invalidates() {
+        // Given
+        DashboardCache cache = cache(null);
+        AtomicInteger loads = new AtomicInteger();
+        DashboardCache.Snapshot<List<String>> before = cache.get("statistics", () -> load(loads, "a"));
+
+        // When
+        cache.onReviewStatusChanged(new ReviewStatusChangedEvent(1L, 2L, "abc", "in_progress"));
+        DashboardCache.Snapshot<List<String>> unchanged = cache.get("statistics", () -> load(loads, "a"));
+        cache.onReviewStatusChanged(new ReviewStatusChangedEvent(1L, 2L, "abc", "completed"));
+        DashboardCache.Snapshot<List<String>> changed = cache.get("statistics", () -> load(loads, "b"));
+
+        // Then
+        assertThat(loads).hasValue(3);
+        assertThat(unchanged.etag()).isEqualTo(before.etag());
+        assertThat(unchanged.lastModified()).isEqualTo(before.lastModified());
+        assertThat(changed.etag()).isNotEqualTo(before.etag());
+        assertThat(changed.value()).containsExactly("b");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 Redis 버전을 올리면 다시 계산")
+    void get_RecomputesWhenSharedVersionChanges() {
+        // Given
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(values);
+        when(values.get("dashboard:version")).thenReturn("4", "4", "5");
+        DashboardCache cache = cache(redis);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get("trends:30", () -> load(loads, "a"));
+        cache.get("trends:30", () -> load(loads, "a"));
+        cache.get("trends:30", () -> load(loads, "a"));
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Redis 사용 시 무효화하면 공유 버전을 올림")
+    void invalidate_IncrementsSharedVersion() {
+        // Given
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(values);
+        DashboardCache cache = cache(redis);
+
+        // When
+        cache.invalidate();
+
+        // Then
+        verify(values).increment("dashboard:version");
+    }
+
+    private List<String> load(AtomicInteger loads, String value) {
+        loads.incrementAndGet();
+        return List.of(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private DashboardCache cache(StringRedisTemplate redis) {
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(redis);
+        return new DashboardCache(new ObjectMapper(), provider, meterRegistry, true, Duration.ofMinutes(5),
+            redis != null);
+    }
+}
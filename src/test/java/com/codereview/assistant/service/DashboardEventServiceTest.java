@@ -0,0 +1,198 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.config.AsyncConfig;
+import com.codereview.assistant.config.RabbitMQConfig;
+import com.codereview.assistant.dto.DashboardEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardEventService 테스트")
+class DashboardEventServiceTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private DashboardCache dashboardCache;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TaskExecutor eventExecutor = Runnable::run;
+
+    @Test
+    @DisplayName("완료 이벤트를 통계 증분과 함께 fanout exchange로 중계")
+    void onReviewStatusChanged_RelaysCompletedWithDelta() {
+        // Given
+        DashboardEventService service = service(true);
+        ReviewStatusChangedEvent event = new ReviewStatusChangedEvent(5L, 2L, "abc123", "completed",
+            4, 1500, 8000, Map.of("info", 1, "warning", 1, "error", 2));
+
+        // When
+        service.onReviewStatusChanged(event);
+
+        // Then
+        ArgumentCaptor<DashboardEvent> captor = ArgumentCaptor.forClass(DashboardEvent.class);
+        verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.DASHBOARD_EVENTS_EXCHANGE), eq(""), captor.capture());
+        DashboardEvent relayed = captor.getValue();
+        assertThat(relayed.getReviewId()).isEqualTo(5L);
+        assertThat(relayed.getStatus()).isEqualTo("completed");
+        assertThat(relayed.getOrigin()).isNotBlank();
+        assertThat(relayed.getDelta().getReviews()).isEqualTo(1);
+        assertThat(relayed.getDelta().getComments()).isEqualTo(4);
+        assertThat(relayed.getDelta().getErrors()).isEqualTo(2);
+        assertThat(relayed.getDelta().getTokensUsed()).isEqualTo(1500);
+    }
+
+    @Test
+    @DisplayName("완료 전 상태 이벤트에는 증분이 없음")
+    void onReviewStatusChanged_NoDeltaBeforeCompletion() {
+        // Given
+        DashboardEventService service = service(true);
+
+        // When
+        service.onReviewStatusChanged(new ReviewStatusChangedEvent(5L, 2L, "abc123", "in_progress"));
+
+        // Then
+        ArgumentCaptor<DashboardEvent> captor = ArgumentCaptor.forClass(DashboardEvent.class);
+        verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.DASHBOARD_EVENTS_EXCHANGE), eq(""), captor.capture());
+        assertThat(captor.getValue().getDelta()).isNull();
+    }
+
+    @Test
+    @DisplayName("브로커 장애 시 이 노드의 구독자에게 직접 전송")
+    void onReviewStatusChanged_FallsBackToLocalBroadcast() {
+        // Given
+        DashboardEventService service = spy(service(true));
+        doThrow(new AmqpConnectException(new ConnectException("refused")))
+            .when(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.DASHBOARD_EVENTS_EXCHANGE), eq(""), any(Object.class));
+
+        // When
+        service.onReviewStatusChanged(new ReviewStatusChangedEvent(5L, 2L, "abc123", "failed"));
+
+        // Then
+        verify(service).broadcast(any(DashboardEvent.class));
+    }
+
+    @Test
+    @DisplayName("큐를 쓰지 않으면 중계 없이 구독자에게 바로 전송")
+    void onReviewStatusChanged_LocalWithoutRelay() {
+        // Given
+        DashboardEventService service = service(false);
+        service.subscribe();
+
+        // When
+        service.onReviewStatusChanged(new ReviewStatusChangedEvent(5L, 2L, "abc123", "pending"));
+
+        // Then
+        verifyNoInteractions(rabbitTemplate);
+        assertThat(service.broadcast(DashboardEvent.builder().status("pending").build())).isEqualTo(1);
+        assertThat(meterRegistry.get("dashboard.events.subscribers").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 중계된 이벤트만 로컬 캐시를 비움")
+    void onRelayedEvent_InvalidatesCacheForRemoteOrigin() {
+        // Given
+        DashboardEventService service = service(true);
+        ArgumentCaptor<DashboardEvent> captor = ArgumentCaptor.forClass(DashboardEvent.class);
+        service.onReviewStatusChanged(new ReviewStatusChangedEvent(5L, 2L, "abc123", "completed"));
+        verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.DASHBOARD_EVENTS_EXCHANGE), eq(""), captor.capture());
+
+        // When
+        service.onRelayedEvent(captor.getValue());
+        service.onRelayedEvent(DashboardEvent.builder().reviewId(6L).status("completed").origin("other-node").build());
+
+        // Then
+        verify(dashboardCache, times(1)).invalidateLocal();
+    }
+
+    @Test
+    @DisplayName("SSE 전송은 이벤트를 받은 스레드가 아닌 전송 실행기에서 수행")
+    void onRelayedEvent_HandsOffSendToEventExecutor() {
+        // Given - 실행기에 넘겨진 작업을 직접 실행할 때까지 보관
+        List<Runnable> handedOff = new ArrayList<>();
+        eventExecutor = handedOff::add;
+        DashboardEventService service = spy(service(true));
+        DashboardEvent event = DashboardEvent.builder().reviewId(6L).status("completed").origin("other-node").build();
+
+        // When
+        service.onRelayedEvent(event);
+        service.heartbeat();
+
+        // Then - 리스너 스레드에서는 캐시만 비우고 전송하지 않음
+        verify(dashboardCache).invalidateLocal();
+        verify(service, never()).broadcast(any());
+        assertThat(handedOff).hasSize(2);
+
+        handedOff.get(0).run();
+        verify(service).broadcast(event);
+    }
+
+    @Test
+    @DisplayName("전송 실행기가 밀리면 가장 오래된 이벤트를 버리고 호출 스레드는 막히지 않음")
+    void dashboardEventExecutor_DropsOldestWhenFull() throws Exception {
+        // Given - 실행기 스레드가 느린 전송에 묶여 있고 대기열은 2칸
+        ThreadPoolTaskExecutor executor = new AsyncConfig().dashboardEventExecutor(2, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<Integer> sent = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(2);
+
+        // When
+        for (int i = 1; i <= 3; i++) {
+            int event = i;
+            executor.execute(() -> {
+                sent.add(event);
+                done.countDown();
+            });
+        }
+        release.countDown();
+
+        // Then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sent).containsExactly(2, 3);
+        executor.shutdown();
+    }
+
+    private DashboardEventService service(boolean brokerRelay) {
+        return new DashboardEventService(rabbitTemplate, dashboardCache, eventExecutor, meterRegistry, brokerRelay,
+            Duration.ofMinutes(30));
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
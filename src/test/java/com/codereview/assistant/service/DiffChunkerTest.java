@@ -0,0 +1,122 @@
+package com.codereview.assistant.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DiffChunker 테스트")
+class DiffChunkerTest {
+
+    private final DiffChunker diffChunker = new DiffChunker();
+
+    @Test
+    @DisplayName("작은 파일들은 하나의 청크로 묶음")
+    void split_PacksSmallFilesTogether() {
+        // Given
+        String diff = fileDiff("A.java", 3) + fileDiff("B.java", 3);
+
+        // When
+        List<String> chunks = diffChunker.split(diff, 10_000);
+
+        // Then
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0)).contains("A.java").contains("B.java");
+    }
+
+    @Test
+    @DisplayName("예산을 넘으면 파일 경계에서 분할")
+    void split_SplitsAtFileBoundaries() {
+        // Given
+        String a = fileDiff("A.java", 5);
+        String b = fileDiff("B.java", 5);
+
+        // When
+        List<String> chunks = diffChunker.split(a + b, Math.max(a.length(), b.length()) + 1);
+
+        // Then
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks.get(0)).contains("A.java").doesNotContain("B.java");
+        assertThat(chunks.get(1)).startsWith("diff --git a/B.java");
+    }
+
+    @Test
+    @DisplayName("큰 파일은 파일/hunk 헤더를 반복하며 분할")
+    void split_LargeFileRepeatsHeaders() {
+        // Given
+        String diff = fileDiff("Big.java", 200);
+
+        // When
+        List<String> chunks = diffChunker.split(diff, 500);
+
+        // Then
+        assertThat(chunks.size()).isGreaterThan(1);
+        assertThat(chunks).allSatisfy(chunk -> {
+            assertThat(chunk).startsWith("diff --git a/Big.java");
+            assertThat(chunk).contains("@@ -1,1 +1,200 @@");
+            assertThat(chunk.length()).isLessThanOrEqualTo(500);
+        });
+        assertThat(String.join("", chunks)).contains("+line 199");
+    }
+
+    @Test
+    @DisplayName("자리가 남은 앞 청크에 뒤 파일을 채워 넣음 (first-fit)")
+    void split_FillsEarlierChunks() {
+        // Given - 예산 200 기준 120, 140, 80
+        String a = sizedDiff("A.java", 120);
+        String b = sizedDiff("B.java", 140);
+        String c = sizedDiff("C.java", 80);
+
+        // When
+        List<String> chunks = diffChunker.split(a + b + c, 200, 10, String::length);
+
+        // Then
+        assertThat(chunks).containsExactly(a + c, b);
+    }
+
+    @Test
+    @DisplayName("청크 수가 상한을 넘으면 변경된 줄이 가장 적은 청크를 제외")
+    void split_EnforcesMaxChunks() {
+        // Given - 어떤 두 파일도 한 청크에 들어가지 않음 (총량은 예산 x 2 이하)
+        String a = fileDiff("A.java", 8);
+        String b = fileDiff("B.java", 3);
+        String c = fileDiff("C.java", 6);
+        int budget = 200;
+        assertThat(a.length() + b.length() + c.length()).isLessThanOrEqualTo(budget * 2);
+        assertThat(b.length() + c.length()).isGreaterThan(budget);
+
+        // When
+        List<String> chunks = diffChunker.split(a + b + c, budget, 2, String::length);
+
+        // Then - 순서는 유지
+        assertThat(chunks).containsExactly(a, c);
+    }
+
+    @Test
+    @DisplayName("빈 diff는 빈 목록")
+    void split_EmptyDiff() {
+        assertThat(diffChunker.split("", 100)).isEmpty();
+    }
+
+    /**
+     * size 문자 크기의 파일 diff (변경된 줄 길이로 크기를 맞춤)
+     */
+    private String sizedDiff(String file, int size) {
+        String header = "diff --git a/" + file + " b/" + file + "\n@@ -1,1 +1,1 @@\n";
+        return header + "+" + "x".repeat(Math.max(0, size - header.length() - 2)) + "\n";
+    }
+
+    private String fileDiff(String file, int addedLines) {
+        StringBuilder diff = new StringBuilder();
+        diff.append("diff --git a/").append(file).append(" b/").append(file).append("\n");
+        diff.append("--- a/").append(file).append("\n");
+        diff.append("+++ b/").append(file).append("\n");
+        diff.append("@@ -1,1 +1,").append(addedLines).append(" @@\n");
+        for (int i = 0; i < addedLines; i++) {
+            diff.append("+line ").append(i).append("\n");
+        }
+        return diff.toString();
+    }
+}
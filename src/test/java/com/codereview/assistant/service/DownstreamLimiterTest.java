@@ -0,0 +1,121 @@
+package com.codereview.assistant.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DownstreamLimiter 테스트")
+class DownstreamLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DownstreamLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new DownstreamLimiter(2, 1, 1, 1, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("최대 동시 호출 수에 도달하면 다음 호출은 허용량이 반환될 때까지 대기")
+    void call_BlocksAtMaxConcurrent() throws Exception {
+        // Given - openai 한도 2를 모두 점유
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+        List<String> order = new CopyOnWriteArrayList<>();
+        startCall(DownstreamLimiter.OPENAI, "first", release, order, done);
+        startCall(DownstreamLimiter.OPENAI, "second", release, order, done);
+        awaitGauge("downstream.calls.active", DownstreamLimiter.OPENAI, 2);
+
+        // When
+        startCall(DownstreamLimiter.OPENAI, "third", null, order, done);
+
+        // Then - 세 번째 호출은 대기, 다른 서비스의 한도와는 무관
+        awaitGauge("downstream.calls.waiting", DownstreamLimiter.OPENAI, 1);
+        assertThat(order).containsExactlyInAnyOrder("first", "second");
+        assertThat(limiter.call(DownstreamLimiter.GITHUB, () -> "github")).isEqualTo("github");
+
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).hasSize(3).endsWith("third");
+        assertThat(gauge("downstream.calls.active", DownstreamLimiter.OPENAI)).isZero();
+        assertThat(gauge("downstream.calls.waiting", DownstreamLimiter.OPENAI)).isZero();
+    }
+
+    @Test
+    @DisplayName("반환된 허용량은 먼저 기다린 호출부터 넘겨줌")
+    void call_HandsOffInArrivalOrder() throws Exception {
+        // Given - github 한도 1을 점유한 뒤 세 호출이 차례로 대기
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(4);
+        List<String> order = new CopyOnWriteArrayList<>();
+        startCall(DownstreamLimiter.GITHUB, "holder", release, order, done);
+        awaitGauge("downstream.calls.active", DownstreamLimiter.GITHUB, 1);
+        for (int i = 1; i <= 3; i++) {
+            startCall(DownstreamLimiter.GITHUB, "waiter-" + i, null, order, done);
+            awaitGauge("downstream.calls.waiting", DownstreamLimiter.GITHUB, i);
+        }
+
+        // When
+        release.countDown();
+
+        // Then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).containsExactly("holder", "waiter-1", "waiter-2", "waiter-3");
+    }
+
+    @Test
+    @DisplayName("호출이 예외로 끝나도 허용량을 반환하고 예외는 그대로 전달")
+    void call_ReleasesPermitOnException() {
+        // When / Then
+        assertThatThrownBy(() -> limiter.call(DownstreamLimiter.GITLAB, () -> {
+            throw new IOException("boom");
+        })).isInstanceOf(IOException.class);
+
+        assertThat(gauge("downstream.calls.active", DownstreamLimiter.GITLAB)).isZero();
+        assertThatThrownBy(() -> limiter.call("unknown", () -> "x"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void startCall(String service, String name, CountDownLatch release,
+                           List<String> order, CountDownLatch done) {
+        Thread thread = new Thread(() -> {
+            try {
+                limiter.call(service, () -> {
+                    order.add(name);
+                    if (release != null) {
+                        release.await(5, TimeUnit.SECONDS);
+                    }
+                    return null;
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        });
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private double gauge(String name, String service) {
+        return meterRegistry.get(name).tag("service", service).gauge().value();
+    }
+
+    private void awaitGauge(String name, String service, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gauge(name, service) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(gauge(name, service)).isEqualTo(expected);
+    }
+}
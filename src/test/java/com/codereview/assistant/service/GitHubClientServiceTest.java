@@ -0,0 +1,222 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.diff.DiffModel;
+import com.codereview.assistant.diff.UnifiedDiffParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kohsuke.github.GHCommit;
+import org.kohsuke.github.GHCompare;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GHPullRequestReviewBuilder;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.HttpException;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GitHubClientService 테스트")
+class GitHubClientServiceTest {
+
+    @Mock
+    private GitHubClientFactory gitHubClientFactory;
+
+    @Mock
+    private GHRepository repository;
+
+    @Mock
+    private GHCompare compare;
+
+    @Mock
+    private GHPullRequest pullRequest;
+
+    private GitHubClientService gitHubClientService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        gitHubClientService = new GitHubClientService(new UnifiedDiffParser(), gitHubClientFactory,
+            new DownstreamLimiter(1, 1, 1, 1, new SimpleMeterRegistry()));
+        when(gitHubClientFactory.getRepository(null, "owner/repo")).thenReturn(repository);
+        lenient().when(repository.getCompare("sha-1", "sha-2")).thenReturn(compare);
+        lenient().when(repository.getPullRequest(7)).thenReturn(pullRequest);
+    }
+
+    @Test
+    @DisplayName("새 커밋만 있으면 두 커밋 사이 변경 파일로 diff 생성")
+    void getCompareDiff_ReturnsChangedFiles() {
+        // Given
+        GHCompare.Commit commit = commit("sha-1");
+        GHCommit.File file = mock(GHCommit.File.class);
+        when(file.getFileName()).thenReturn("A.java");
+        when(file.getStatus()).thenReturn("modified");
+        when(file.getPatch()).thenReturn("@@ -1,1 +1,2 @@\n class A {}\n+// changed\n");
+        when(compare.getStatus()).thenReturn(GHCompare.Status.ahead);
+        when(compare.getCommits()).thenReturn(new GHCompare.Commit[]{commit});
+        when(compare.getTotalCommits()).thenReturn(1);
+        when(compare.getFiles()).thenReturn(new GHCommit.File[]{file});
+
+        // When
+        Optional<DiffModel> diff = gitHubClientService.getCompareDiff("owner", "repo", "sha-1", "sha-2", null);
+
+        // Then
+        assertThat(diff).isPresent();
+        assertThat(diff.get().findFile("A.java")).isPresent();
+        assertThat(diff.get().getTotalAdditions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("base 브랜치를 merge한 커밋이 있으면 증분 diff를 쓰지 않음")
+    void getCompareDiff_EmptyWhenMergeCommitIncluded() {
+        // Given
+        GHCompare.Commit merge = commit("sha-1", "base-head");
+        when(compare.getStatus()).thenReturn(GHCompare.Status.ahead);
+        when(compare.getCommits()).thenReturn(new GHCompare.Commit[]{merge});
+        when(compare.getTotalCommits()).thenReturn(1);
+
+        // When
+        Optional<DiffModel> diff = gitHubClientService.getCompareDiff("owner", "repo", "sha-1", "sha-2", null);
+
+        // Then
+        assertThat(diff).isEmpty();
+        verify(compare, never()).getFiles();
+    }
+
+    @Test
+    @DisplayName("히스토리가 바뀌었으면(강제 push) 증분 diff를 쓰지 않음")
+    void getCompareDiff_EmptyWhenDiverged() {
+        // Given
+        when(compare.getStatus()).thenReturn(GHCompare.Status.diverged);
+
+        // When
+        Optional<DiffModel> diff = gitHubClientService.getCompareDiff("owner", "repo", "sha-1", "sha-2", null);
+
+        // Then
+        assertThat(diff).isEmpty();
+    }
+
+    @Test
+    @DisplayName("리뷰 제출 - 인라인 코멘트는 max-comments-per-review 단위로 나눠 여러 리뷰로 제출")
+    void submitReview_BatchesInlineComments() throws Exception {
+        // Given - 한 리뷰당 2개, diff 안의 코멘트 5개
+        ReflectionTestUtils.setField(gitHubClientService, "maxCommentsPerReview", 2);
+        GHPullRequestReviewBuilder first = reviewBuilder();
+        GHPullRequestReviewBuilder second = reviewBuilder();
+        GHPullRequestReviewBuilder third = reviewBuilder();
+        when(pullRequest.createReview()).thenReturn(first, second, third);
+        List<GitHubClientService.ReviewCommentRequest> comments = IntStream.rangeClosed(2, 6)
+            .mapToObj(line -> comment("A.java", line))
+            .toList();
+
+        // When
+        gitHubClientService.submitReview("owner", "repo", 7, "sha-2", "summary", comments, prDiff(), null);
+
+        // Then
+        verify(pullRequest, times(3)).createReview();
+        verify(first, times(2)).comment(anyString(), eq("A.java"), anyInt());
+        verify(second, times(2)).comment(anyString(), eq("A.java"), anyInt());
+        verify(third, times(1)).comment(anyString(), eq("A.java"), anyInt());
+        assertThat(body(first)).contains("AI Code Review Summary").contains("**Total Issues Found:** 5");
+        assertThat(body(second)).contains("AI Code Review (continued)");
+        verify(third).create();
+    }
+
+    @Test
+    @DisplayName("리뷰 제출 - 인라인 코멘트가 422로 거부되면 코멘트를 본문에 넣어 다시 제출")
+    void submitReview_FoldsInlineCommentsIntoBodyOn422() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(gitHubClientService, "maxCommentsPerReview", 50);
+        GHPullRequestReviewBuilder rejected = reviewBuilder();
+        GHPullRequestReviewBuilder fallback = reviewBuilder();
+        when(pullRequest.createReview()).thenReturn(rejected, fallback);
+        when(rejected.create()).thenThrow(new HttpException("Unprocessable Entity", 422, "Unprocessable Entity",
+            "https://api.github.com/repos/owner/repo/pulls/7/reviews"));
+
+        // When
+        gitHubClientService.submitReview("owner", "repo", 7, "sha-2", "summary",
+            List.of(comment("A.java", 2)), prDiff(), null);
+
+        // Then
+        verify(fallback, never()).comment(anyString(), anyString(), anyInt());
+        verify(fallback).create();
+        assertThat(body(fallback))
+            .contains("AI Code Review Summary")
+            .contains("**📁 File:** `A.java`")
+            .contains("finding on line 2");
+    }
+
+    @Test
+    @DisplayName("리뷰 제출 - 줄 번호를 diff position으로 바꾸고, diff 밖의 줄은 본문에 넣음")
+    void submitReview_MapsLinesToDiffPositions() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(gitHubClientService, "maxCommentsPerReview", 50);
+        GHPullRequestReviewBuilder review = reviewBuilder();
+        when(pullRequest.createReview()).thenReturn(review);
+
+        // When - 1번 줄은 문맥, 3번 줄은 추가, 40번 줄은 diff 밖, B.java는 PR에 없음
+        gitHubClientService.submitReview("owner", "repo", 7, "sha-2", "summary", List.of(
+            comment("A.java", 1), comment("A.java", 3), comment("A.java", 40), comment("B.java", 2)), prDiff(), null);
+
+        // Then
+        verify(review).comment(contains("finding on line 1"), eq("A.java"), eq(1));
+        verify(review).comment(contains("finding on line 3"), eq("A.java"), eq(3));
+        verify(review, times(2)).comment(anyString(), anyString(), anyInt());
+        assertThat(body(review))
+            .contains("`A.java` (Line 40)")
+            .contains("`B.java` (Line 2)");
+    }
+
+    private DiffModel prDiff() {
+        return new UnifiedDiffParser().parse("""
+            diff --git a/A.java b/A.java
+            --- a/A.java
+            +++ b/A.java
+            @@ -1,1 +1,6 @@
+             class A {}
+            +// 2
+            +// 3
+            +// 4
+            +// 5
+            +// 6
+            """);
+    }
+
+    private GitHubClientService.ReviewCommentRequest comment(String filePath, int line) {
+        return GitHubClientService.ReviewCommentRequest.builder()
+            .filePath(filePath)
+            .lineNumber(line)
+            .severity("warning")
+            .category("bug")
+            .message("finding on line " + line)
+            .build();
+    }
+
+    private GHPullRequestReviewBuilder reviewBuilder() {
+        return mock(GHPullRequestReviewBuilder.class, RETURNS_SELF);
+    }
+
+    private String body(GHPullRequestReviewBuilder builder) {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(builder).body(captor.capture());
+        return captor.getValue();
+    }
+
+    private GHCompare.Commit commit(String... parents) {
+        GHCompare.Commit commit = mock(GHCompare.Commit.class);
+        when(commit.getParentSHA1s()).thenReturn(List.of(parents));
+        return commit;
+    }
+}
@@ -0,0 +1,190 @@
+package com.codereview.assistant.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LlmCallExecutor 테스트")
+class LlmCallExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("5xx 오류는 재시도 후 성공")
+    void execute_RetriesServerErrors() {
+        // Given
+        LlmCallExecutor executor = executor(Duration.ofSeconds(5), false);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        String result = executor.execute(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+            }
+            return "ok";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("llm.call.attempts").tag("outcome", "retryable_error").timer().count())
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("인증 오류 등 4xx는 재시도하지 않음")
+    void execute_DoesNotRetryClientErrors() {
+        // Given
+        LlmCallExecutor executor = executor(Duration.ofSeconds(5), false);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When / Then
+        assertThatThrownBy(() -> executor.execute(() -> {
+            calls.incrementAndGet();
+            throw new HttpClientErrorException(HttpStatus.UNAUTHORIZED);
+        })).isInstanceOf(HttpClientErrorException.class);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시도 타임아웃을 넘기면 ResourceAccessException")
+    void execute_TimesOutSlowAttempts() {
+        // Given
+        LlmCallExecutor executor = executor(Duration.ofMillis(50), false);
+
+        // When / Then
+        assertThatThrownBy(() -> executor.execute(() -> {
+            Thread.sleep(5_000);
+            return "late";
+        })).isInstanceOf(ResourceAccessException.class);
+    }
+
+    @Test
+    @DisplayName("p95 지연을 넘기면 헤지 요청을 보내고 먼저 끝난 응답을 사용")
+    void execute_HedgesSlowRequests() {
+        // Given - 빠른 응답으로 지연 표본을 채움
+        LlmCallExecutor executor = executor(Duration.ofSeconds(5), true);
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> "warmup");
+        }
+        AtomicInteger calls = new AtomicInteger();
+
+        // When - 첫 요청만 느림
+        String result = executor.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                Thread.sleep(5_000);
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("hedge");
+        assertThat(meterRegistry.get("llm.call.hedges").tag("result", "won").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청을 보내기 전 허가 대기 시간은 시도 타임아웃에 포함하지 않음")
+    void execute_DeadlineStartsWhenSent() {
+        // Given
+        LlmCallExecutor executor = executor(Duration.ofMillis(100), false);
+
+        // When - 타임아웃보다 오래 허가를 기다린 뒤 바로 응답
+        String result = executor.execute(attempt -> {
+            Thread.sleep(300);
+            attempt.markSent();
+            return "ok";
+        }, false);
+
+        // Then
+        assertThat(result).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("타임아웃으로 포기한 시도는 등록된 정리 작업을 실행")
+    void execute_RunsAbandonActionsOnTimeout() throws Exception {
+        // Given
+        LlmCallExecutor executor = executor(Duration.ofMillis(50), false);
+        CountDownLatch released = new CountDownLatch(3);
+
+        // When / Then
+        assertThatThrownBy(() -> executor.execute(attempt -> {
+            attempt.onAbandon(released::countDown);
+            attempt.markSent();
+            Thread.sleep(5_000);
+            return "late";
+        }, false)).isInstanceOf(ResourceAccessException.class);
+        assertThat(released.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("포기한 시도는 이후 결과를 내보내지 않음")
+    void execute_AbandonedAttemptStopsPublishing() throws Exception {
+        // Given
+        LlmCallExecutor executor = executor(Duration.ofMillis(50), false);
+        List<String> published = new CopyOnWriteArrayList<>();
+        CountDownLatch finished = new CountDownLatch(3);
+
+        // When - 타임아웃 뒤에도 계속 읽히는 스트림
+        assertThatThrownBy(() -> executor.execute(attempt -> {
+            attempt.markSent();
+            attempt.whileActive(() -> published.add("before"));
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                // 블로킹 읽기는 인터럽트를 무시
+            }
+            attempt.whileActive(() -> published.add("after"));
+            finished.countDown();
+            return "late";
+        }, false)).isInstanceOf(ResourceAccessException.class);
+
+        // Then
+        assertThat(finished.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(published).containsOnly("before");
+    }
+
+    @Test
+    @DisplayName("헤지가 물러나면 주 요청의 응답을 기다림")
+    void execute_IgnoresSkippedHedge() {
+        // Given
+        LlmCallExecutor executor = executor(Duration.ofSeconds(5), true);
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> "warmup");
+        }
+
+        // When - 헤지에 쓸 허가가 없음
+        String result = executor.execute(attempt -> {
+            if (attempt.isHedge()) {
+                throw new LlmCallExecutor.AttemptSkippedException("no capacity");
+            }
+            attempt.markSent();
+            Thread.sleep(200);
+            return "primary";
+        }, true);
+
+        // Then
+        assertThat(result).isEqualTo("primary");
+        assertThat(meterRegistry.get("llm.call.attempts").tag("outcome", "skipped").timer().count()).isEqualTo(1);
+    }
+
+    private LlmCallExecutor executor(Duration attemptTimeout, boolean hedge) {
+        return new LlmCallExecutor(new SimpleAsyncTaskExecutor("test-llm-"), meterRegistry,
+            3, Duration.ofMillis(1), Duration.ofMillis(5), attemptTimeout, hedge, 5, Duration.ofMillis(20));
+    }
+}
@@ -0,0 +1,142 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.dto.CodeReviewResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LlmResultCache 테스트")
+class LlmResultCacheTest {
+
+    @Mock
+    private ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("같은 입력이면 같은 키, 필드 경계가 다르면 다른 키")
+    void buildKey_SeparatesFieldBoundaries() {
+        // Given
+        LlmResultCache cache = cache(false);
+
+        // When
+        String key = cache.buildKey("diff", "java", "v1", "rules", "gpt-4o-mini");
+
+        // Then
+        assertThat(key).hasSize(64)
+            .isEqualTo(cache.buildKey("diff", "java", "v1", "rules", "gpt-4o-mini"));
+        assertThat(cache.buildKey("ab", "c", "v1", "", "gpt-4o-mini"))
+            .isNotEqualTo(cache.buildKey("a", "bc", "v1", "", "gpt-4o-mini"));
+        assertThat(cache.buildKey("diff", "java", "v1", "rules", "gpt-4o"))
+            .isNotEqualTo(key);
+        assertThat(cache.buildKey("diff", "java", "v1", null, "gpt-4o-mini"))
+            .isEqualTo(cache.buildKey("diff", "java", "v1", "", "gpt-4o-mini"));
+    }
+
+    @Test
+    @DisplayName("히트 시 모델과 코멘트는 유지하고 토큰 수만 0")
+    void get_CopiesModelAndClearsTokens() {
+        // Given
+        LlmResultCache cache = cache(false);
+        CodeReviewResult stored = result();
+        cache.put("key", stored);
+
+        // When
+        CodeReviewResult hit = cache.get("key").orElseThrow();
+
+        // Then
+        assertThat(hit).isNotSameAs(stored);
+        assertThat(hit.getModel()).isEqualTo("gpt-4o");
+        assertThat(hit.getSummary()).isEqualTo("summary");
+        assertThat(hit.getComments()).hasSize(1).isNotSameAs(stored.getComments());
+        assertThat(hit.getTokensUsed()).isZero();
+        assertThat(hit.getPromptTokens()).isZero();
+        assertThat(hit.getCompletionTokens()).isZero();
+        assertThat(stored.getTokensUsed()).isEqualTo(1500);
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 없으면 Redis에서 읽어 로컬에도 저장")
+    void get_FallsBackToRedis() throws Exception {
+        // Given
+        LlmResultCache cache = cache(true);
+        when(redisTemplateProvider.getIfAvailable()).thenReturn(redisTemplate);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("llm-review:key")).thenReturn(objectMapper.writeValueAsString(result()));
+
+        // When
+        Optional<CodeReviewResult> first = cache.get("key");
+        Optional<CodeReviewResult> second = cache.get("key");
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(first.get().getModel()).isEqualTo("gpt-4o");
+        assertThat(first.get().getTokensUsed()).isZero();
+        assertThat(second).isPresent();
+        verify(valueOperations, times(1)).get("llm-review:key");
+        assertThat(meterRegistry.get("llm.cache.requests").tag("tier", "redis").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("llm.cache.requests").tag("tier", "local").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 장애는 캐시 미스로 처리하고 쓰기 실패도 무시")
+    void redisFailure_IsTreatedAsMiss() {
+        // Given
+        LlmResultCache cache = cache(true);
+        when(redisTemplateProvider.getIfAvailable()).thenReturn(redisTemplate);
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+
+        // When
+        Optional<CodeReviewResult> miss = cache.get("key");
+        cache.put("key", result());
+
+        // Then - 로컬 캐시에는 저장됨
+        assertThat(miss).isEmpty();
+        assertThat(cache.get("key")).isPresent();
+    }
+
+    private LlmResultCache cache(boolean redisEnabled) {
+        return new LlmResultCache(objectMapper, redisTemplateProvider, meterRegistry,
+            true, 100, Duration.ofHours(1), redisEnabled);
+    }
+
+    private CodeReviewResult result() {
+        return CodeReviewResult.builder()
+            .comments(List.of(CodeReviewResult.ReviewComment.builder()
+                .filePath("A.java")
+                .lineNumber(3)
+                .severity("warning")
+                .category("bug")
+                .message("possible NPE")
+                .build()))
+            .summary("summary")
+            .model("gpt-4o")
+            .tokensUsed(1500)
+            .promptTokens(1200)
+            .completionTokens(300)
+            .build();
+    }
+}
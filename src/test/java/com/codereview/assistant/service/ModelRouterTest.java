@@ -0,0 +1,86 @@
+package com.codereview.assistant.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ModelRouter 테스트")
+class ModelRouterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ModelRouter modelRouter = new ModelRouter(meterRegistry, true,
+        "default-model", "cheap-model", "strong-model", 500,
+        List.of("**/security/**", "**/*.sql"), List.of("C++"));
+
+    @Test
+    @DisplayName("보안 민감 경로가 포함되면 strong 모델")
+    void route_SecurityPathUsesStrongModel() {
+        // When
+        ModelRouter.Route route = modelRouter.route(diff("src/main/java/com/app/security/JwtFilter.java"),
+            "Java", 0, 100);
+
+        // Then
+        assertThat(route.model()).isEqualTo("strong-model");
+        assertThat(route.reason()).isEqualTo(ModelRouter.REASON_SECURITY_PATH);
+    }
+
+    @Test
+    @DisplayName("지정한 언어는 strong 모델")
+    void route_StrongLanguage() {
+        assertThat(modelRouter.route(diff("src/main.cpp"), "c++", 0, 100).model()).isEqualTo("strong-model");
+    }
+
+    @Test
+    @DisplayName("작은 청크이고 커스텀 규칙이 없으면 cheap 모델, 아니면 default 모델")
+    void route_SmallChunkUsesCheapModel() {
+        String chunk = diff("src/main/java/App.java");
+
+        assertThat(modelRouter.route(chunk, "Java", 0, 100).model()).isEqualTo("cheap-model");
+        assertThat(modelRouter.route(chunk, "Java", 2, 100).model()).isEqualTo("default-model");
+        assertThat(modelRouter.route(chunk, "Java", 0, 2_000).model()).isEqualTo("default-model");
+    }
+
+    @Test
+    @DisplayName("삭제된 파일은 이전 경로로 판단하고 hunk 안의 '---' 줄은 무시")
+    void changedPaths_ReadsOnlyFileHeaders() {
+        String chunk = """
+            diff --git a/db/V1.sql b/db/V1.sql
+            --- a/db/V1.sql
+            +++ /dev/null
+            @@ -1,2 +0,0 @@
+            --- comment
+            -CREATE TABLE t;
+            """;
+
+        assertThat(ModelRouter.changedPaths(chunk)).containsExactly("db/V1.sql");
+        assertThat(modelRouter.route(chunk, "SQL", 0, 10).reason()).isEqualTo(ModelRouter.REASON_SECURITY_PATH);
+    }
+
+    @Test
+    @DisplayName("라우팅별 지연과 토큰 수를 기록")
+    void record_TagsModelAndReason() {
+        // When
+        modelRouter.record(new ModelRouter.Route("cheap-model", ModelRouter.REASON_SMALL_DIFF),
+            Duration.ofMillis(250), 420);
+
+        // Then
+        assertThat(meterRegistry.get("llm.route").tag("model", "cheap-model").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("llm.route.tokens").tag("reason", "small-diff").summary().totalAmount())
+            .isEqualTo(420);
+    }
+
+    private String diff(String path) {
+        return "diff --git a/" + path + " b/" + path + "\n"
+            + "--- a/" + path + "\n"
+            + "+++ b/" + path + "\n"
+            + "@@ -1 +1 @@\n"
+            + "-old\n"
+            + "+new\n";
+    }
+}
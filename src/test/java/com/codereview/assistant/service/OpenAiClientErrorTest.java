@@ -0,0 +1,135 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.config.OpenAiConfig;
+import com.codereview.assistant.loadtest.StubServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.openai.OpenAiChatClient;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * OpenAiConfig가 만든 실제 OpenAI 클라이언트를 부하 테스트 스텁 서버에 붙여 오류 분류를 확인합니다
+ */
+@DisplayName("OpenAI 클라이언트 오류 처리 테스트")
+class OpenAiClientErrorTest {
+
+    private StubServer stub;
+
+    @AfterEach
+    void tearDown() {
+        if (stub != null) {
+            stub.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("429는 한 번만 호출하고 상태와 Retry-After를 제한기에 전달")
+    void call_RateLimited() throws Exception {
+        // Given - 모든 요청에 429, retry-after: 7
+        OpenAiChatClient client = client(0.0, 1.0);
+        OpenAiRateLimiter limiter = limiter();
+        OpenAiRateLimiter.Permit permit = limiter.acquire("repo", 100);
+
+        // When
+        Throwable error = catchThrowable(() -> client.call(new Prompt("review")));
+        limiter.onError(permit, error);
+
+        // Then - Spring AI 내부 재시도 없이 바로 실패
+        assertThat(error).isInstanceOf(HttpClientErrorException.TooManyRequests.class);
+        assertThat(stub.stats().get("llmCalls")).isEqualTo(1);
+        assertThat(LlmCallExecutor.isRetryable(error)).isTrue();
+        assertThat(OpenAiErrors.retryAfter(error)).isEqualTo(Duration.ofSeconds(7));
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(2);
+        assertThat(limiter.tryAcquire("repo", 100)).isNull();
+    }
+
+    @Test
+    @DisplayName("5xx는 한 번만 호출하고 재시도 대상으로 분류, 제한기는 멈추지 않음")
+    void call_ServerError() throws Exception {
+        // Given
+        OpenAiChatClient client = client(1.0, 0.0);
+        OpenAiRateLimiter limiter = limiter();
+        OpenAiRateLimiter.Permit permit = limiter.acquire("repo", 100);
+
+        // When
+        Throwable error = catchThrowable(() -> client.call(new Prompt("review")));
+        limiter.onError(permit, error);
+
+        // Then
+        assertThat(error).isInstanceOf(HttpServerErrorException.class);
+        assertThat(stub.stats().get("llmCalls")).isEqualTo(1);
+        assertThat(LlmCallExecutor.isRetryable(error)).isTrue();
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(4);
+        assertThat(limiter.tryAcquire("repo", 100)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("스트리밍 429도 상태 코드와 Retry-After로 분류")
+    void stream_RateLimited() throws Exception {
+        // Given
+        OpenAiChatClient client = client(0.0, 1.0);
+
+        // When
+        Throwable error = catchThrowable(() -> {
+            try (Stream<ChatResponse> chunks = client.stream(new Prompt("review")).toStream()) {
+                chunks.forEach(chunk -> { });
+            }
+        });
+
+        // Then
+        assertThat(OpenAiErrors.statusOf(error)).isEqualTo(429);
+        assertThat(OpenAiErrors.retryAfter(error)).isEqualTo(Duration.ofSeconds(7));
+        assertThat(stub.stats().get("llmCalls")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정상 응답은 그대로 반환")
+    void call_Success() throws Exception {
+        // Given
+        OpenAiChatClient client = client(0.0, 0.0);
+
+        // When
+        ChatResponse response = client.call(new Prompt("review"));
+
+        // Then
+        assertThat(response.getResult().getOutput().getContent()).contains("comments");
+    }
+
+    @Test
+    @DisplayName("Spring AI 오류 메시지와 OpenAI reset 헤더 형식 파싱")
+    void parsesStatusMessageAndResetHeaders() {
+        assertThat(OpenAiErrors.statusOf(new RuntimeException("429 - {\"error\":{}}"))).isEqualTo(429);
+        assertThat(OpenAiErrors.statusOf(new IllegalStateException("LLM stream failed after 3 comments"))).isNull();
+        assertThat(OpenAiErrors.parseReset("6m0s")).isEqualTo(Duration.ofMinutes(6));
+        assertThat(OpenAiErrors.parseReset("20ms")).isEqualTo(Duration.ofMillis(20));
+        assertThat(OpenAiErrors.parseReset("1h2m3.5s")).isEqualTo(Duration.ofMillis(3_723_500));
+        assertThat(OpenAiErrors.parseReset("soon")).isNull();
+    }
+
+    private OpenAiChatClient client(double errorRate, double rateLimitRate) throws Exception {
+        stub = new StubServer(new StubServer.Config(0, 0, 0, 0.0, 0, 20, errorRate, rateLimitRate, 7,
+            0, 1, 10, 1));
+        stub.start();
+
+        OpenAiConfig config = new OpenAiConfig();
+        ReflectionTestUtils.setField(config, "apiKey", "sk-test");
+        return config.openAiChatClient(RestClient.builder(), stub.baseUrl() + "/openai", "gpt-4o-mini", 0.3f);
+    }
+
+    private OpenAiRateLimiter limiter() {
+        return new OpenAiRateLimiter(1_000, 1_000_000, 4, 1, 16, Duration.ZERO, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,150 @@
+package com.codereview.assistant.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OpenAiRateLimiter 테스트")
+class OpenAiRateLimiterTest {
+
+    @Test
+    @DisplayName("429를 받으면 동시성 한도를 절반으로 줄이고 성공 시 다시 늘림")
+    void onRateLimited_HalvesConcurrency() {
+        // Given
+        OpenAiRateLimiter limiter = limiter(8, 16);
+
+        // When
+        limiter.onRateLimited(limiter.acquire("repo", 100), Duration.ZERO);
+
+        // Then
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(4);
+
+        // When - 성공할 때마다 1/한도씩 증가
+        for (int i = 0; i < 5; i++) {
+            limiter.onSuccess(limiter.acquire("repo", 100), 100, null);
+        }
+
+        // Then
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("대기 중인 호출은 저장소 간 라운드로빈으로 허가됨")
+    void acquire_RoundRobinAcrossRepositories() throws Exception {
+        // Given - 동시성 1, 첫 호출이 허가를 점유
+        OpenAiRateLimiter limiter = limiter(1, 1);
+        OpenAiRateLimiter.Permit first = limiter.acquire("big", 100);
+
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        startWaiter(limiter, "big", "big-1", order, done);
+        awaitWaiting(limiter, 1);
+        startWaiter(limiter, "big", "big-2", order, done);
+        awaitWaiting(limiter, 2);
+        startWaiter(limiter, "small", "small-1", order, done);
+        awaitWaiting(limiter, 3);
+
+        // When
+        limiter.onSuccess(first, 100, null);
+
+        // Then - 큰 저장소의 두 번째 호출보다 다른 저장소가 먼저 처리됨
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).containsExactly("big-1", "small-1", "big-2");
+    }
+
+    @Test
+    @DisplayName("여유가 없으면 tryAcquire는 기다리지 않고 null")
+    void tryAcquire_ReturnsNullWithoutCapacity() {
+        // Given
+        OpenAiRateLimiter limiter = limiter(1, 1);
+        OpenAiRateLimiter.Permit first = limiter.acquire("repo", 100);
+
+        // When / Then
+        assertThat(limiter.tryAcquire("repo", 100)).isNull();
+
+        limiter.onSuccess(first, 100, null);
+        assertThat(limiter.tryAcquire("repo", 100)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("포기한 시도의 허가는 한 번만 반환됨")
+    void onAbandoned_ReleasesPermitOnce() {
+        // Given
+        OpenAiRateLimiter limiter = limiter(1, 1);
+        OpenAiRateLimiter.Permit abandoned = limiter.acquire("repo", 100);
+
+        // When - 포기 후 늦게 끝난 호출이 다시 반환
+        limiter.onAbandoned(abandoned);
+        OpenAiRateLimiter.Permit next = limiter.tryAcquire("repo", 100);
+        limiter.onFailure(abandoned);
+
+        // Then - 늦은 반환이 다음 호출의 자리를 비우지 않음
+        assertThat(next).isNotNull();
+        assertThat(limiter.tryAcquire("repo", 100)).isNull();
+    }
+
+    @Test
+    @DisplayName("Retry-After 헤더를 초 단위로 해석")
+    void parseRetryAfter() {
+        assertThat(OpenAiRateLimiter.parseRetryAfter("20")).isEqualTo(Duration.ofSeconds(20));
+        assertThat(OpenAiRateLimiter.parseRetryAfter(" 0 ")).isEqualTo(Duration.ZERO);
+        assertThat(OpenAiRateLimiter.parseRetryAfter("-5")).isNull();
+        assertThat(OpenAiRateLimiter.parseRetryAfter("soon")).isNull();
+        assertThat(OpenAiRateLimiter.parseRetryAfter(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Retry-After HTTP-date는 현재 시각부터 남은 시간으로 해석")
+    void parseRetryAfter_HttpDate() {
+        // Given
+        Instant now = Instant.parse("2015-10-21T07:27:30Z");
+
+        // When / Then - IMF-fixdate, RFC 850, asctime
+        assertThat(OpenAiRateLimiter.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT", now))
+            .isEqualTo(Duration.ofSeconds(30));
+        assertThat(OpenAiRateLimiter.parseRetryAfter("Wednesday, 21-Oct-15 07:28:00 GMT", now))
+            .isEqualTo(Duration.ofSeconds(30));
+        assertThat(OpenAiRateLimiter.parseRetryAfter("Wed Oct 21 07:28:00 2015", now))
+            .isEqualTo(Duration.ofSeconds(30));
+        assertThat(OpenAiRateLimiter.parseRetryAfter("Wed Oct  7 07:28:00 2015", now))
+            .isEqualTo(Duration.ZERO);
+
+        // 이미 지난 시각이면 바로 재시도
+        assertThat(OpenAiRateLimiter.parseRetryAfter("Wed, 21 Oct 2015 07:00:00 GMT", now))
+            .isEqualTo(Duration.ZERO);
+    }
+
+    private OpenAiRateLimiter limiter(int initialConcurrency, int maxConcurrency) {
+        return new OpenAiRateLimiter(1_000, 1_000_000, initialConcurrency, 1, maxConcurrency,
+            Duration.ZERO, new SimpleMeterRegistry());
+    }
+
+    private void startWaiter(OpenAiRateLimiter limiter, String repository, String name,
+                             List<String> order, CountDownLatch done) {
+        Thread thread = new Thread(() -> {
+            OpenAiRateLimiter.Permit permit = limiter.acquire(repository, 100);
+            order.add(name);
+            limiter.onSuccess(permit, 100, null);
+            done.countDown();
+        });
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void awaitWaiting(OpenAiRateLimiter limiter, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (limiter.getWaiting() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(limiter.getWaiting()).isEqualTo(expected);
+    }
+}
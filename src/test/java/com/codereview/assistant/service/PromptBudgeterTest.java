@@ -0,0 +1,99 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.diff.DiffModel;
+import com.codereview.assistant.diff.SkipFileClassifier;
+import com.codereview.assistant.diff.UnifiedDiffParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PromptBudgeter 테스트")
+class PromptBudgeterTest {
+
+    private static final String MODEL = "gpt-4o-mini";
+
+    private final TokenCounter tokenCounter = new TokenCounter(new SimpleMeterRegistry());
+    private final PromptBudgeter promptBudgeter = new PromptBudgeter(tokenCounter);
+    private final UnifiedDiffParser parser = new UnifiedDiffParser();
+
+    private static final String DIFF = """
+        diff --git a/App.java b/App.java
+        --- a/App.java
+        +++ b/App.java
+        @@ -1,5 +1,5 @@
+         public class App {
+             private final String name;
+        -    private int count;
+        +    private long count;
+         }
+        """;
+
+    @Test
+    @DisplayName("예산이 충분하면 변경 줄, 문맥 줄, 커스텀 규칙을 모두 포함")
+    void allocate_IncludesEverythingWithinBudget() {
+        // When
+        PromptBudgeter.Allocation allocation = promptBudgeter.allocate(parse(DIFF),
+            SkipFileClassifier.defaults(), "\n규칙: long 사용 금지", 1_000, 1, MODEL);
+
+        // Then
+        assertThat(allocation.getDiff()).contains("+    private long count;").contains(" public class App {");
+        assertThat(allocation.getCustomPrompt()).contains("long 사용 금지");
+        assertThat(allocation.getChunkTokens()).isLessThan(1_000);
+    }
+
+    @Test
+    @DisplayName("예산이 부족하면 문맥 줄보다 변경 줄을 먼저 채움")
+    void allocate_PrioritizesChangedLinesOverContext() {
+        // Given - 변경 줄만 들어갈 만큼의 예산
+        DiffModel diff = parse(DIFF);
+        int changedOnly = promptBudgeter.allocate(diff, SkipFileClassifier.defaults(), "", 1_000, 1, MODEL)
+            .getDiffTokens()
+            - tokenCounter.count(" public class App {\n", MODEL)
+            - tokenCounter.count("     private final String name;\n", MODEL)
+            - tokenCounter.count(" }\n", MODEL);
+
+        // When
+        PromptBudgeter.Allocation allocation = promptBudgeter.allocate(diff,
+            SkipFileClassifier.defaults(), "\n규칙: long 사용 금지", changedOnly + 2, 1, MODEL);
+
+        // Then
+        assertThat(allocation.getDiff()).contains("-    private int count;").contains("+    private long count;");
+        assertThat(allocation.getDiff()).doesNotContain("public class App {");
+        assertThat(allocation.getCustomPrompt()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경 줄만으로도 예산을 넘으면 줄 단위로 잘라냄")
+    void allocate_TruncatesChangedLines() {
+        // When
+        PromptBudgeter.Allocation allocation = promptBudgeter.allocate(parse(DIFF),
+            SkipFileClassifier.defaults(), "", 30, 1, MODEL);
+
+        // Then
+        assertThat(allocation.getDiff()).contains("diff --git a/App.java b/App.java").contains("(truncated");
+        assertThat(allocation.getDiff()).doesNotContain("+    private long count;");
+    }
+
+    @Test
+    @DisplayName("이전 경로가 없는 파일도 헤더에 현재 경로를 사용")
+    void allocate_UsesPathWhenOldPathMissing() {
+        // Given - API의 파일별 patch에는 이전 경로가 없음
+        DiffModel diff = new DiffModel(List.of(
+            parser.parsePatch(null, "App.java", "@@ -1,1 +1,1 @@\n-int count;\n+long count;\n")));
+
+        // When
+        PromptBudgeter.Allocation allocation = promptBudgeter.allocate(diff,
+            SkipFileClassifier.defaults(), "", 1_000, 1, MODEL);
+
+        // Then
+        assertThat(allocation.getDiff()).contains("--- a/App.java").doesNotContain("null");
+    }
+
+    private DiffModel parse(String diff) {
+        return parser.parse(diff);
+    }
+}
@@ -0,0 +1,222 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.domain.PullRequest;
+import com.codereview.assistant.domain.Repository;
+import com.codereview.assistant.domain.Review;
+import com.codereview.assistant.repository.CommentRepository;
+import com.codereview.assistant.repository.PullRequestRepository;
+import com.codereview.assistant.repository.ReviewRepository;
+import com.codereview.assistant.repository.ReviewStageTimingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReviewCoalescingService 테스트")
+class ReviewCoalescingServiceTest {
+
+    @Mock
+    private PullRequestRepository pullRequestRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ReviewStageTimingRepository reviewStageTimingRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ReviewCoalescingService reviewCoalescingService;
+
+    private PullRequest testPullRequest;
+
+    @BeforeEach
+    void setUp() {
+        Repository testRepository = Repository.builder()
+            .id(1L)
+            .githubId(12345L)
+            .owner("testowner")
+            .name("testrepo")
+            .build();
+
+        testPullRequest = PullRequest.builder()
+            .id(10L)
+            .repository(testRepository)
+            .prNumber(7)
+            .title("Test PR")
+            .author("testuser")
+            .headSha("sha-2")
+            .build();
+        lenient().when(pullRequestRepository.findForUpdateById(10L)).thenReturn(Optional.of(testPullRequest));
+    }
+
+    @Test
+    @DisplayName("새 커밋 등록 시 이전 커밋 리뷰를 superseded 처리하고 대기 리뷰 생성")
+    void registerPending_SupersedesOlderReviews() {
+        // Given
+        when(reviewRepository.markSuperseded(eq(10L), eq("sha-2"), anyCollection())).thenReturn(1);
+        when(reviewRepository.findByPullRequestIdAndCommitSha(10L, "sha-2")).thenReturn(Optional.empty());
+        when(reviewRepository.save(any(Review.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Optional<Review> result = reviewCoalescingService.registerPending(testPullRequest, "sha-2");
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getCommitSha()).isEqualTo("sha-2");
+        assertThat(result.get().getReviewStatus()).isEqualTo("pending");
+        verify(reviewRepository).markSuperseded(eq(10L), eq("sha-2"), anyCollection());
+        verify(eventPublisher).publishEvent(new ReviewStatusChangedEvent(null, 10L, "sha-2", "pending"));
+    }
+
+    @Test
+    @DisplayName("같은 커밋이 이미 진행 중이면 다시 큐에 넣지 않음")
+    void registerPending_SkipsDuplicateHead() {
+        // Given
+        Review inProgress = Review.builder()
+            .id(3L)
+            .pullRequest(testPullRequest)
+            .commitSha("sha-2")
+            .reviewStatus("in_progress")
+            .build();
+        when(reviewRepository.findByPullRequestIdAndCommitSha(10L, "sha-2")).thenReturn(Optional.of(inProgress));
+
+        // When
+        Optional<Review> result = reviewCoalescingService.registerPending(testPullRequest, "sha-2");
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(reviewRepository, never()).save(any(Review.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("같은 커밋이 이미 완료되었으면 다시 리뷰하지 않음")
+    void registerPending_SkipsCompletedHead() {
+        // Given
+        Review completed = Review.builder()
+            .id(3L)
+            .pullRequest(testPullRequest)
+            .commitSha("sha-2")
+            .reviewStatus("completed")
+            .build();
+        when(reviewRepository.findByPullRequestIdAndCommitSha(10L, "sha-2")).thenReturn(Optional.of(completed));
+
+        // When
+        Optional<Review> result = reviewCoalescingService.registerPending(testPullRequest, "sha-2");
+
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(completed.getReviewStatus()).isEqualTo("completed");
+        verify(reviewRepository, never()).save(any(Review.class));
+        verifyNoInteractions(commentRepository, reviewStageTimingRepository);
+    }
+
+    @Test
+    @DisplayName("실패한 리뷰는 남은 코멘트와 단계 기록을 지우고 다시 대기 상태로 등록")
+    void registerPending_RequeuesFailedReview() {
+        // Given
+        Review failed = Review.builder()
+            .id(3L)
+            .pullRequest(testPullRequest)
+            .commitSha("sha-2")
+            .reviewStatus("failed")
+            .errorMessage("timeout")
+            .build();
+        when(reviewRepository.findByPullRequestIdAndCommitSha(10L, "sha-2")).thenReturn(Optional.of(failed));
+        when(commentRepository.deleteByReviewId(3L)).thenReturn(2);
+        when(reviewRepository.save(any(Review.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Optional<Review> result = reviewCoalescingService.registerPending(testPullRequest, "sha-2");
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getReviewStatus()).isEqualTo("pending");
+        assertThat(result.get().getErrorMessage()).isNull();
+        verify(commentRepository).deleteByReviewId(3L);
+        verify(reviewStageTimingRepository).deleteByReviewId(3L);
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이전 커밋의 이벤트는 최신 리뷰를 superseded 처리하지 않고 무시")
+    void registerPending_IgnoresStaleHead() {
+        // When
+        Optional<Review> result = reviewCoalescingService.registerPending(testPullRequest, "sha-1");
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(reviewRepository, never()).markSuperseded(any(), any(), anyCollection());
+        verify(reviewRepository, never()).save(any(Review.class));
+        verifyNoInteractions(commentRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("superseded된 리뷰는 같은 커밋이 다시 들어와도 재등록하지 않음")
+    void registerPending_DoesNotRequeueSuperseded() {
+        // Given
+        Review superseded = Review.builder()
+            .id(3L)
+            .pullRequest(testPullRequest)
+            .commitSha("sha-2")
+            .reviewStatus("superseded")
+            .build();
+        when(reviewRepository.findByPullRequestIdAndCommitSha(10L, "sha-2")).thenReturn(Optional.of(superseded));
+
+        // When
+        Optional<Review> result = reviewCoalescingService.registerPending(testPullRequest, "sha-2");
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(reviewRepository, never()).save(any(Review.class));
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    @DisplayName("DB에 커밋된 상태로 superseded 여부 판정")
+    void isSuperseded_ReadsCommittedStatus() {
+        // Given
+        Review review = Review.builder().id(3L).commitSha("sha-1").build();
+        when(reviewRepository.findStatusById(3L)).thenReturn(Optional.of("superseded"));
+
+        // When & Then
+        assertThat(reviewCoalescingService.isSuperseded(review)).isTrue();
+    }
+
+    @Test
+    @DisplayName("큐에 넣지 못한 리뷰는 대기 중일 때만 failed로 전환하고 이벤트 발행")
+    void markNotQueued_OnlyFailsPendingReview() {
+        // Given
+        Review pending = Review.builder().id(3L).commitSha("sha-2").reviewStatus("pending").build();
+        Review taken = Review.builder().id(4L).commitSha("sha-2").reviewStatus("pending").build();
+        when(reviewRepository.markFailedIfPending(3L, "full")).thenReturn(1);
+        when(reviewRepository.markFailedIfPending(4L, "full")).thenReturn(0);
+
+        // When
+        reviewCoalescingService.markNotQueued(pending, "full");
+        reviewCoalescingService.markNotQueued(taken, "full");
+
+        // Then - 이미 워커가 가져간 리뷰는 그대로
+        assertThat(pending.getReviewStatus()).isEqualTo("failed");
+        assertThat(taken.getReviewStatus()).isEqualTo("pending");
+        verify(eventPublisher, times(1)).publishEvent(any(ReviewStatusChangedEvent.class));
+    }
+}
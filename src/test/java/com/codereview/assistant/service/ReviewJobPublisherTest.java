@@ -0,0 +1,139 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.config.RabbitMQConfig;
+import com.codereview.assistant.domain.PullRequest;
+import com.codereview.assistant.domain.Repository;
+import com.codereview.assistant.domain.Review;
+import com.codereview.assistant.dto.ReviewJobMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.ConnectException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReviewJobPublisher 테스트")
+class ReviewJobPublisherTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private ReviewJobListener reviewJobListener;
+
+    @Mock
+    private ReviewCoalescingService reviewCoalescingService;
+
+    @InjectMocks
+    private ReviewJobPublisher reviewJobPublisher;
+
+    private PullRequest pullRequest;
+    private Review review;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reviewJobPublisher, "queueEnabled", true);
+        pullRequest = PullRequest.builder()
+            .id(2L)
+            .prNumber(7)
+            .repository(Repository.builder().id(1L).build())
+            .build();
+        review = Review.builder().id(5L).build();
+        when(reviewCoalescingService.registerPending(pullRequest, "abc123"))
+            .thenReturn(Optional.of(review));
+    }
+
+    @Test
+    @DisplayName("브로커가 확인(ack)하면 로컬 실행기로 보내지 않음")
+    void publish_AckedJobStaysOnQueue() {
+        // When
+        reviewJobPublisher.publish(pullRequest, "abc123");
+        sentCorrelation().getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        // Then
+        verify(reviewJobListener, never()).handleReviewJobAsync(any());
+    }
+
+    @Test
+    @DisplayName("브로커가 거부(nack)하면 로컬 실행기로 보내지 않고 대기 리뷰를 failed로 돌림")
+    void publish_NackedJobIsMarkedNotQueued() {
+        // When
+        reviewJobPublisher.publish(pullRequest, "abc123");
+        sentCorrelation().getFuture().complete(new CorrelationData.Confirm(false, "queue full"));
+
+        // Then - 이미 전달되었을 수 있으므로 중복 실행하지 않음
+        verify(reviewJobListener, never()).handleReviewJobAsync(any());
+        verify(reviewCoalescingService).markNotQueued(eq(review), any());
+    }
+
+    @Test
+    @DisplayName("라우팅되지 않아 반환된 작업도 로컬 실행기로 보내지 않음")
+    void publish_ReturnedJobIsMarkedNotQueued() {
+        // When
+        reviewJobPublisher.publish(pullRequest, "abc123");
+        CorrelationData correlation = sentCorrelation();
+        correlation.setReturned(new ReturnedMessage(new Message(new byte[0], new MessageProperties()),
+            312, "NO_ROUTE", RabbitMQConfig.REVIEW_EXCHANGE, RabbitMQConfig.REVIEW_ROUTING_KEY));
+        correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        // Then
+        verify(reviewJobListener, never()).handleReviewJobAsync(any());
+        verify(reviewCoalescingService).markNotQueued(eq(review), any());
+    }
+
+    @Test
+    @DisplayName("브로커에 연결하지 못하면 로컬 실행기로 대체")
+    void publish_FallsBackWhenBrokerUnreachable() {
+        // Given
+        doThrow(new AmqpConnectException(new ConnectException("refused")))
+            .when(rabbitTemplate).convertAndSend(any(String.class), any(String.class), any(Object.class),
+                any(CorrelationData.class));
+
+        // When
+        reviewJobPublisher.publish(pullRequest, "abc123");
+
+        // Then
+        verify(reviewJobListener).handleReviewJobAsync(any(ReviewJobMessage.class));
+        verify(reviewCoalescingService, never()).markNotQueued(any(), any());
+    }
+
+    @Test
+    @DisplayName("로컬 실행기가 가득 차면 리뷰를 failed로 돌리고 거부를 호출자에게 전달")
+    void publish_RejectsWhenLocalExecutorFull() {
+        // Given
+        ReflectionTestUtils.setField(reviewJobPublisher, "queueEnabled", false);
+        doThrow(new TaskRejectedException("full"))
+            .when(reviewJobListener).handleReviewJobAsync(any(ReviewJobMessage.class));
+
+        // When & Then
+        assertThatThrownBy(() -> reviewJobPublisher.publish(pullRequest, "abc123"))
+            .isInstanceOf(TaskRejectedException.class);
+        verify(reviewCoalescingService).markNotQueued(eq(review), any());
+    }
+
+    private CorrelationData sentCorrelation() {
+        ArgumentCaptor<CorrelationData> captor = ArgumentCaptor.forClass(CorrelationData.class);
+        verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.REVIEW_EXCHANGE), eq(RabbitMQConfig.REVIEW_ROUTING_KEY),
+            any(Object.class), captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,128 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.diff.DiffModel;
+import com.codereview.assistant.diff.UnifiedDiffParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ReviewMetrics 테스트")
+class ReviewMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ReviewMetrics reviewMetrics = new ReviewMetrics(meterRegistry, true);
+
+    @Test
+    @DisplayName("모든 단계 타이머가 리뷰 종료 시점의 언어/모델 태그로 기록됨")
+    void finish_TagsStagesWithFinalLanguageAndModel() {
+        // Given
+        ReviewMetrics.Recording recording = reviewMetrics.start("github", "owner/repo");
+        try (ReviewMetrics.Stage stage = recording.stage(ReviewMetrics.STAGE_FETCH_DIFF)) {
+            recording.diff(diff());
+        }
+        recording.language("Java");
+        try (ReviewMetrics.Stage stage = recording.stage(ReviewMetrics.STAGE_LLM)) {
+            recording.model("gpt-4o-mini");
+        }
+        recording.result(1200, 3);
+
+        // When
+        recording.finish(ReviewMetrics.OUTCOME_COMPLETED);
+
+        // Then
+        assertThat(meterRegistry.get("review.stage")
+            .tag("stage", ReviewMetrics.STAGE_FETCH_DIFF)
+            .tag("provider", "github")
+            .tag("repository", "owner/repo")
+            .tag("language", "Java")
+            .tag("model", "gpt-4o-mini")
+            .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("review.stage").tag("stage", ReviewMetrics.STAGE_LLM).timer().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("review.duration").tag("outcome", "completed").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("review.diff.files").summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get("review.diff.lines").summary().totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.get("review.tokens").summary().totalAmount()).isEqualTo(1200);
+        assertThat(meterRegistry.get("review.comments").summary().totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("예외로 끝난 단계도 시간이 기록되고, finish는 한 번만 기록")
+    void stage_RecordsOnExceptionAndFinishIsIdempotent() {
+        // Given
+        ReviewMetrics.Recording recording = reviewMetrics.start("gitlab", "group/project");
+
+        // When
+        assertThatThrownBy(() -> {
+            try (ReviewMetrics.Stage stage = recording.stage(ReviewMetrics.STAGE_POST_REVIEW)) {
+                throw new IllegalStateException("boom");
+            }
+        }).isInstanceOf(IllegalStateException.class);
+        recording.finish(ReviewMetrics.OUTCOME_FAILED);
+        recording.finish(ReviewMetrics.OUTCOME_FAILED);
+
+        // Then
+        assertThat(meterRegistry.get("review.stage").tag("stage", ReviewMetrics.STAGE_POST_REVIEW)
+            .tag("model", "unknown").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("review.duration").tag("outcome", "failed").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("review.tokens").summary()).isNull();
+    }
+
+    @Test
+    @DisplayName("큐 대기 시간은 단계로 기록되고 이력 저장용 밀리초 값으로 조회됨")
+    void queueWait_RecordedAsStage() {
+        // Given
+        ReviewMetrics.Recording recording = reviewMetrics.start("github", "owner/repo");
+
+        // When
+        recording.queueWait(Duration.ofMillis(1500));
+        try (ReviewMetrics.Stage stage = recording.stage(ReviewMetrics.STAGE_FETCH_DIFF)) {
+            // no-op
+        }
+        recording.finish(ReviewMetrics.OUTCOME_COMPLETED);
+
+        // Then
+        assertThat(recording.stageMillis())
+            .containsEntry(ReviewMetrics.STAGE_QUEUE_WAIT, 1500)
+            .containsKey(ReviewMetrics.STAGE_FETCH_DIFF);
+        assertThat(meterRegistry.get("review.stage").tag("stage", ReviewMetrics.STAGE_QUEUE_WAIT)
+            .timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(1500);
+    }
+
+    @Test
+    @DisplayName("저장소 태그를 끄면 repository=all")
+    void start_RepositoryTagDisabled() {
+        // Given
+        ReviewMetrics metrics = new ReviewMetrics(meterRegistry, false);
+
+        // When
+        metrics.start("bitbucket", "ws/slug").finish(ReviewMetrics.OUTCOME_SKIPPED);
+
+        // Then
+        assertThat(meterRegistry.get("review.duration").tag("repository", "all").timer().count()).isEqualTo(1);
+    }
+
+    private DiffModel diff() {
+        return new UnifiedDiffParser().parse("""
+            diff --git a/A.java b/A.java
+            --- a/A.java
+            +++ b/A.java
+            @@ -1 +1 @@
+            -old
+            +new
+            diff --git a/B.java b/B.java
+            --- a/B.java
+            +++ b/B.java
+            @@ -1 +1,2 @@
+             keep
+            +added
+            """);
+    }
+}
@@ -0,0 +1,107 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.domain.PullRequest;
+import com.codereview.assistant.domain.Repository;
+import com.codereview.assistant.domain.Review;
+import com.codereview.assistant.repository.ReviewDailyRollupRepository;
+import com.codereview.assistant.repository.ReviewRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReviewRollupService 테스트")
+class ReviewRollupServiceTest {
+
+    @Mock
+    private ReviewDailyRollupRepository rollupRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @InjectMocks
+    private ReviewRollupService reviewRollupService;
+
+    @Test
+    @DisplayName("완료된 리뷰를 생성일/Repository 행에 더함")
+    void recordCompletedReview_IncrementsRollup() {
+        // Given
+        Review review = review();
+
+        // When
+        reviewRollupService.recordCompletedReview(review);
+
+        // Then
+        verify(rollupRepository).increment(LocalDate.of(2026, 3, 14), 7L, 5, 2, 1200L, 3400L);
+    }
+
+    @Test
+    @DisplayName("집계 갱신 실패는 리뷰 완료 흐름으로 전파되지 않음")
+    void recordCompletedReview_SwallowsFailure() {
+        // Given
+        when(rollupRepository.increment(any(), anyLong(), anyInt(), anyInt(), anyLong(), anyLong()))
+            .thenThrow(new IllegalStateException("db down"));
+
+        // When / Then
+        assertThatCode(() -> reviewRollupService.recordCompletedReview(review())).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("다시 계산할 때 기간 행을 지우고 [from, to+1일) 범위의 리뷰로 채움")
+    void rebuild_DeletesThenInsertsRange() {
+        // Given
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        LocalDate to = LocalDate.of(2026, 3, 3);
+        when(rollupRepository.tryRebuildLock(anyLong())).thenReturn(true);
+
+        // When
+        reviewRollupService.rebuild(from, to);
+
+        // Then
+        verify(rollupRepository).deleteByRollupDateBetween(from, to);
+        verify(rollupRepository).rebuildFromReviews(from.atStartOfDay(), LocalDate.of(2026, 3, 4).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 재계산 중이면 건너뜀")
+    void rebuild_SkipsWhenLockHeld() {
+        // Given
+        when(rollupRepository.tryRebuildLock(anyLong())).thenReturn(false);
+
+        // When
+        int rebuilt = reviewRollupService.rebuild(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 3));
+
+        // Then
+        assertThat(rebuilt).isEqualTo(-1);
+        verify(rollupRepository, never()).deleteByRollupDateBetween(any(), any());
+        verify(rollupRepository, never()).rebuildFromReviews(any(), any());
+    }
+
+    private Review review() {
+        Repository repository = Repository.builder().id(7L).owner("owner").name("repo").build();
+        PullRequest pullRequest = PullRequest.builder().id(3L).repository(repository).prNumber(1).build();
+        return Review.builder()
+            .id(11L)
+            .pullRequest(pullRequest)
+            .commitSha("abc123")
+            .reviewStatus("completed")
+            .totalComments(5)
+            .severityCounts(Map.of("info", 1, "warning", 2, "error", 2))
+            .tokensUsed(1200)
+            .processingTimeMs(3400)
+            .createdAt(LocalDateTime.of(2026, 3, 14, 23, 59))
+            .build();
+    }
+}
@@ -1,35 +1,105 @@
 package com.codereview.assistant.service;
 
+import com.codereview.assistant.diff.DiffModel;
+import com.codereview.assistant.diff.UnifiedDiffParser;
 import com.codereview.assistant.domain.Comment;
 import com.codereview.assistant.domain.PullRequest;
 import com.codereview.assistant.domain.Repository;
 import com.codereview.assistant.domain.Review;
+import com.codereview.assistant.dto.CodeReviewResult;
 import com.codereview.assistant.exception.ResourceNotFoundException;
+import com.codereview.assistant.repository.CommentRepository;
+import com.codereview.assistant.repository.PullRequestRepository;
 import com.codereview.assistant.repository.ReviewRepository;
+import com.codereview.assistant.repository.ReviewStageTimingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ReviewService 테스트")
 class ReviewServiceTest {
 
+    private static final String A_DIFF = """
+        diff --git a/A.java b/A.java
+        --- a/A.java
+        +++ b/A.java
+        @@ -1,1 +1,2 @@
+         class A {}
+        +// changed
+        """;
+
+    private static final String PR_DIFF = A_DIFF + """
+        diff --git a/B.java b/B.java
+        --- a/B.java
+        +++ b/B.java
+        @@ -1,1 +1,2 @@
+         class B {}
+        +// added
+        """;
+
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private CodeReviewService codeReviewService;
+
+    @Mock
+    private GitHubClientService gitHubClientService;
+
+    @Mock
+    private ReviewRuleService reviewRuleService;
+
+    @Mock
+    private PullRequestRepository pullRequestRepository;
+
+    @Mock
+    private ReviewCoalescingService reviewCoalescingService;
+
+    @Mock
+    private ModelRouter modelRouter;
+
+    @Spy
+    private ReviewMetrics reviewMetrics = new ReviewMetrics(new SimpleMeterRegistry(), false);
+
+    @Mock
+    private ReviewStageTimingRepository reviewStageTimingRepository;
+
+    @Mock
+    private ReviewRollupService reviewRollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final UnifiedDiffParser diffParser = new UnifiedDiffParser();
+
     @InjectMocks
     private ReviewService reviewService;
 
@@ -140,4 +210,211 @@ class ReviewServiceTest {
         verify(reviewRepository).findById(1L);
         verify(reviewRepository).save(any(Review.class));
     }
+
+    @Test
+    @DisplayName("증분 리뷰 - 이전 리뷰 이후 변경분만 리뷰하고 변경되지 않은 파일의 코멘트는 유지")
+    void performReview_IncrementalCarriesForwardUnchangedFiles() {
+        // Given
+        Review previous = previousReview();
+        DiffModel delta = diffParser.parse(A_DIFF);
+        givenPendingReview();
+        when(gitHubClientService.getCompareDiff("testowner", "testrepo", "sha-1", "sha-2", null))
+            .thenReturn(Optional.of(delta));
+        when(commentRepository.findByReviewId(previous.getId()))
+            .thenReturn(List.of(comment(previous, "A.java"), comment(previous, "B.java")));
+        when(reviewRuleService.getActiveRulesForRepository(1L)).thenReturn(List.of());
+        when(codeReviewService.analyzeCode(eq(delta), anyString(), anyString(), any())).thenReturn(result("A.java"));
+
+        // When
+        reviewService.performReview(testPullRequest, "sha-2");
+
+        // Then - B.java 코멘트는 그대로, A.java는 새 결과로 대체
+        verify(gitHubClientService, never()).getPullRequestDiff(anyString(), anyString(), anyInt(), any());
+        assertThat(savedCommentPaths()).containsExactlyInAnyOrder("B.java", "A.java");
+        verify(gitHubClientService).submitReview(eq("testowner"), eq("testrepo"), eq(1), eq("sha-2"),
+            anyString(), anyList(), isNull(), isNull());
+        assertThat(savedReview().getBaseCommitSha()).isEqualTo("sha-1");
+        assertThat(savedReview().getReviewStatus()).isEqualTo("completed");
+    }
+
+    @Test
+    @DisplayName("증분 리뷰 - 변경분이 없으면 LLM 호출 없이 이전 코멘트를 모두 유지")
+    void performReview_NoChangesCarriesForwardAllComments() {
+        // Given
+        Review previous = previousReview();
+        givenPendingReview();
+        when(gitHubClientService.getCompareDiff("testowner", "testrepo", "sha-1", "sha-2", null))
+            .thenReturn(Optional.of(DiffModel.empty()));
+        when(commentRepository.findByReviewId(previous.getId()))
+            .thenReturn(List.of(comment(previous, "A.java"), comment(previous, "B.java")));
+
+        // When
+        reviewService.performReview(testPullRequest, "sha-2");
+
+        // Then
+        verifyNoInteractions(codeReviewService);
+        verify(gitHubClientService, never()).submitReview(anyString(), anyString(), anyInt(), anyString(),
+            anyString(), anyList(), any(), any());
+        assertThat(savedCommentPaths()).containsExactlyInAnyOrder("A.java", "B.java");
+        assertThat(savedReview().getTotalComments()).isEqualTo(2);
+        assertThat(savedReview().getTokensUsed()).isZero();
+    }
+
+    @Test
+    @DisplayName("증분 diff를 쓸 수 없으면(강제 push, merge 커밋 등) PR 전체 diff로 리뷰")
+    void performReview_FallsBackToFullPullRequestDiff() {
+        // Given
+        previousReview();
+        DiffModel prDiff = diffParser.parse(PR_DIFF);
+        givenPendingReview();
+        when(gitHubClientService.getCompareDiff("testowner", "testrepo", "sha-1", "sha-2", null))
+            .thenReturn(Optional.empty());
+        when(gitHubClientService.getPullRequestDiff("testowner", "testrepo", 1, null)).thenReturn(prDiff);
+        when(reviewRuleService.getActiveRulesForRepository(1L)).thenReturn(List.of());
+        when(codeReviewService.analyzeCode(eq(prDiff), anyString(), anyString(), any())).thenReturn(result("B.java"));
+
+        // When
+        reviewService.performReview(testPullRequest, "sha-2");
+
+        // Then - 이전 코멘트를 가져오지 않고 PR 전체 diff 기준으로 게시
+        verify(commentRepository, never()).findByReviewId(any());
+        assertThat(savedCommentPaths()).containsExactly("B.java");
+        verify(gitHubClientService).submitReview(eq("testowner"), eq("testrepo"), eq(1), eq("sha-2"),
+            anyString(), anyList(), eq(prDiff), isNull());
+        assertThat(savedReview().getBaseCommitSha()).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 완료된 리뷰에 대한 중복 작업(재전달 등)은 다시 실행하지 않음")
+    void performReview_DropsDuplicateJob() {
+        // Given
+        Review completed = Review.builder()
+            .id(2L)
+            .pullRequest(testPullRequest)
+            .commitSha("sha-2")
+            .reviewStatus("completed")
+            .build();
+        when(reviewRepository.findByPullRequestIdAndCommitSha(1L, "sha-2")).thenReturn(Optional.of(completed));
+        when(reviewRepository.markInProgress(eq(2L), any(), any())).thenReturn(0);
+        when(reviewRepository.findStatusById(2L)).thenReturn(Optional.of("completed"));
+
+        // When
+        reviewService.performReview(testPullRequest, "sha-2");
+
+        // Then
+        verifyNoInteractions(codeReviewService, gitHubClientService, reviewRollupService);
+        verify(reviewRepository, never()).save(any(Review.class));
+        assertThat(completed.getReviewStatus()).isEqualTo("completed");
+    }
+
+    @Test
+    @DisplayName("스트리밍 후 superseded 되면 이미 저장한 코멘트를 지우고 게시하지 않음")
+    void performReview_DiscardsStreamedCommentsWhenSuperseded() {
+        // Given
+        givenPendingReview();
+        givenStreamedFinding();
+        when(reviewCoalescingService.isSuperseded(any(Review.class))).thenReturn(false, true);
+
+        // When
+        reviewService.performReview(testPullRequest, "sha-2");
+
+        // Then
+        verify(commentRepository).deleteByReviewId(2L);
+        verify(gitHubClientService, never()).submitReview(anyString(), anyString(), anyInt(), anyString(),
+            anyString(), anyList(), any(), any());
+        assertThat(savedReview().getReviewStatus()).isEqualTo("superseded");
+    }
+
+    @Test
+    @DisplayName("스트리밍 후 실패하면 이미 저장한 코멘트를 지우고 failed로 남김")
+    void performReview_DiscardsStreamedCommentsOnFailure() {
+        // Given
+        givenPendingReview();
+        givenStreamedFinding();
+        doThrow(new IllegalStateException("GitHub unavailable")).when(gitHubClientService)
+            .submitReview(anyString(), anyString(), anyInt(), anyString(), anyString(), anyList(), any(), any());
+
+        // When
+        reviewService.performReview(testPullRequest, "sha-2");
+
+        // Then
+        verify(commentRepository).deleteByReviewId(2L);
+        assertThat(savedReview().getReviewStatus()).isEqualTo("failed");
+    }
+
+    private void givenPendingReview() {
+        Review pending = Review.builder()
+            .id(2L)
+            .pullRequest(testPullRequest)
+            .commitSha("sha-2")
+            .reviewStatus("pending")
+            .build();
+        ReflectionTestUtils.setField(reviewService, "incrementalEnabled", true);
+        when(reviewRepository.findByPullRequestIdAndCommitSha(1L, "sha-2")).thenReturn(Optional.of(pending));
+        when(reviewRepository.markInProgress(eq(2L), any(), any())).thenReturn(1);
+        when(reviewRepository.save(any(Review.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private void givenStreamedFinding() {
+        DiffModel prDiff = diffParser.parse(A_DIFF);
+        when(gitHubClientService.getPullRequestDiff("testowner", "testrepo", 1, null)).thenReturn(prDiff);
+        when(reviewRuleService.getActiveRulesForRepository(1L)).thenReturn(List.of());
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(codeReviewService.analyzeCode(eq(prDiff), anyString(), anyString(), any())).thenAnswer(invocation -> {
+            CodeReviewResult streamed = result("A.java");
+            Consumer<CodeReviewResult.ReviewComment> listener = invocation.getArgument(3);
+            streamed.getComments().forEach(listener);
+            return streamed;
+        });
+    }
+
+    private Review previousReview() {
+        Review previous = Review.builder()
+            .id(1L)
+            .pullRequest(testPullRequest)
+            .commitSha("sha-1")
+            .reviewStatus("completed")
+            .build();
+        when(reviewRepository.findFirstByPullRequestIdAndReviewStatusOrderByCreatedAtDesc(1L, "completed"))
+            .thenReturn(Optional.of(previous));
+        return previous;
+    }
+
+    private Comment comment(Review review, String filePath) {
+        return Comment.builder()
+            .review(review)
+            .filePath(filePath)
+            .lineNumber(1)
+            .severity("warning")
+            .category("style")
+            .message("message for " + filePath)
+            .build();
+    }
+
+    private CodeReviewResult result(String filePath) {
+        return CodeReviewResult.builder()
+            .comments(List.of(CodeReviewResult.ReviewComment.builder()
+                .filePath(filePath)
+                .lineNumber(2)
+                .severity("info")
+                .category("style")
+                .message("new finding")
+                .build()))
+            .summary("summary")
+            .tokensUsed(100)
+            .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> savedCommentPaths() {
+        ArgumentCaptor<List<Comment>> captor = ArgumentCaptor.forClass(List.class);
+        verify(commentRepository).saveAll(captor.capture());
+        return captor.getValue().stream().map(Comment::getFilePath).toList();
+    }
+
+    private Review savedReview() {
+        ArgumentCaptor<Review> captor = ArgumentCaptor.forClass(Review.class);
+        verify(reviewRepository, atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
 }
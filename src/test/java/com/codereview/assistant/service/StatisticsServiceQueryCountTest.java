@@ -0,0 +1,177 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.domain.Comment;
+import com.codereview.assistant.domain.PullRequest;
+import com.codereview.assistant.domain.Repository;
+import com.codereview.assistant.domain.Review;
+import com.codereview.assistant.domain.ReviewDailyRollup;
+import com.codereview.assistant.dto.ReviewSummaryDto;
+import com.codereview.assistant.repository.ReviewRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대시보드 조회가 데이터 양과 관계없이 일정한 수의 SQL만 실행하는지 확인
+ *
+ * 마이그레이션은 PostgreSQL 전용이므로 H2에 엔티티 기준으로 스키마를 만들고,
+ * Hibernate 통계의 prepared statement 수로 쿼리 수를 셉니다.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(StatisticsService.class)
+@DisplayName("StatisticsService 쿼리 수 테스트")
+class StatisticsServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    private Statistics statistics;
+
+    private int repositorySeq;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("최근 리뷰 목록은 리뷰 수와 관계없이 쿼리 1번")
+    void getRecentReviews_ConstantQueryCount() {
+        // Given
+        seed(2, 2);
+        long small = countStatements(() -> assertThat(statisticsService.getRecentReviews(50)).hasSize(4));
+        seed(5, 4);
+
+        // When
+        long large = countStatements(() -> {
+            List<ReviewSummaryDto> reviews = statisticsService.getRecentReviews(50);
+            assertThat(reviews).hasSize(24);
+            assertThat(reviews).allSatisfy(review -> assertThat(review.getRepositoryOwner()).isEqualTo("owner"));
+        });
+
+        // Then
+        assertThat(small).isEqualTo(1);
+        assertThat(large).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Repository별 통계는 Repository 수와 관계없이 쿼리 2번")
+    void getRepositoryStatistics_ConstantQueryCount() {
+        // Given
+        seed(1, 3);
+        long small = countStatements(() -> assertThat(statisticsService.getRepositoryStatistics()).hasSize(1));
+        seed(6, 3);
+
+        // When
+        long large = countStatements(() -> assertThat(statisticsService.getRepositoryStatistics()).hasSize(7));
+
+        // Then
+        assertThat(small).isEqualTo(2);
+        assertThat(large).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("리뷰 상세는 PR, Repository, 코멘트를 쿼리 1번으로 조회")
+    void findDetailById_SingleQuery() {
+        // Given
+        Long reviewId = seed(1, 1).get(0).getId();
+
+        // When
+        long statements = countStatements(() -> {
+            Review review = reviewRepository.findDetailById(reviewId).orElseThrow();
+            assertThat(review.getPullRequest().getRepository().getName()).startsWith("repo");
+            assertThat(review.getComments()).hasSize(2);
+        });
+
+        // Then
+        assertThat(statements).isEqualTo(1);
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Repository마다 PR 하나에 리뷰(코멘트 2개)를 reviewsPerRepository개씩 만들고 일별 집계도 한 행씩 넣습니다
+     */
+    private List<Review> seed(int repositories, int reviewsPerRepository) {
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < repositories; i++) {
+            int seq = ++repositorySeq;
+            Repository repository = entityManager.persist(Repository.builder()
+                .githubId((long) seq)
+                .owner("owner")
+                .name("repo" + seq)
+                .build());
+            PullRequest pullRequest = entityManager.persist(PullRequest.builder()
+                .repository(repository)
+                .prNumber(seq)
+                .title("PR " + seq)
+                .author("author")
+                .build());
+            for (int j = 0; j < reviewsPerRepository; j++) {
+                Review review = Review.builder()
+                    .pullRequest(pullRequest)
+                    .commitSha(String.format("%040d", seq * 100 + j))
+                    .reviewStatus("completed")
+                    .totalComments(2)
+                    .build();
+                review.getComments().add(comment(review, "info"));
+                review.getComments().add(comment(review, "warning"));
+                reviews.add(entityManager.persist(review));
+            }
+            entityManager.persist(ReviewDailyRollup.builder()
+                .rollupDate(LocalDate.now())
+                .repositoryId(repository.getId())
+                .reviewCount(reviewsPerRepository)
+                .commentCount(reviewsPerRepository * 2)
+                .errorCount(0)
+                .tokensUsed(0L)
+                .processingTimeMsSum(0L)
+                .build());
+        }
+        return reviews;
+    }
+
+    private Comment comment(Review review, String severity) {
+        return Comment.builder()
+            .review(review)
+            .filePath("src/Main.java")
+            .lineNumber(1)
+            .severity(severity)
+            .category("style")
+            .message("message")
+            .build();
+    }
+}
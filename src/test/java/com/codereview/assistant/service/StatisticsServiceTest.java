@@ -6,11 +6,14 @@ import com.codereview.assistant.domain.Repository;
 import com.codereview.assistant.domain.Review;
 import com.codereview.assistant.dto.DashboardStatistics;
 import com.codereview.assistant.dto.ReviewSummaryDto;
+import com.codereview.assistant.dto.StageTimingStatsDto;
 import com.codereview.assistant.dto.TrendDataDto;
 import com.codereview.assistant.repository.CommentRepository;
 import com.codereview.assistant.repository.PullRequestRepository;
 import com.codereview.assistant.repository.RepositoryRepository;
+import com.codereview.assistant.repository.ReviewDailyRollupRepository;
 import com.codereview.assistant.repository.ReviewRepository;
+import com.codereview.assistant.repository.ReviewStageTimingRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,10 +21,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -45,6 +47,12 @@ class StatisticsServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private ReviewStageTimingRepository reviewStageTimingRepository;
+
+    @Mock
+    private ReviewDailyRollupRepository rollupRepository;
+
     @InjectMocks
     private StatisticsService statisticsService;
 
@@ -107,10 +115,16 @@ class StatisticsServiceTest {
         when(pullRequestRepository.count()).thenReturn(20L);
         when(reviewRepository.count()).thenReturn(30L);
         when(commentRepository.count()).thenReturn(100L);
-        when(reviewRepository.findByReviewStatus("completed"))
-            .thenReturn(List.of(testReview));
-        when(commentRepository.findAll()).thenReturn(List.of(testComment));
-        when(reviewRepository.findByCreatedAtAfter(any())).thenReturn(List.of(testReview));
+        ReviewRepository.ReviewAggregate aggregate = mock(ReviewRepository.ReviewAggregate.class);
+        when(aggregate.getAverageComments()).thenReturn(3.5);
+        when(aggregate.getAverageProcessingTimeMs()).thenReturn(4800.6);
+        when(aggregate.getTotalTokens()).thenReturn(50_000L);
+        when(reviewRepository.aggregateByStatus("completed")).thenReturn(aggregate);
+        List<CommentRepository.NamedCount> severityCounts = List.of(namedCount("warning", 7L));
+        List<CommentRepository.NamedCount> categoryCounts = List.of(namedCount("performance", 7L));
+        when(commentRepository.countBySeverity()).thenReturn(severityCounts);
+        when(commentRepository.countByCategory()).thenReturn(categoryCounts);
+        when(rollupRepository.sumReviewCountFrom(any())).thenReturn(1L);
         when(reviewRepository.findFirstByOrderByCreatedAtDesc())
             .thenReturn(Optional.of(testReview));
 
@@ -124,14 +138,31 @@ class StatisticsServiceTest {
         assertThat(result.getOverallStats().getTotalPullRequests()).isEqualTo(20L);
         assertThat(result.getOverallStats().getTotalReviews()).isEqualTo(30L);
         assertThat(result.getOverallStats().getTotalComments()).isEqualTo(100L);
-        assertThat(result.getSeverityDistribution()).containsKey("warning");
-        assertThat(result.getCategoryDistribution()).containsKey("performance");
+        assertThat(result.getOverallStats().getAverageCommentsPerReview()).isEqualTo(3.5);
+        assertThat(result.getOverallStats().getAverageProcessingTimeMs()).isEqualTo(4800);
+        assertThat(result.getOverallStats().getTotalTokensUsed()).isEqualTo(50_000);
+        assertThat(result.getOverallStats().getTotalPromptTokens()).isZero();
+        assertThat(result.getSeverityDistribution())
+            .containsEntry("warning", 7)
+            .containsEntry("error", 0);
+        assertThat(result.getCategoryDistribution()).containsEntry("performance", 7);
         assertThat(result.getRecentActivity()).isNotNull();
+        assertThat(result.getRecentActivity().getReviewsThisMonth()).isEqualTo(1);
 
         verify(repositoryRepository).count();
         verify(pullRequestRepository).count();
         verify(reviewRepository).count();
         verify(commentRepository).count();
+        // 전체 엔티티를 읽어 메모리에서 집계하지 않음
+        verify(commentRepository, never()).findAll();
+        verify(reviewRepository, never()).findByReviewStatus(any());
+    }
+
+    private CommentRepository.NamedCount namedCount(String name, long total) {
+        CommentRepository.NamedCount count = mock(CommentRepository.NamedCount.class);
+        when(count.getName()).thenReturn(name);
+        when(count.getTotal()).thenReturn(total);
+        return count;
     }
 
     @Test
@@ -139,8 +170,7 @@ class StatisticsServiceTest {
     void getRecentReviews_Success() {
         // Given
         int limit = 10;
-        Page<Review> reviewPage = new PageImpl<>(List.of(testReview));
-        when(reviewRepository.findAll(any(Pageable.class))).thenReturn(reviewPage);
+        when(reviewRepository.findRecentWithPullRequest(PageRequest.of(0, limit))).thenReturn(List.of(testReview));
 
         // When
         List<ReviewSummaryDto> result = statisticsService.getRecentReviews(limit);
@@ -152,7 +182,7 @@ class StatisticsServiceTest {
         assertThat(result.get(0).getRepositoryName()).isEqualTo("testrepo");
         assertThat(result.get(0).getPrNumber()).isEqualTo(1);
 
-        verify(reviewRepository).findAll(any(Pageable.class));
+        verify(reviewRepository).findRecentWithPullRequest(PageRequest.of(0, limit));
     }
 
     @Test
@@ -160,39 +190,84 @@ class StatisticsServiceTest {
     void getTrendData_Success() {
         // Given
         int days = 7;
-        when(reviewRepository.findByCreatedAtAfter(any())).thenReturn(List.of(testReview));
+        LocalDate today = LocalDate.now();
+        ReviewDailyRollupRepository.DailyTotals row = mock(ReviewDailyRollupRepository.DailyTotals.class);
+        when(row.getDate()).thenReturn(today.minusDays(1));
+        when(row.getReviews()).thenReturn(4L);
+        when(row.getComments()).thenReturn(12L);
+        when(row.getErrors()).thenReturn(2L);
+        when(rollupRepository.sumByDateFrom(today.minusDays(6))).thenReturn(List.of(row));
 
         // When
         TrendDataDto result = statisticsService.getTrendData(days);
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result.getDailyReviews()).isNotNull();
-        assertThat(result.getDailyComments()).isNotNull();
-        assertThat(result.getDailyIssues()).isNotNull();
+        assertThat(result.getDailyReviews()).hasSize(7);
+        assertThat(result.getDailyReviews().get(0).getDate()).isEqualTo(today.minusDays(6));
+        assertThat(result.getDailyReviews().get(5).getCount()).isEqualTo(4);
+        assertThat(result.getDailyReviews().get(6).getCount()).isZero();
+        assertThat(result.getDailyComments().get(5).getCount()).isEqualTo(12);
+        assertThat(result.getDailyIssues().get(5).getCount()).isEqualTo(2);
 
-        verify(reviewRepository).findByCreatedAtAfter(any());
+        // 리뷰 엔티티를 읽지 않고 일별 집계만 조회
+        verifyNoInteractions(reviewRepository);
     }
 
     @Test
     @DisplayName("Repository별 통계 조회 성공")
     void getRepositoryStatistics_Success() {
         // Given
-        when(repositoryRepository.findAll()).thenReturn(List.of(testRepository));
-        when(pullRequestRepository.findByRepositoryId(1L))
-            .thenReturn(List.of(testPullRequest));
-        when(reviewRepository.findByPullRequestId(1L))
-            .thenReturn(List.of(testReview));
+        Repository emptyRepository = Repository.builder().id(2L).owner("testowner").name("empty").build();
+        when(repositoryRepository.findAll()).thenReturn(List.of(testRepository, emptyRepository));
+        ReviewDailyRollupRepository.RepositoryTotals totals = mock(ReviewDailyRollupRepository.RepositoryTotals.class);
+        when(totals.getRepositoryId()).thenReturn(1L);
+        when(totals.getReviews()).thenReturn(4L);
+        when(totals.getComments()).thenReturn(10L);
+        when(rollupRepository.sumByRepository()).thenReturn(List.of(totals));
 
         // When
         Map<String, DashboardStatistics.OverallStats> result =
             statisticsService.getRepositoryStatistics();
 
         // Then
-        assertThat(result).isNotEmpty();
-        assertThat(result).containsKey("testowner/testrepo");
+        assertThat(result).containsKeys("testowner/testrepo", "testowner/empty");
+        assertThat(result.get("testowner/testrepo").getTotalReviews()).isEqualTo(4L);
+        assertThat(result.get("testowner/testrepo").getAverageCommentsPerReview()).isEqualTo(2.5);
+        assertThat(result.get("testowner/empty").getTotalReviews()).isZero();
 
         verify(repositoryRepository).findAll();
-        verify(pullRequestRepository).findByRepositoryId(1L);
+        verifyNoInteractions(pullRequestRepository);
+    }
+
+    @Test
+    @DisplayName("Repository별 단계 처리 시간 백분위수 조회 - 밀리초로 반올림")
+    void getRepositoryStageTimingStatistics_Success() {
+        // Given
+        ReviewStageTimingRepository.RepositoryStagePercentiles row =
+            mock(ReviewStageTimingRepository.RepositoryStagePercentiles.class);
+        when(row.getRepository()).thenReturn("testowner/testrepo");
+        when(row.getStage()).thenReturn("llm");
+        when(row.getCount()).thenReturn(12L);
+        when(row.getP50()).thenReturn(1520.4);
+        when(row.getP90()).thenReturn(3100.5);
+        when(row.getP95()).thenReturn(4200.0);
+        when(row.getP99()).thenReturn(null);
+        when(row.getMax()).thenReturn(5000);
+        when(reviewStageTimingRepository.findRepositoryStagePercentiles(any())).thenReturn(List.of(row));
+
+        // When
+        List<StageTimingStatsDto> result = statisticsService.getRepositoryStageTimingStatistics(7);
+
+        // Then
+        assertThat(result).hasSize(1);
+        StageTimingStatsDto stats = result.get(0);
+        assertThat(stats.getRepository()).isEqualTo("testowner/testrepo");
+        assertThat(stats.getStage()).isEqualTo("llm");
+        assertThat(stats.getCount()).isEqualTo(12L);
+        assertThat(stats.getP50Ms()).isEqualTo(1520L);
+        assertThat(stats.getP90Ms()).isEqualTo(3101L);
+        assertThat(stats.getP99Ms()).isNull();
+        assertThat(stats.getMaxMs()).isEqualTo(5000L);
     }
 }
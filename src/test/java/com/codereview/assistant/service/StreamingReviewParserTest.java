@@ -0,0 +1,64 @@
+package com.codereview.assistant.service;
+
+import com.codereview.assistant.dto.CodeReviewResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StreamingReviewParser 테스트")
+class StreamingReviewParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("comments 원소가 닫히는 즉시 코멘트를 전달")
+    void feed_EmitsCommentsAsSoonAsTheyClose() throws Exception {
+        // Given
+        List<CodeReviewResult.ReviewComment> emitted = new ArrayList<>();
+        StreamingReviewParser parser = new StreamingReviewParser(objectMapper, emitted::add);
+
+        // When - 첫 번째 코멘트가 닫힐 때까지
+        parser.feed("```json\n{\"summary\": \"요약\", \"comments\": [{\"filePath\": \"App.java\", ");
+        parser.feed("\"lineNumber\": 3, \"severity\": \"warning\", \"category\": \"bug\", \"message\": \"널 체크 누락\"}");
+
+        // Then
+        assertThat(emitted).hasSize(1);
+        assertThat(emitted.get(0).getFilePath()).isEqualTo("App.java");
+        assertThat(emitted.get(0).getLineNumber()).isEqualTo(3);
+        assertThat(parser.isComplete()).isFalse();
+
+        // When - 나머지 응답
+        parser.feed(", {\"filePath\": \"Util.java\", \"severity\": \"info\", \"category\": \"style\", ");
+        parser.feed("\"message\": \"이름 변경\", \"extra\": {\"nested\": [1, 2]}}]}\n```");
+
+        // Then
+        assertThat(emitted).extracting(CodeReviewResult.ReviewComment::getFilePath)
+            .containsExactly("App.java", "Util.java");
+        assertThat(parser.isComplete()).isTrue();
+        assertThat(parser.getSummary()).isEqualTo("요약");
+        assertThat(parser.getContent()).startsWith("```json").endsWith("```");
+    }
+
+    @Test
+    @DisplayName("필수 필드가 없는 코멘트는 건너뜀")
+    void feed_SkipsInvalidComments() throws Exception {
+        // Given
+        List<CodeReviewResult.ReviewComment> emitted = new ArrayList<>();
+        StreamingReviewParser parser = new StreamingReviewParser(objectMapper, emitted::add);
+
+        // When
+        parser.feed("{\"comments\": [{\"filePath\": \"A.java\"}, "
+            + "{\"filePath\": \"B.java\", \"severity\": \"error\", \"category\": \"security\", \"message\": \"m\"}], "
+            + "\"summary\": \"끝\"}");
+
+        // Then
+        assertThat(emitted).extracting(CodeReviewResult.ReviewComment::getFilePath).containsExactly("B.java");
+        assertThat(parser.getSummary()).isEqualTo("끝");
+        assertThat(parser.isComplete()).isTrue();
+    }
+}